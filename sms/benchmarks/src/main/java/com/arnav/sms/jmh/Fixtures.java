@@ -0,0 +1,51 @@
+package com.arnav.sms.jmh;
+
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.Enrollment;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.entity.Student;
+
+import java.time.LocalDate;
+
+// Detached entities with every field set, shaped like real rows
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Student student(long id) {
+        Student student = new Student();
+        student.setId(id);
+        student.setFirstName("Student" + id);
+        student.setLastName("Kumar");
+        student.setEmail("student" + id + "@example.com");
+        student.setPhone(String.format("98%08d", id % 100_000_000));
+        student.setDateOfBirth(LocalDate.of(2000 + (int) (id % 6), 1 + (int) (id % 12), 1 + (int) (id % 28)));
+        student.setAddress(id + " MG Road, Pune");
+        student.setEnrollmentDate(LocalDate.of(2024, 7, 1));
+        return student;
+    }
+
+    static Course course(long id) {
+        Course course = new Course();
+        course.setId(id);
+        course.setCourseName("Course " + id);
+        course.setCourseCode("CS" + id);
+        course.setCredits(4);
+        course.setInstructor("Dr. Instructor " + (id % 50));
+        course.setDescription("Description of course " + id + ", covering the core topics of the subject");
+        course.setCapacity(60);
+        return course;
+    }
+
+    static Enrollment enrollment(long id, Student student, Course course) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setId(id);
+        enrollment.setStudent(student);
+        enrollment.setCourse(course);
+        enrollment.setEnrollmentDate(LocalDate.of(2024, 8, 1));
+        enrollment.setGrade(id % 3 == 0 ? "A" : null);
+        enrollment.setStatus(EnrollmentStatus.ACTIVE);
+        return enrollment;
+    }
+}
@@ -0,0 +1,63 @@
+package com.arnav.sms.jmh;
+
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.dto.response.EnrollmentResponseDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.Enrollment;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.mapper.CourseMapper;
+import com.arnav.sms.mapper.EnrollmentMapper;
+import com.arnav.sms.mapper.StudentMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Entity -> response DTO mapping, one entity per call
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final StudentMapper studentMapper = new StudentMapper();
+    private final CourseMapper courseMapper = new CourseMapper();
+    private final EnrollmentMapper enrollmentMapper = new EnrollmentMapper();
+
+    private Student student;
+    private Course course;
+    private Enrollment enrollment;
+
+    @Setup
+    public void setUp() {
+        student = Fixtures.student(1);
+        course = Fixtures.course(1);
+        enrollment = Fixtures.enrollment(1, student, course);
+    }
+
+    @Benchmark
+    public StudentResponseDTO studentToResponseDTO() {
+        return studentMapper.toResponseDTO(student);
+    }
+
+    @Benchmark
+    public CourseResponseDTO courseToResponseDTO() {
+        return courseMapper.toCourseResponseDTO(course);
+    }
+
+    @Benchmark
+    public EnrollmentResponseDTO enrollmentToResponseDTO() {
+        return enrollmentMapper.toEnrollmentResponseDTO(enrollment);
+    }
+}
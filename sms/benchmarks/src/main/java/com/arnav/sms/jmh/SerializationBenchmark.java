@@ -0,0 +1,138 @@
+package com.arnav.sms.jmh;
+
+import com.arnav.sms.dto.api.ApiResponse;
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.dto.response.EnrollmentResponseDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.mapper.CourseMapper;
+import com.arnav.sms.mapper.EnrollmentMapper;
+import com.arnav.sms.mapper.StudentMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ApiResponse<List<...>> -> JSON bytes with the app's own ObjectMapper (same modules / features as the controllers).
+// enrollments* variants: default (dev, pretty) vs compact vs NDJSON rows vs compact without Blackbird (reflection)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private ObjectWriter compactWriter;
+    private ObjectWriter ndjsonWriter;
+    private ObjectWriter reflectionWriter;
+
+    private ApiResponse<List<StudentResponseDTO>> students;
+    private ApiResponse<List<CourseResponseDTO>> courses;
+    private ApiResponse<List<EnrollmentResponseDTO>> enrollments;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start("serialization");
+        objectMapper = context.getBean(ObjectMapper.class);
+        compactWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        ndjsonWriter = compactWriter.withRootValueSeparator("\n");
+        // same output as compactWriter, but plain reflection accessors
+        reflectionWriter = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build()
+                .writer();
+
+        StudentMapper studentMapper = new StudentMapper();
+        CourseMapper courseMapper = new CourseMapper();
+        EnrollmentMapper enrollmentMapper = new EnrollmentMapper();
+
+        List<StudentResponseDTO> studentList = new ArrayList<>(size);
+        List<CourseResponseDTO> courseList = new ArrayList<>(size);
+        List<EnrollmentResponseDTO> enrollmentList = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            Student student = Fixtures.student(i);
+            Course course = Fixtures.course(i);
+            studentList.add(studentMapper.toResponseDTO(student));
+            courseList.add(courseMapper.toCourseResponseDTO(course));
+            enrollmentList.add(enrollmentMapper.toEnrollmentResponseDTO(Fixtures.enrollment(i, student, course)));
+        }
+
+        students = ApiResponse.success(String.format("Students retrieved successfully. Total: %d", size), studentList);
+        courses = ApiResponse.success(String.format("Courses retrieved successfully. Total: %d", size), courseList);
+        enrollments = ApiResponse.success(String.format("Enrollments retrieved successfully. Total: %d", size), enrollmentList);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] students() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public byte[] courses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(courses);
+    }
+
+    @Benchmark
+    public byte[] enrollments() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(enrollments);
+    }
+
+    @Benchmark
+    public byte[] enrollmentsCompact() throws JsonProcessingException {
+        return compactWriter.writeValueAsBytes(enrollments);
+    }
+
+    @Benchmark
+    public byte[] enrollmentsCompactReflection() throws JsonProcessingException {
+        return reflectionWriter.writeValueAsBytes(enrollments);
+    }
+
+    // what NdjsonListHttpMessageConverter writes: rows only, one per line
+    @Benchmark
+    public byte[] enrollmentsNdjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SequenceWriter sequenceWriter = ndjsonWriter.writeValues(out)) {
+            sequenceWriter.writeAll(enrollments.getData());
+        }
+        out.write('\n');
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,156 @@
+package com.arnav.sms.jmh;
+
+import com.arnav.sms.dto.api.CursorPage;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.dto.response.DashboardSummaryDTO;
+import com.arnav.sms.dto.response.EnrollmentResponseDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.repository.CourseRepository;
+import com.arnav.sms.repository.StudentRepository;
+import com.arnav.sms.service.CourseService;
+import com.arnav.sms.service.DashboardService;
+import com.arnav.sms.service.EnrollmentService;
+import com.arnav.sms.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths of the services against embedded H2 (MySQL mode), with the app's caches in place.
+ * H2 in memory has no network or disk, so the numbers are the app-side cost (JPA, mapping, caches)
+ * of each call, not what MySQL would add on top
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    private static final int STUDENTS = 2_000;
+    private static final int COURSES = 200;
+    private static final int ENROLLMENTS_PER_STUDENT = 5;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private CourseService courseService;
+    private EnrollmentService enrollmentService;
+    private DashboardService dashboardService;
+
+    private long[] studentIds;
+    private long[] courseIds;
+    private String[] emails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApp.start("services");
+        studentService = context.getBean(StudentService.class);
+        courseService = context.getBean(CourseService.class);
+        enrollmentService = context.getBean(EnrollmentService.class);
+        dashboardService = context.getBean(DashboardService.class);
+
+        List<Student> students = new ArrayList<>(STUDENTS);
+        for (long i = 1; i <= STUDENTS; i++) {
+            Student student = Fixtures.student(i);
+            student.setId(0);
+            students.add(student);
+        }
+        students = context.getBean(StudentRepository.class).saveAll(students);
+
+        List<Course> courses = new ArrayList<>(COURSES);
+        for (long i = 1; i <= COURSES; i++) {
+            Course course = Fixtures.course(i);
+            course.setId(null);
+            // no capacity: seat allocation is benchmarked by SeatAllocationLoadTest
+            course.setCapacity(null);
+            courses.add(course);
+        }
+        courses = context.getBean(CourseRepository.class).saveAll(courses);
+
+        studentIds = students.stream().mapToLong(Student::getId).toArray();
+        courseIds = courses.stream().mapToLong(Course::getId).toArray();
+        emails = students.stream().map(Student::getEmail).toArray(String[]::new);
+
+        List<EnrollmentRequestDTO> requests = new ArrayList<>();
+        for (int s = 0; s < studentIds.length; s++) {
+            for (int e = 0; e < ENROLLMENTS_PER_STUDENT; e++) {
+                requests.add(new EnrollmentRequestDTO(studentIds[s], courseIds[(s + e * 37) % courseIds.length]));
+            }
+            if (requests.size() >= 1_000) {
+                enrollmentService.bulkEnroll(requests);
+                requests.clear();
+            }
+        }
+        if (!requests.isEmpty()) {
+            enrollmentService.bulkEnroll(requests);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public StudentResponseDTO getStudentById() {
+        return studentService.getStudentById(studentIds[random(studentIds.length)]);
+    }
+
+    @Benchmark
+    public StudentResponseDTO getStudentByEmail() {
+        return studentService.getStudentByEmail(emails[random(emails.length)]);
+    }
+
+    @Benchmark
+    public CourseResponseDTO getCourseById() {
+        return courseService.getCourseById(courseIds[random(courseIds.length)]);
+    }
+
+    @Benchmark
+    public CursorPage<CourseResponseDTO> getCoursesPage() {
+        return courseService.getCoursesPage(null, 20);
+    }
+
+    @Benchmark
+    public List<EnrollmentResponseDTO> getEnrollmentsByStudent() {
+        return enrollmentService.getEnrollmentsByStudent(studentIds[random(studentIds.length)]);
+    }
+
+    @Benchmark
+    public List<EnrollmentResponseDTO> getEnrollmentsByCourse() {
+        return enrollmentService.getEnrollmentsByCourse(courseIds[random(courseIds.length)]);
+    }
+
+    @Benchmark
+    public List<StudentResponseDTO> searchStudents() {
+        return studentService.searchStudents("student12", 10);
+    }
+
+    @Benchmark
+    public DashboardSummaryDTO getDashboardSummary() {
+        return dashboardService.getSummary(5);
+    }
+
+    private static int random(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+}
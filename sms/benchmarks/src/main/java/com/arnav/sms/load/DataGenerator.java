@@ -0,0 +1,156 @@
+package com.arnav.sms.load;
+
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.response.BulkEnrollmentResultDTO;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.repository.CourseRepository;
+import com.arnav.sms.repository.StudentRepository;
+import com.arnav.sms.service.EnrollmentService;
+import com.arnav.sms.service.SeatAllocationService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads students, courses and enrollments. The same seed always produces the same data.
+ *
+ * Course popularity is Zipf-skewed (load.skew): a handful of courses get most enrollments, like a real
+ * catalogue. Enrollments go through EnrollmentService.bulkEnroll, so counters, seat stripes and waitlists
+ * come out exactly as if students had enrolled via the API
+ *
+ * Standalone: mvn -f benchmarks/pom.xml package exec:exec@generate -Dload.args="--load.students=100000
+ *   --spring.datasource.url=jdbc:mysql://localhost:3306/student_management_db"
+ */
+public final class DataGenerator {
+
+    private static final int CHUNK = 1_000;
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Vivaan", "Aditya", "Vihaan", "Arjun", "Sai", "Reyansh",
+            "Ishaan", "Krishna", "Rohan", "Ananya", "Diya", "Aadhya", "Saanvi", "Pari", "Anika", "Riya", "Meera",
+            "Kavya", "Isha", "Neha", "Pooja", "Rahul", "Karan", "Priya"};
+    private static final String[] LAST_NAMES = {"Sharma", "Verma", "Gupta", "Patel", "Singh", "Kumar", "Reddy",
+            "Iyer", "Nair", "Das", "Joshi", "Mehta", "Shah", "Rao", "Kapoor", "Malhotra", "Chopra", "Bose"};
+    private static final String[] SUBJECTS = {"Data Structures", "Operating Systems", "Databases", "Networks",
+            "Algorithms", "Compilers", "Machine Learning", "Linear Algebra", "Statistics", "Economics",
+            "Physics", "Chemistry", "Digital Logic", "Software Engineering", "Cloud Computing", "Security"};
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = LocalApp.start(args, WebApplicationType.NONE)) {
+            generate(context, LoadSettings.from(context.getEnvironment()));
+        }
+    }
+
+    static GeneratedData generate(ApplicationContext context, LoadSettings settings) {
+        long start = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        TransactionTemplate tx = context.getBean(TransactionTemplate.class);
+
+        long[] courseIds = insertCourses(context, tx, settings, random);
+        long[] studentIds = insertStudents(context, settings, random);
+
+        ZipfSampler popularity = new ZipfSampler(courseIds.length, settings.skew());
+        List<Long> enrollmentIds = insertEnrollments(context, settings, random, studentIds, courseIds, popularity);
+
+        System.out.printf("Generated %,d students, %,d courses, %,d enrollments in %,d ms (seed %d, skew %.2f: "
+                        + "top 10 courses get %.0f%% of enrollments)%n",
+                studentIds.length, courseIds.length, enrollmentIds.size(), System.currentTimeMillis() - start,
+                settings.seed(), settings.skew(), popularity.headShare(10) * 100);
+        return new GeneratedData(studentIds, courseIds,
+                enrollmentIds.stream().mapToLong(Long::longValue).toArray(), popularity);
+    }
+
+    private static long[] insertCourses(ApplicationContext context, TransactionTemplate tx,
+                                        LoadSettings settings, SplittableRandom random) {
+        CourseRepository courseRepository = context.getBean(CourseRepository.class);
+        SeatAllocationService seatAllocationService = context.getBean(SeatAllocationService.class);
+
+        List<Course> courses = new ArrayList<>(settings.courses());
+        for (int i = 0; i < settings.courses(); i++) {
+            String subject = SUBJECTS[random.nextInt(SUBJECTS.length)];
+            Course course = new Course();
+            course.setCourseName(subject + " " + (i / SUBJECTS.length + 1));
+            course.setCourseCode(String.format("LD%05d", i));
+            course.setCredits(2 + random.nextInt(4));
+            course.setInstructor("Dr. " + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            course.setDescription("Introduction to " + subject.toLowerCase());
+            course.setCapacity(settings.capacity() > 0 ? settings.capacity() : null);
+            courses.add(course);
+        }
+        // seat stripes are created with the course, same as CourseService.createCourse
+        List<Course> saved = tx.execute(status -> {
+            List<Course> result = courseRepository.saveAll(courses);
+            result.forEach(course -> seatAllocationService.capacityChanged(course, null));
+            return result;
+        });
+        return saved.stream().mapToLong(Course::getId).toArray();
+    }
+
+    private static long[] insertStudents(ApplicationContext context, LoadSettings settings, SplittableRandom random) {
+        StudentRepository studentRepository = context.getBean(StudentRepository.class);
+        long[] ids = new long[settings.students()];
+        List<Student> chunk = new ArrayList<>(CHUNK);
+        int done = 0;
+        for (int i = 0; i < settings.students(); i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            Student student = new Student();
+            student.setFirstName(firstName);
+            student.setLastName(lastName);
+            student.setEmail(firstName.toLowerCase() + "." + lastName.toLowerCase() + i + "@load.example.com");
+            student.setPhone(String.format("9%09d", random.nextInt(1_000_000_000)));
+            student.setDateOfBirth(LocalDate.of(1998 + random.nextInt(8), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            student.setAddress((1 + random.nextInt(500)) + " Ring Road, Pune");
+            student.setEnrollmentDate(LocalDate.of(2024, 7, 1).plusDays(random.nextInt(60)));
+            chunk.add(student);
+            if (chunk.size() == CHUNK || i == settings.students() - 1) {
+                for (Student saved : studentRepository.saveAll(chunk)) {
+                    ids[done++] = saved.getId();
+                }
+                chunk.clear();
+            }
+        }
+        return ids;
+    }
+
+    private static List<Long> insertEnrollments(ApplicationContext context, LoadSettings settings,
+                                                SplittableRandom random, long[] studentIds, long[] courseIds,
+                                                ZipfSampler popularity) {
+        EnrollmentService enrollmentService = context.getBean(EnrollmentService.class);
+        List<Long> enrollmentIds = new ArrayList<>();
+        List<EnrollmentRequestDTO> chunk = new ArrayList<>(CHUNK);
+        int maxPerStudent = Math.min(courseIds.length, Math.max(1, 2 * settings.enrollmentsPerStudent() - 1));
+
+        for (int s = 0; s < studentIds.length; s++) {
+            // 1 .. 2 * avg - 1 courses, so the mean is load.enrollments-per-student
+            int count = 1 + random.nextInt(maxPerStudent);
+            Set<Integer> picked = new HashSet<>();
+            for (int attempt = 0; picked.size() < count && attempt < count * 20; attempt++) {
+                picked.add(popularity.next(random));
+            }
+            for (int course : picked) {
+                chunk.add(new EnrollmentRequestDTO(studentIds[s], courseIds[course]));
+            }
+            if (chunk.size() >= CHUNK || s == studentIds.length - 1) {
+                for (BulkEnrollmentResultDTO result : enrollmentService.bulkEnroll(chunk)) {
+                    if (result.isSuccess()) {
+                        enrollmentIds.add(result.getEnrollmentId());
+                    }
+                }
+                chunk.clear();
+            }
+        }
+        return enrollmentIds;
+    }
+
+    record GeneratedData(long[] studentIds, long[] courseIds, long[] enrollmentIds, ZipfSampler popularity) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.arnav.sms.load;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Knobs of the data generator and load driver, read from the app environment,
+ * so they are passed like any other Boot property: --load.students=50000
+ */
+record LoadSettings(
+        long seed,
+        int students,
+        int courses,
+        int enrollmentsPerStudent,
+        double skew,
+        int capacity,
+        int clients,
+        Duration warmup,
+        Duration duration,
+        String result) {
+
+    static LoadSettings from(Environment env) {
+        return new LoadSettings(
+                env.getProperty("load.seed", Long.class, 42L),
+                env.getProperty("load.students", Integer.class, 10_000),
+                env.getProperty("load.courses", Integer.class, 500),
+                env.getProperty("load.enrollments-per-student", Integer.class, 4),
+                env.getProperty("load.skew", Double.class, 1.1),
+                // 0 = courses without a seat limit; > 0 = popular courses fill up and waitlist
+                env.getProperty("load.capacity", Integer.class, 0),
+                env.getProperty("load.clients", Integer.class, 100),
+                env.getProperty("load.warmup", Duration.class, Duration.ofSeconds(10)),
+                env.getProperty("load.duration", Duration.class, Duration.ofSeconds(30)),
+                env.getProperty("load.result", "target/load-result.json"));
+    }
+}
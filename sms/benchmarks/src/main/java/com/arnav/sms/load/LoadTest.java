@@ -0,0 +1,242 @@
+package com.arnav.sms.load;
+
+import com.arnav.sms.dto.api.CursorPage;
+import com.arnav.sms.load.DataGenerator.GeneratedData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+/**
+ * End-to-end load driver: starts the app, generates data (DataGenerator), then N concurrent clients
+ * run a weighted mix of REST calls - list, search, enroll, grade update - for a fixed time.
+ * Reports throughput and latency percentiles per endpoint, on stdout and as JSON (load.result)
+ *
+ * mvn -f benchmarks/pom.xml package exec:exec@load -Dload.args="--load.clients=200 --load.duration=60s"
+ */
+public final class LoadTest {
+
+    private static final String[] SEARCH_TERMS = {"aarav", "sharma", "riya", "patel", "kumar", "neha", "iyer",
+            "singh", "meera", "rao", "sharm", "kavya"};
+    private static final String[] GRADES = {"A+", "A", "B+", "B", "C+", "C", "D", "F"};
+
+    private final String baseUrl;
+    private final GeneratedData data;
+    private final List<Scenario> scenarios;
+    private final int totalWeight;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = LocalApp.start(args, WebApplicationType.SERVLET)) {
+            LoadSettings settings = LoadSettings.from(context.getEnvironment());
+            GeneratedData data = DataGenerator.generate(context, settings);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            LoadTest loadTest = new LoadTest("http://localhost:" + port, data);
+            System.out.printf("Warming up for %s with %d clients%n", settings.warmup(), settings.clients());
+            loadTest.run(settings, settings.warmup(), settings.seed() + 1);
+
+            System.out.printf("Measuring for %s with %d clients%n", settings.duration(), settings.clients());
+            Map<String, EndpointStats> stats = loadTest.run(settings, settings.duration(), settings.seed() + 2);
+            report(settings, stats);
+        }
+    }
+
+    private LoadTest(String baseUrl, GeneratedData data) {
+        this.baseUrl = baseUrl;
+        this.data = data;
+        this.scenarios = List.of(
+                new Scenario("GET /api/students/page", 25, (random, ids) -> get(
+                        "/api/students/page?limit=20&after=" + CursorPage.encodeCursor(pick(random, ids.studentIds()) - 1))),
+                new Scenario("GET /api/courses/page", 15, (random, ids) -> get(
+                        "/api/courses/page?limit=20&after=" + CursorPage.encodeCursor(pick(random, ids.courseIds()) - 1))),
+                new Scenario("GET /api/enrollments/course/{id}", 10, (random, ids) -> get(
+                        "/api/enrollments/course/" + ids.courseIds()[ids.popularity().next(random)])),
+                new Scenario("GET /api/students/search", 20, (random, ids) -> get(
+                        "/api/students/search?limit=20&name=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)])),
+                new Scenario("GET /api/courses/suggest", 10, (random, ids) -> get(
+                        "/api/courses/suggest?q=" + (random.nextBoolean() ? "data" : "LD0" + random.nextInt(10)))),
+                // popular courses are picked more often, so duplicates (409) and waitlisting happen like in real traffic
+                new Scenario("POST /api/enrollments", 10, (random, ids) -> request("/api/enrollments")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(String.format("{\"studentId\":%d,\"courseId\":%d}",
+                                pick(random, ids.studentIds()), ids.courseIds()[ids.popularity().next(random)])))
+                        .build()),
+                new Scenario("PATCH /api/enrollments/{id}/grade", 10, (random, ids) -> request(
+                        "/api/enrollments/" + pick(random, ids.enrollmentIds())
+                                + "/grade?grade=" + GRADES[random.nextInt(GRADES.length)].replace("+", "%2B"))
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                        .build()));
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+    }
+
+    private Map<String, EndpointStats> run(LoadSettings settings, Duration duration, long seed) throws Exception {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        scenarios.forEach(scenario -> stats.put(scenario.name(), new EndpointStats()));
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < settings.clients(); c++) {
+                SplittableRandom random = new SplittableRandom(seed * 31 + c);
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        Scenario scenario = pickScenario(random);
+                        HttpRequest request = scenario.request().apply(random, data);
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (IOException ex) {
+                            status = -1;
+                        }
+                        stats.get(scenario.name()).record(System.nanoTime() - start, status);
+                    }
+                    return null;
+                });
+            }
+        }
+        stats.values().forEach(endpoint -> endpoint.finish(duration));
+        return stats;
+    }
+
+    private Scenario pickScenario(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            roll -= scenario.weight();
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60));
+    }
+
+    private static long pick(SplittableRandom random, long[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private static void report(LoadSettings settings, Map<String, EndpointStats> stats) throws IOException {
+        System.out.printf("%nLoad test: %d clients, %s, %,d students / %,d courses, skew %.2f%n",
+                settings.clients(), settings.duration(), settings.students(), settings.courses(), settings.skew());
+        System.out.printf("  %-36s %9s %9s %9s %9s %9s %9s %7s %7s%n",
+                "endpoint", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "4xx", "errors");
+        stats.forEach((name, endpoint) -> System.out.printf(
+                "  %-36s %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d %7d%n",
+                name, endpoint.getThroughput(), endpoint.getP50(), endpoint.getP90(), endpoint.getP99(),
+                endpoint.getP999(), endpoint.getMax(), endpoint.getClientErrors(), endpoint.getErrors()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("settings", settings);
+        result.put("endpoints", stats);
+        File file = new File(settings.result());
+        file.getAbsoluteFile().getParentFile().mkdirs();
+        new ObjectMapper().findAndRegisterModules().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file, result);
+        System.out.printf("Result saved to %s%n", file.getAbsolutePath());
+    }
+
+    private record Scenario(String name, int weight, BiFunction<SplittableRandom, GeneratedData, HttpRequest> request) {
+    }
+
+    /**
+     * Latencies of one endpoint (nanoseconds, kept raw and sorted at the end for exact percentiles).
+     * 2xx = ok, 4xx = rejected by the app (e.g. duplicate enrollment 409), 5xx / 503 / IO failure = error
+     */
+    static final class EndpointStats {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long clientErrors;
+        private long errors;
+        private double throughput;
+
+        synchronized void record(long nanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (status >= 400 && status < 500) {
+                clientErrors++;
+            } else if (status < 200 || status >= 500) {
+                errors++;
+            }
+        }
+
+        synchronized void finish(Duration duration) {
+            Arrays.sort(latencies, 0, count);
+            throughput = count / (duration.toNanos() / 1e9);
+        }
+
+        public synchronized long getRequests() {
+            return count;
+        }
+
+        public synchronized double getThroughput() {
+            return throughput;
+        }
+
+        public synchronized long getClientErrors() {
+            return clientErrors;
+        }
+
+        public synchronized long getErrors() {
+            return errors;
+        }
+
+        public double getP50() {
+            return percentile(0.50);
+        }
+
+        public double getP90() {
+            return percentile(0.90);
+        }
+
+        public double getP99() {
+            return percentile(0.99);
+        }
+
+        public double getP999() {
+            return percentile(0.999);
+        }
+
+        public double getMax() {
+            return percentile(1.0);
+        }
+
+        // milliseconds
+        private synchronized double percentile(double p) {
+            if (count == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(count - 1, Math.ceil(p * count) - 1);
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
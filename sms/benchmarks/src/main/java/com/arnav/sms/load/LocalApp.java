@@ -0,0 +1,61 @@
+package com.arnav.sms.load;
+
+import com.arnav.sms.SmsApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Starts the app for the load tools. Without --spring.datasource.url it runs on an in-memory H2
+ * database in MySQL mode (nothing to install); pass a MySQL url to generate / test against a real server
+ */
+final class LocalApp {
+
+    private LocalApp() {
+    }
+
+    static ConfigurableApplicationContext start(String[] args, WebApplicationType webApplicationType) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        // per-request logging would dominate the timings
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.arnav.sms", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        properties.put("logging.level.org.springframework.web", "WARN");
+        properties.put("logging.file.name", "target/load.log");
+
+        Map<String, String> overrides = parse(args);
+        if (!overrides.containsKey("spring.datasource.url")) {
+            properties.put("spring.datasource.url", "jdbc:h2:mem:load;DB_CLOSE_DELAY=-1;MODE=MySQL");
+            properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+            properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        }
+        // a repeated --key makes Boot join the values with commas, so later values replace earlier ones here
+        properties.putAll(overrides);
+
+        return new SpringApplicationBuilder(SmsApplication.class)
+                .web(webApplicationType)
+                .run(properties.entrySet().stream()
+                        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                        .toArray(String[]::new));
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> parsed = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            parsed.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,35 @@
+package com.arnav.sms.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Picks index i (0 = most popular) with probability proportional to 1 / (i + 1)^skew.
+ * skew 0 = uniform, ~1 = typical "few courses everybody wants" catalogue, higher = sharper head
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int size, double skew) {
+        cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    int next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    // share of all picks that land on the first n indexes
+    double headShare(int n) {
+        return n <= 0 ? 0 : cumulative[Math.min(n, cumulative.length) - 1];
+    }
+}
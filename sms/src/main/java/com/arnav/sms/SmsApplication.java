@@ -2,8 +2,11 @@ package com.arnav.sms;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// R2DBC is only used by the optional reactive read stack (ReactiveReadConfig builds its own pool).
+// Boot's auto-configured ConnectionFactory would make the JDBC DataSource (and so JPA) back off
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class SmsApplication {
 
 	public static void main(String[] args) {
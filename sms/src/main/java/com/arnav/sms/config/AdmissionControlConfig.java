@@ -0,0 +1,58 @@
+package com.arnav.sms.config;
+
+import com.arnav.sms.filter.AdmissionControlFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Admission Control Configuration
+ *
+ * WHY: virtual threads pe har request ka apna thread hai - 2000 clients = 2000 threads, sab Hikari ke
+ * 10 connections ke liye fight karenge aur connection-timeout pe fail honge. Semaphore se sirf utne
+ * requests andar jaate hain jitne connections hain, baaki app mein line mein wait karte hain
+ * WHEN: app.admission.enabled=true (default: virtual threads on hone pe)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.admission.enabled", havingValue = "true")
+@Slf4j
+public class AdmissionControlConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            DataSource dataSource, ObjectMapper objectMapper,
+            @Value("${app.admission.max-concurrent:0}") int maxConcurrent,
+            @Value("${app.admission.wait-timeout:5s}") Duration waitTimeout) {
+
+        int permits = maxConcurrent > 0 ? maxConcurrent : permitsFromPool(dataSource);
+        log.info("Admission control: {} concurrent API requests, wait up to {}", permits, waitTimeout);
+
+        FilterRegistrationBean<AdmissionControlFilter> registration =
+                new FilterRegistrationBean<>(new AdmissionControlFilter(permits, waitTimeout, objectMapper));
+        // sirf API - static files / UI DB use nahi karte
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    // Pool size - 1: pooled table ids fetch their next block on a separate connection,
+    // which must stay free or every admitted insert ends up waiting for it
+    private static int permitsFromPool(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return Math.max(1, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize() - 1);
+            }
+        } catch (SQLException ex) {
+            log.warn("Could not read the connection pool size: {}", ex.getMessage());
+        }
+        return 9;
+    }
+}
@@ -0,0 +1,16 @@
+package com.arnav.sms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Async Configuration
+ *
+ * WHY: background kaam (e.g. startup pe search index build) request / startup thread ko block na kare
+ * WHEN: @Async methods Spring ke applicationTaskExecutor pe chalte hain - spring.threads.virtual.enabled=true
+ * hone pe wo virtual threads hain, warna bounded platform thread pool
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
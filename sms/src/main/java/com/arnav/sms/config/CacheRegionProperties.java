@@ -0,0 +1,37 @@
+package com.arnav.sms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size and TTL per second-level cache region (app.cache.regions.<region>.*)
+ * and per Spring lookup cache (app.cache.lookups.<cache>.*)
+ *
+ * WHY: har region ka data alag rate se badalta hai - courses almost never,
+ * enrollments often - isliye ek global setting kaafi nahi
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheRegionProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    private Map<String, Region> lookups = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+
+        // Entries beyond this are evicted (Caffeine's size-based policy)
+        private long maxEntries = 1000;
+
+        // Expire after write; null = never expire (timestamps region must not)
+        private Duration ttl;
+
+        // Lookup caches only: how long a "not found" is remembered
+        private Duration negativeTtl = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,58 @@
+package com.arnav.sms.config;
+
+import com.arnav.sms.entity.EnrollmentStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Enrollment Status Column Initializer
+ *
+ * WHY: MySQL pe Hibernate enrollments.status ko native ENUM('ACTIVE', ...) column banata hai, aur
+ * ddl-auto=update existing column ko kabhi alter nahi karta. Naya status (jaise WAITLISTED) add hone pe
+ * purane databases mein insert fail hoga - isliye startup pe ENUM ko EnrollmentStatus ke saath sync karo
+ * WHEN: EntityManagerFactory (aur schema update) ke baad, sirf MySQL pe
+ */
+@Configuration
+@Slf4j
+public class EnrollmentStatusColumnInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory sirf ordering ke liye inject hai (schema pehle ban jaye)
+    public EnrollmentStatusColumnInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void syncStatusColumn() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(database)) {
+            return;
+        }
+
+        List<String> columnTypes = jdbcTemplate.queryForList(
+                "SELECT COLUMN_TYPE FROM information_schema.COLUMNS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'enrollments' AND COLUMN_NAME = 'status'",
+                String.class);
+        if (columnTypes.isEmpty() || !columnTypes.get(0).startsWith("enum")) {
+            return;
+        }
+
+        String wanted = Arrays.stream(EnrollmentStatus.values())
+                .map(status -> "'" + status.name() + "'")
+                .collect(Collectors.joining(",", "enum(", ")"));
+        if (!wanted.equalsIgnoreCase(columnTypes.get(0))) {
+            jdbcTemplate.execute("ALTER TABLE enrollments MODIFY COLUMN status " + wanted + " NOT NULL");
+            log.info("enrollments.status changed from {} to {}", columnTypes.get(0), wanted);
+        }
+    }
+}
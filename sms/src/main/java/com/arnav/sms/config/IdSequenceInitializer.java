@@ -0,0 +1,61 @@
+package com.arnav.sms.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ID Sequence Initializer
+ *
+ * WHY: Table-backed id generators (id_sequences table) start from 1, but tables
+ * that were filled with IDENTITY ids already have rows. Startup pe har sequence row ko
+ * MAX(id) + 1 tak aage badhao, warna naye ids purane rows se clash karenge
+ * WHEN: EntityManagerFactory (aur schema update) ke baad, pehle insert se pehle
+ */
+@Configuration
+@Slf4j
+public class IdSequenceInitializer {
+
+    // table name -> pkColumnValue used in @TableGenerator
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "student", "student",
+            "course", "course",
+            "enrollments", "enrollments"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory sirf ordering ke liye inject hai (schema pehle ban jaye)
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignSequences() {
+        SEQUENCES.forEach(this::alignSequence);
+    }
+
+    private void alignSequence(String table, String sequenceName) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long nextVal = (maxId == null ? 0 : maxId) + 1;
+
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT next_val FROM id_sequences WHERE sequence_name = ?", Long.class, sequenceName);
+
+        if (current.isEmpty()) {
+            jdbcTemplate.update(
+                    "INSERT INTO id_sequences (sequence_name, next_val) VALUES (?, ?)", sequenceName, nextVal);
+            log.info("Id sequence '{}' initialised at {}", sequenceName, nextVal);
+        } else if (current.get(0) < nextVal) {
+            jdbcTemplate.update(
+                    "UPDATE id_sequences SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                    nextVal, sequenceName, nextVal);
+            log.info("Id sequence '{}' moved from {} to {}", sequenceName, current.get(0), nextVal);
+        }
+    }
+}
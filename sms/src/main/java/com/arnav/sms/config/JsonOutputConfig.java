@@ -0,0 +1,51 @@
+package com.arnav.sms.config;
+
+import com.arnav.sms.converter.NdjsonListHttpMessageConverter;
+import com.arnav.sms.converter.NegotiatedJsonHttpMessageConverter;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * JSON Output Configuration
+ *
+ * WHY: har response pretty print hota tha (indent_output=true) - list endpoints pe ~25% bytes
+ * sirf spaces / newlines, aur unhe likhne ka CPU. Ab:
+ *  - layout: default property se (dev pretty, prod profile compact), request ?pretty=true|false se badal sakta hai
+ *  - Blackbird: DTO getters reflection ke bajaye generated lambdas se call hote hain (Boot har Module bean
+ *    ObjectMapper mein register karta hai - export, admission filter, reactive stack sab ko milta hai)
+ *  - Accept: application/x-ndjson -> list endpoints ek row per line, bina ApiResponse envelope ke
+ * WHEN: hamesha on
+ */
+@Configuration
+public class JsonOutputConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonOutputConfig(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // static: ObjectMapper banne ke liye module chahiye, aur ye config khud ObjectMapper inject karta hai
+    @Bean
+    public static Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // Boot ka JSON converter usi position pe NegotiatedJsonHttpMessageConverter se replace (same ObjectMapper),
+    // NDJSON list ke end mein: sirf tab jab client explicitly maange
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new NegotiatedJsonHttpMessageConverter(objectMapper)
+                : converter);
+        converters.add(new NdjsonListHttpMessageConverter(objectMapper));
+    }
+}
@@ -0,0 +1,63 @@
+package com.arnav.sms.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Lookup Cache Configuration (Spring Cache + Caffeine)
+ *
+ * WHY: course-by-code aur student-by-email har request pe MySQL jate the (getByCourseCode to 2 queries).
+ * Caffeine = bounded W-TinyLFU store: size limit pe kam use hone wali entries pehle nikalti hain
+ * WHEN: CourseService / StudentService inhe read-through use karte hain aur apne
+ * create / update / delete paths mein khud invalidate karte hain
+ *
+ * A miss is stored as NullValue with a short TTL (negative caching), so repeated probes for codes
+ * or emails that do not exist stop reaching the database
+ */
+@Configuration
+@EnableCaching
+@Slf4j
+public class LookupCacheConfig {
+
+    public static final String COURSE_BY_CODE = "courseByCode";
+    public static final String STUDENT_BY_EMAIL = "studentByEmail";
+    // Computed per student (TranscriptService), evicted by the grade / status / course write paths
+    public static final String TRANSCRIPT = "transcript";
+    // Not a lookup, but same store: the dashboard summary, recomputed once its ttl is over
+    public static final String DASHBOARD_SUMMARY = "dashboardSummary";
+
+    @Bean
+    public CacheManager cacheManager(CacheRegionProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(true);
+        // static mode: only the caches registered below - a typo in a cache name should fail,
+        // not silently create an unbounded cache (setCacheNames would also replace custom caches, so empty here)
+        cacheManager.setCacheNames(List.of());
+
+        properties.getLookups().forEach((name, spec) -> {
+            cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                    .maximumSize(spec.getMaxEntries())
+                    .expireAfter(Expiry.writing((Object key, Object value) ->
+                            value == NullValue.INSTANCE ? spec.getNegativeTtl() : ttlOf(spec)))
+                    .recordStats()
+                    .build());
+            log.info("Lookup cache '{}': max {} entries, ttl {}, negative ttl {}", name,
+                    spec.getMaxEntries(), ttlOf(spec), spec.getNegativeTtl());
+        });
+        return cacheManager;
+    }
+
+    private static Duration ttlOf(CacheRegionProperties.Region spec) {
+        return spec.getTtl() == null ? Duration.ofHours(1) : spec.getTtl();
+    }
+}
@@ -0,0 +1,43 @@
+package com.arnav.sms.config;
+
+import com.arnav.sms.filter.SqlStatementMetricsFilter;
+import com.arnav.sms.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics Configuration (Micrometer -> /actuator/prometheus)
+ *
+ * WHY: log timestamps se pata nahi chalta kaunsa method / query slow hai. Ab timers milte hain:
+ *  - sms.service                      -> Student / Course / EnrollmentService ka har public method (@Timed)
+ *  - spring.data.repository.invocations -> har repository query (Boot auto)
+ *  - hikaricp.connections.acquire     -> pool se connection milne ka wait (Boot auto)
+ *  - http.server.requests             -> har endpoint (Boot auto)
+ *  - sms.http.sql.statements          -> ek request mein kitne SQL chale (N+1 pakadne ke liye)
+ * WHEN: hamesha on. Histogram buckets (SLOs) application.properties mein - sirf kuch fixed buckets,
+ * full percentile histograms nahi (har timer pe ~70 series ban jaate)
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Hibernate har SQL prepare karne se pehle inspector call karta hai - wahin count (aur sampled log) hota hai
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(
+            @Value("${app.logging.sql-sample-every:0}") int sqlSampleEvery) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter(sqlSampleEvery));
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementMetricsFilter> sqlStatementMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementMetricsFilter(meterRegistry));
+        // sirf API - static files / actuator DB use nahi karte
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,76 @@
+package com.arnav.sms.config;
+
+import com.arnav.sms.reactive.ReactiveReadRepository;
+import com.arnav.sms.reactive.ReactiveReadRoutes;
+import com.arnav.sms.reactive.ReactiveReadServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import java.time.Duration;
+
+/**
+ * Reactive Read Stack Configuration
+ *
+ * WHY: MVC mein har open request ek thread + ek JDBC connection pakad ke rakhta hai - slow clients
+ * (mobile, bade lists) thread pool khatam kar dete hain. Yahan GET endpoints Netty event loop pe
+ * R2DBC se chalte hain: rows client ki speed se stream hoti hain (backpressure), threads nahi badhte
+ * WHEN: app.reactive.enabled=true. Writes hamesha MVC (port 8080) pe hi rehte hain
+ *
+ * ConnectionFactory ko bean nahi banaya - warna Boot JDBC DataSource (aur JPA) skip kar deta hai
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.reactive.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    @Bean
+    public ReactiveReadRepository reactiveReadRepository(
+            @Value("${app.reactive.url}") String url,
+            @Value("${app.reactive.username}") String username,
+            @Value("${app.reactive.password}") String password,
+            @Value("${app.reactive.pool-max-size:10}") int poolMaxSize) {
+
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .initialSize(1)
+                .maxSize(poolMaxSize)
+                .maxIdleTime(Duration.ofMinutes(10))
+                .build());
+        return new ReactiveReadRepository(pool);
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(ReactiveReadRepository reactiveReadRepository,
+                                                 ObjectMapper objectMapper,
+                                                 @Value("${app.reactive.port:8081}") int port) {
+        // same date / naming settings as MVC, but no pretty print: streamed lists are one object per chunk
+        ObjectMapper compact = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(compact));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(compact));
+                })
+                .build();
+
+        return new ReactiveReadServer(
+                RouterFunctions.toHttpHandler(new ReactiveReadRoutes(reactiveReadRepository).routes(), strategies),
+                port);
+    }
+}
@@ -0,0 +1,15 @@
+package com.arnav.sms.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ *
+ * WHY: background jobs (e.g. enrollment counter reconciliation) ke liye @Scheduled enable karo
+ * WHEN: cron expressions application.properties mein hain (app.*-cron)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,68 @@
+package com.arnav.sms.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate Second-Level Cache Configuration
+ *
+ * WHY: Course/Student rows bahut kam badalte hain, phir bhi har findById MySQL tak jata tha.
+ * Hibernate JCache API ke through cache karta hai; provider (Caffeine, in-process) sirf yahan hai,
+ * koi aur JCache provider lagana ho to bas ye bean badlo
+ * WHEN: EntityManagerFactory banne se pehle - Hibernate ko yahi CacheManager diya jata hai
+ *
+ * Regions are created up front from CacheRegionProperties so every region is size-bounded.
+ * Note: writes that bypass Hibernate (plain JDBC) are not seen by the cache, only the region TTL bounds them
+ */
+@Configuration
+@EnableConfigurationProperties(CacheRegionProperties.class)
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager jcacheManager(CacheRegionProperties properties) {
+        // own URI per application context: the provider's default manager is one per JVM, so two contexts
+        // (e.g. test contexts on different databases) would share Course#1 from different rows, and closing
+        // one context would close the cache under the other
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("sms-l2:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+
+        properties.getRegions().forEach((region, spec) -> {
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, regionConfiguration(spec));
+            }
+            log.info("Cache region '{}': max {} entries, ttl {}", region, spec.getMaxEntries(),
+                    spec.getTtl() == null ? "none" : spec.getTtl());
+        });
+        return cacheManager;
+    }
+
+    // Hand the configured CacheManager to Hibernate instead of letting it create its own
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager jcacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, jcacheManager);
+    }
+
+    private CaffeineConfiguration<Object, Object> regionConfiguration(CacheRegionProperties.Region spec) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(spec.getMaxEntries()));
+        if (spec.getTtl() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(spec.getTtl().toNanos()));
+        }
+        return configuration;
+    }
+}
@@ -0,0 +1,114 @@
+package com.arnav.sms.config;
+
+import com.arnav.sms.filter.SqlMonitorFilter;
+import com.arnav.sms.metrics.SqlRequestStats;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Per-request SQL Monitor (datasource-proxy + servlet filter)
+ *
+ * WHY: sms.http.sql.statements (MetricsConfig) sirf Hibernate ke statements ginta hai aur aggregate
+ * metric hai - "kaunsi request" nahi batata. Ye monitor JDBC level pe har request ke statements,
+ * total JDBC time aur rows read naapta hai, limit cross hone pe exact request log karta hai,
+ * aur dev mein X-SQL-Stats header bhejta hai (SqlStatsResponseHeaderAdvice)
+ * WHEN: app.sql-monitor.enabled=true. Default off - tab DataSource wrap hi nahi hota, Hikari
+ * seedha use hota hai, cost zero. On hone pe har JDBC call ek proxy se guzarti hai
+ *
+ * Proxy Hikari ke upar lagta hai (pool ke andar nahi), unwrap(HikariDataSource.class) chalta rehta hai -
+ * admission control aur hikaricp metrics pool size wahi se padhte hain
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-monitor.enabled", havingValue = "true")
+@EnableConfigurationProperties(SqlMonitorProperties.class)
+@Slf4j
+public class SqlMonitorConfig {
+
+    private static final int MAX_LOGGED_SQL = 500;
+
+    // static: BeanPostProcessor ko baaki config se pehle banna padta hai
+    @Bean
+    public static BeanPostProcessor sqlMonitorDataSourceProxy(ObjectProvider<SqlMonitorProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return wrap(dataSource, beanName, properties.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlMonitorFilter> sqlMonitorFilter(SqlMonitorProperties properties) {
+        FilterRegistrationBean<SqlMonitorFilter> registration =
+                new FilterRegistrationBean<>(new SqlMonitorFilter(properties));
+        // sirf API - static files / actuator DB use nahi karte
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    private static DataSource wrap(DataSource dataSource, String name, SqlMonitorProperties properties) {
+        long slowQueryMillis = properties.getSlowQuery().toMillis();
+        log.info("SQL monitor on for '{}': limits statements={}, jdbc-time={}, rows={}, slow query={}",
+                name, properties.getMaxStatements(), properties.getMaxJdbcTime(), properties.getMaxRows(),
+                properties.getSlowQuery());
+
+        return ProxyDataSourceBuilder.create(name, dataSource)
+                .beforeQuery((execInfo, queries) -> {
+                    SqlRequestStats stats = SqlRequestStats.current();
+                    if (stats != null) {
+                        stats.statementStarted();
+                    }
+                })
+                .afterQuery((execInfo, queries) -> {
+                    SqlRequestStats stats = SqlRequestStats.current();
+                    if (stats != null) {
+                        stats.statementFinished();
+                    }
+                    if (execInfo.getElapsedTime() >= slowQueryMillis) {
+                        logSlowQuery(execInfo, queries);
+                    }
+                })
+                // rows = ResultSet.next() calls that returned true (needs the ResultSet proxy)
+                .proxyResultSet()
+                .afterMethod(SqlMonitorConfig::countRow)
+                .build();
+    }
+
+    private static void countRow(MethodExecutionContext context) {
+        if (context.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(context.getResult())
+                && "next".equals(context.getMethod().getName())) {
+            SqlRequestStats stats = SqlRequestStats.current();
+            if (stats != null) {
+                stats.rowRead();
+            }
+        }
+    }
+
+    private static void logSlowQuery(ExecutionInfo execInfo, List<QueryInfo> queries) {
+        String sql = queries.isEmpty() ? "" : queries.get(0).getQuery();
+        if (sql.length() > MAX_LOGGED_SQL) {
+            sql = sql.substring(0, MAX_LOGGED_SQL) + "...";
+        }
+        log.warn("Slow SQL: {} ms{} - {}", execInfo.getElapsedTime(),
+                execInfo.isBatch() ? " (batch of " + execInfo.getBatchSize() + ")" : "", sql);
+    }
+}
@@ -0,0 +1,32 @@
+package com.arnav.sms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Thresholds for the per-request SQL monitor (app.sql-monitor.*), see SqlMonitorConfig.
+ * Koi bhi limit cross hui to us request ki ek WARN line log hoti hai
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sql-monitor")
+public class SqlMonitorProperties {
+
+    private boolean enabled;
+
+    // Statements per request - zyada matlab N+1 ya loop mein query
+    private int maxStatements = 50;
+
+    // Total JDBC time per request (sab statements ka execute time jod ke)
+    private Duration maxJdbcTime = Duration.ofMillis(500);
+
+    // Rows read per request - bina limit wali list / export jaisa kuch
+    private long maxRows = 10_000;
+
+    // Ek single statement isse slow ho to turant log (SQL ke saath), request ho ya scheduled job
+    private Duration slowQuery = Duration.ofMillis(200);
+
+    // X-SQL-Stats response header - sirf dev mein, prod mein internals bahar nahi bhejne
+    private boolean responseHeader;
+}
@@ -0,0 +1,57 @@
+package com.arnav.sms.controller;
+
+import com.arnav.sms.dto.api.ApiResponse;
+import com.arnav.sms.dto.response.CacheRegionStatsDTO;
+import com.arnav.sms.service.CacheStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@Slf4j
+@CrossOrigin(origins = "*")
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    public CacheController(CacheStatsService cacheStatsService) {
+        this.cacheStatsService = cacheStatsService;
+    }
+
+    /**
+     * Second-level cache statistics per region (for sizing max-entries / ttl)
+     * @return Hit, miss and put counts with current size of every region
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<List<CacheRegionStatsDTO>>> getCacheStats() {
+
+        log.info("REST request to get second-level cache statistics");
+
+        List<CacheRegionStatsDTO> response = cacheStatsService.getRegionStats();
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Cache regions: %d", response.size()),
+                        response));
+    }
+
+    /**
+     * Lookup cache statistics (course-by-code, student-by-email)
+     * @return Hit, miss and load counts with current size of every lookup cache
+     */
+    @GetMapping("/lookups")
+    public ResponseEntity<ApiResponse<List<CacheRegionStatsDTO>>> getLookupCacheStats() {
+
+        log.info("REST request to get lookup cache statistics");
+
+        List<CacheRegionStatsDTO> response = cacheStatsService.getLookupStats();
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Lookup caches: %d", response.size()),
+                        response));
+    }
+}
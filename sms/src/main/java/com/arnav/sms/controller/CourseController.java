@@ -1,17 +1,28 @@
 package com.arnav.sms.controller;
 
 import com.arnav.sms.dto.api.ApiResponse;
+import com.arnav.sms.dto.api.CursorPage;
 import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.response.CatalogueSyncResultDTO;
 import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.dto.response.CourseSeatsDTO;
+import com.arnav.sms.logging.HotPathLog;
 import com.arnav.sms.service.CourseService;
+import com.arnav.sms.service.ExportService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,9 +33,15 @@ import java.util.List;
 @Validated
 public class CourseController {
 
+    // per-request lines: DEBUG, level-guarded (off in prod)
+    private static final HotPathLog hotLog = HotPathLog.of(CourseController.class);
+
     @Autowired
     private CourseService courseService;
 
+    @Autowired
+    private ExportService exportService;
+
     public CourseController(CourseService courseService) {
         this.courseService = courseService;
     }
@@ -39,7 +56,7 @@ public class CourseController {
     public ResponseEntity<ApiResponse<CourseResponseDTO>> createCourse(
             @Valid @RequestBody CourseRequestDTO requestDTO) {
 
-        log.info("REST request to create course: {}", requestDTO.getCourseCode());
+        hotLog.debug("REST request to create course: {}", requestDTO.getCourseCode());
 
         CourseResponseDTO response = courseService.createCourse(requestDTO);
 
@@ -59,7 +76,7 @@ public class CourseController {
     public ResponseEntity<ApiResponse<CourseResponseDTO>> getCourseById(
             @PathVariable Long id) {
 
-        log.info("REST request to get course by ID: {}", id);
+        hotLog.debug("REST request to get course by ID: {}", id);
 
         CourseResponseDTO response = courseService.getCourseById(id);
 
@@ -74,13 +91,31 @@ public class CourseController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<CourseResponseDTO>>> getAllCourses() {
 
-        log.info("REST request to get all courses");
+        hotLog.debug("REST request to get all courses");
         List<CourseResponseDTO> response = courseService.getAllCourses();
         return ResponseEntity.ok(
                 ApiResponse.success(String.format("Courses retrieved successfully. Total: %d", response.size()),
                         response));
     }
 
+    /**
+     * Get courses page by page (keyset pagination on id)
+     * @param after Opaque cursor from the previous page (omit for the first page)
+     * @param limit Page size (max 200)
+     * @return Courses page with the next cursor
+     */
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<CourseResponseDTO>>> getCoursesPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+
+        hotLog.debug("REST request to get courses page after: {}", after);
+        CursorPage<CourseResponseDTO> response = courseService.getCoursesPage(after, limit);
+        return ResponseEntity.ok(
+                ApiResponse.success(String.format("Courses page retrieved successfully. Count: %d", response.getSize()),
+                        response));
+    }
+
     /**
      * Update course details
      * @param id Course ID
@@ -93,7 +128,7 @@ public class CourseController {
             @PathVariable Long id,
             @Valid @RequestBody CourseRequestDTO requestDTO) {
 
-        log.info("REST request to update course with ID: {}", id);
+        hotLog.debug("REST request to update course with ID: {}", id);
 
         CourseResponseDTO response = courseService.updateCourse(id, requestDTO);
 
@@ -101,6 +136,32 @@ public class CourseController {
                 ApiResponse.success("Course updated successfully", response));
     }
 
+    /**
+     * Replace the course catalogue (term rollover): only the differences are written, in one transaction
+     * @param requestDTOs Full desired catalogue, keyed by course code (max 5000)
+     * @param deleteMissing Delete courses not in the list (with their enrollments)
+     * @return Inserted / updated / unchanged / deleted counts
+     */
+
+    @PutMapping("/catalogue")
+    public ResponseEntity<ApiResponse<CatalogueSyncResultDTO>> syncCatalogue(
+            @RequestBody @NotEmpty(message = "Catalogue cannot be empty")
+            @Size(max = 5000, message = "Catalogue cannot have more than 5000 courses")
+            List<@Valid CourseRequestDTO> requestDTOs,
+            @RequestParam(defaultValue = "true") boolean deleteMissing) {
+
+        hotLog.debug("REST request to sync catalogue of {} courses", requestDTOs.size());
+
+        CatalogueSyncResultDTO response = courseService.syncCatalogue(requestDTOs, deleteMissing);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Catalogue synced. Inserted: %d, Updated: %d, Unchanged: %d, Deleted: %d",
+                                response.getInserted(), response.getUpdated(), response.getUnchanged(),
+                                response.getDeleted()),
+                        response));
+    }
+
     /**
      * Delete course
      * @param id Course ID
@@ -110,7 +171,7 @@ public class CourseController {
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteCourse(@PathVariable Long id) {
 
-        log.info("REST request to delete course with ID: {}", id);
+        hotLog.debug("REST request to delete course with ID: {}", id);
 
         courseService.deleteCourse(id);
 
@@ -127,7 +188,7 @@ public class CourseController {
     public ResponseEntity<ApiResponse<List<CourseResponseDTO>>> searchCourses(
             @RequestParam @NotBlank(message = "Search name cannot be blank") String name) {
 
-        log.info("REST request to search courses with name: {}", name);
+        hotLog.debug("REST request to search courses with name: {}", name);
 
         List<CourseResponseDTO> response = courseService.getCourseByName(name);
 
@@ -137,6 +198,46 @@ public class CourseController {
                         response));
     }
 
+    /**
+     * Typeahead suggestions by course code, name, instructor or description (best match first)
+     * @param q Prefix typed so far
+     * @param limit Max suggestions (1-50)
+     * @return Matching courses
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<CourseResponseDTO>>> suggestCourses(
+            @RequestParam @NotBlank(message = "Query cannot be blank") String q,
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 50, message = "Limit cannot exceed 50") int limit) {
+
+        hotLog.debug("REST request to suggest courses for: {}", q);
+
+        List<CourseResponseDTO> response = courseService.suggestCourses(q, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Suggestions found: %d", response.size()),
+                        response));
+    }
+
+    /**
+     * Get seat state of a course (capacity, free seats, waitlist length)
+     * @param id Course ID
+     * @return Seats of the course
+     */
+    @GetMapping("/{id}/seats")
+    public ResponseEntity<ApiResponse<CourseSeatsDTO>> getCourseSeats(@PathVariable Long id) {
+
+        hotLog.debug("REST request to get seats of course ID: {}", id);
+
+        CourseSeatsDTO response = courseService.getCourseSeats(id);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Seats of course ID: %d", id),
+                        response));
+    }
+
     /**
      * Get course by course code
      * @param courseCode Course code (e.g., CS101)
@@ -147,7 +248,7 @@ public class CourseController {
     public ResponseEntity<ApiResponse<CourseResponseDTO>> getCourseByCourseCode(
             @PathVariable String courseCode) {
 
-        log.info("REST request to get course by code: {}", courseCode);
+        hotLog.debug("REST request to get course by code: {}", courseCode);
 
         CourseResponseDTO response = courseService.getByCourseCode(courseCode);
 
@@ -164,7 +265,7 @@ public class CourseController {
     public ResponseEntity<ApiResponse<List<CourseResponseDTO>>> getCoursesByInstructor(
             @PathVariable String instructor) {
 
-        log.info("REST request to get courses by instructor: {}", instructor);
+        hotLog.debug("REST request to get courses by instructor: {}", instructor);
 
         List<CourseResponseDTO> response = courseService.getCoursesByInstructor(instructor);
 
@@ -183,7 +284,7 @@ public class CourseController {
     public ResponseEntity<ApiResponse<List<CourseResponseDTO>>> getCoursesByCredits(
             @PathVariable Integer credits) {
 
-        log.info("REST request to get courses with credits: {}", credits);
+        hotLog.debug("REST request to get courses with credits: {}", credits);
 
         // You'll need to add this method in CourseService
         // List<CourseResponseDTO> response = courseService.getCoursesByCredits(credits);
@@ -191,4 +292,20 @@ public class CourseController {
         return ResponseEntity.ok(
                 ApiResponse.success("Feature coming soon", null));
     }
+
+    /**
+     * Export all courses as newline-delimited JSON (streamed, not buffered)
+     * @return NDJSON stream, one course per line
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportCourses() {
+
+        hotLog.debug("REST request to export all courses");
+
+        StreamingResponseBody body = exportService::exportCourses;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
 }
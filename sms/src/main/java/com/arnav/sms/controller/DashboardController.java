@@ -0,0 +1,43 @@
+package com.arnav.sms.controller;
+
+import com.arnav.sms.dto.api.ApiResponse;
+import com.arnav.sms.dto.response.DashboardSummaryDTO;
+import com.arnav.sms.service.DashboardService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@Slf4j
+@CrossOrigin(origins = "*")
+@Validated
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    /**
+     * Dashboard summary: totals, enrollments per status, top courses and newest rows
+     * (cached for a few seconds, see generatedAt)
+     * @param recent How many top courses / recent students / recent enrollments (1-50)
+     * @return Summary
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<DashboardSummaryDTO>> getSummary(
+            @RequestParam(defaultValue = "5") @Min(value = 1, message = "Recent must be at least 1")
+            @Max(value = 50, message = "Recent cannot exceed 50") int recent) {
+
+        log.info("REST request to get dashboard summary");
+
+        DashboardSummaryDTO response = dashboardService.getSummary(recent);
+
+        return ResponseEntity.ok(ApiResponse.success("Dashboard summary", response));
+    }
+}
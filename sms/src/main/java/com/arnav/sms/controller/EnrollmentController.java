@@ -1,19 +1,35 @@
 package com.arnav.sms.controller;
 
 import com.arnav.sms.dto.api.ApiResponse;
+import com.arnav.sms.dto.api.CursorPage;
 import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.request.GradeBatchRequestDTO;
+import com.arnav.sms.dto.request.StatusTransitionRequestDTO;
+import com.arnav.sms.dto.response.BulkEnrollmentResultDTO;
+import com.arnav.sms.dto.response.CounterReconciliationDTO;
 import com.arnav.sms.dto.response.EnrollmentResponseDTO;
+import com.arnav.sms.dto.response.GradeBatchResultDTO;
+import com.arnav.sms.dto.response.StatusTransitionResultDTO;
 import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.logging.HotPathLog;
+import com.arnav.sms.service.EnrollmentCounterService;
 import com.arnav.sms.service.EnrollmentService;
+import com.arnav.sms.service.EnrollmentStatusTransitionService;
+import com.arnav.sms.service.ExportService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/enrollments")
@@ -22,9 +38,20 @@ import java.util.List;
 @Validated
 public class EnrollmentController {
 
+    // per-request lines: DEBUG, level-guarded (off in prod)
+    private static final HotPathLog hotLog = HotPathLog.of(EnrollmentController.class);
+
     private EnrollmentService enrollmentService;
-    public EnrollmentController(EnrollmentService enrollmentService) {
+    private ExportService exportService;
+    private EnrollmentCounterService enrollmentCounterService;
+    private EnrollmentStatusTransitionService enrollmentStatusTransitionService;
+    public EnrollmentController(EnrollmentService enrollmentService, ExportService exportService,
+                                EnrollmentCounterService enrollmentCounterService,
+                                EnrollmentStatusTransitionService enrollmentStatusTransitionService) {
         this.enrollmentService = enrollmentService;
+        this.exportService = exportService;
+        this.enrollmentCounterService = enrollmentCounterService;
+        this.enrollmentStatusTransitionService = enrollmentStatusTransitionService;
     }
 
 
@@ -37,7 +64,7 @@ public class EnrollmentController {
     public ResponseEntity<ApiResponse<EnrollmentResponseDTO>> enrollStudent(
             @Valid @RequestBody EnrollmentRequestDTO requestDTO) {
 
-        log.info("REST request to enroll student ID: {} in course ID: {}",
+        hotLog.debug("REST request to enroll student ID: {} in course ID: {}",
                 requestDTO.getStudentId(), requestDTO.getCourseId());
 
         EnrollmentResponseDTO response = enrollmentService.enrollStudent(requestDTO);
@@ -47,6 +74,29 @@ public class EnrollmentController {
                 .body(ApiResponse.success("Student enrolled successfully", response));
     }
 
+    /**
+     * Enroll many students in one request (e.g. a whole cohort at term start)
+     * @param requestDTOs List of enrollment data (studentId, courseId), max 5000
+     * @return Per-item results (enrollment ID or failure reason)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<BulkEnrollmentResultDTO>>> bulkEnroll(
+            @RequestBody @NotEmpty(message = "Enrollment list cannot be empty")
+            @Size(max = 5000, message = "Cannot enroll more than 5000 items per request")
+            List<@Valid EnrollmentRequestDTO> requestDTOs) {
+
+        hotLog.debug("REST request to bulk enroll {} items", requestDTOs.size());
+
+        List<BulkEnrollmentResultDTO> response = enrollmentService.bulkEnroll(requestDTOs);
+        long enrolled = response.stream().filter(BulkEnrollmentResultDTO::isSuccess).count();
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Bulk enrollment completed. Enrolled: %d, Failed: %d",
+                                enrolled, response.size() - enrolled),
+                        response));
+    }
+
     /**
      * Get enrollment by ID
      * @param id Enrollment ID
@@ -56,7 +106,7 @@ public class EnrollmentController {
     public ResponseEntity<ApiResponse<EnrollmentResponseDTO>> getEnrollmentById(
             @PathVariable Long id) {
 
-        log.info("REST request to get enrollment by ID: {}", id);
+        hotLog.debug("REST request to get enrollment by ID: {}", id);
 
         EnrollmentResponseDTO response = enrollmentService.getEnrollmentById(id);
 
@@ -71,7 +121,7 @@ public class EnrollmentController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getAllEnrollments() {
 
-        log.info("REST request to get all enrollments");
+        hotLog.debug("REST request to get all enrollments");
 
         List<EnrollmentResponseDTO> response = enrollmentService.getAllEnrollments();
 
@@ -81,6 +131,27 @@ public class EnrollmentController {
                         response));
     }
 
+    /**
+     * Get enrollments page by page (keyset pagination on id)
+     * @param after Opaque cursor from the previous page (omit for the first page)
+     * @param limit Page size (max 200)
+     * @return Enrollments page with the next cursor
+     */
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<EnrollmentResponseDTO>>> getEnrollmentsPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+
+        hotLog.debug("REST request to get enrollments page after: {}", after);
+
+        CursorPage<EnrollmentResponseDTO> response = enrollmentService.getEnrollmentsPage(after, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Enrollments page retrieved successfully. Count: %d", response.getSize()),
+                        response));
+    }
+
     /**
      * Get all enrollments for a specific student
      * @param studentId Student ID
@@ -90,7 +161,7 @@ public class EnrollmentController {
     public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getEnrollmentsByStudent(
             @PathVariable Long studentId) {
 
-        log.info("REST request to get enrollments for student ID: {}", studentId);
+        hotLog.debug("REST request to get enrollments for student ID: {}", studentId);
 
         List<EnrollmentResponseDTO> response = enrollmentService.getEnrollmentsByStudent(studentId);
 
@@ -109,7 +180,7 @@ public class EnrollmentController {
     public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getEnrollmentsByCourse(
             @PathVariable Long courseId) {
 
-        log.info("REST request to get enrollments for course ID: {}", courseId);
+        hotLog.debug("REST request to get enrollments for course ID: {}", courseId);
 
         List<EnrollmentResponseDTO> response = enrollmentService.getEnrollmentsByCourse(courseId);
 
@@ -129,7 +200,7 @@ public class EnrollmentController {
     public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getActiveEnrollmentsByStudent(
             @PathVariable Long studentId) {
 
-        log.info("REST request to get active enrollments for student ID: {}", studentId);
+        hotLog.debug("REST request to get active enrollments for student ID: {}", studentId);
 
         List<EnrollmentResponseDTO> response =
                 enrollmentService.getActiveEnrollmentsByStudent(studentId);
@@ -149,7 +220,7 @@ public class EnrollmentController {
     public ResponseEntity<ApiResponse<List<EnrollmentResponseDTO>>> getEnrollmentsByStatus(
             @PathVariable EnrollmentStatus status) {
 
-        log.info("REST request to get enrollments with status: {}", status);
+        hotLog.debug("REST request to get enrollments with status: {}", status);
 
         List<EnrollmentResponseDTO> response = enrollmentService.getEnrollmentsByStatus(status);
 
@@ -170,7 +241,7 @@ public class EnrollmentController {
             @PathVariable Long id,
             @RequestParam @NotBlank(message = "Grade cannot be blank") String grade) {
 
-        log.info("REST request to update grade for enrollment ID: {} to {}", id, grade);
+        hotLog.debug("REST request to update grade for enrollment ID: {} to {}", id, grade);
 
         EnrollmentResponseDTO response = enrollmentService.updateGrade(id, grade);
 
@@ -178,6 +249,48 @@ public class EnrollmentController {
                 ApiResponse.success("Grade updated successfully", response));
     }
 
+    /**
+     * Post grades for a whole course in one request (end of term)
+     * @param courseId Course ID
+     * @param requestDTO Grades keyed by enrollment ID or student ID (max 5000)
+     * @return Updated / unchanged counts and the keys not enrolled in the course
+     */
+    @PatchMapping("/course/{courseId}/grades")
+    public ResponseEntity<ApiResponse<GradeBatchResultDTO>> updateGrades(
+            @PathVariable Long courseId,
+            @Valid @RequestBody GradeBatchRequestDTO requestDTO) {
+
+        hotLog.debug("REST request to post {} grades for course ID: {}", requestDTO.getGrades().size(), courseId);
+
+        GradeBatchResultDTO response = enrollmentService.updateGrades(courseId, requestDTO);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Grades posted. Updated: %d, Unchanged: %d, Not found: %d",
+                                response.getUpdated(), response.getUnchanged(), response.getNotFound().size()),
+                        response));
+    }
+
+    /**
+     * Move many enrollments to a new status at once (semester close), in chunks of row-locked updates
+     * @param requestDTO Current + new status and optional filters (course, student, enrollment date range, afterId)
+     * @return Updated / promoted counts and the last enrollment ID processed (resume point)
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<ApiResponse<StatusTransitionResultDTO>> bulkUpdateStatus(
+            @Valid @RequestBody StatusTransitionRequestDTO requestDTO) {
+
+        hotLog.debug("REST request to move enrollments from {} to {}", requestDTO.getFromStatus(), requestDTO.getToStatus());
+
+        StatusTransitionResultDTO response = enrollmentStatusTransitionService.transition(requestDTO);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Status updated for %d enrollments (%d promoted from the waitlist)",
+                                response.getUpdated(), response.getPromoted()),
+                        response));
+    }
+
     /**
      * Update status for an enrollment
      * @param id Enrollment ID
@@ -189,7 +302,7 @@ public class EnrollmentController {
             @PathVariable Long id,
             @RequestParam EnrollmentStatus status) {
 
-        log.info("REST request to update status for enrollment ID: {} to {}", id, status);
+        hotLog.debug("REST request to update status for enrollment ID: {} to {}", id, status);
 
         EnrollmentResponseDTO response = enrollmentService.updateStatus(id, status);
 
@@ -205,7 +318,7 @@ public class EnrollmentController {
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteEnrollment(@PathVariable Long id) {
 
-        log.info("REST request to delete enrollment with ID: {}", id);
+        hotLog.debug("REST request to delete enrollment with ID: {}", id);
 
         enrollmentService.deleteEnrollment(id);
 
@@ -222,7 +335,7 @@ public class EnrollmentController {
     public ResponseEntity<ApiResponse<Long>> countEnrollmentsByStudent(
             @PathVariable Long studentId) {
 
-        log.info("REST request to count enrollments for student ID: {}", studentId);
+        hotLog.debug("REST request to count enrollments for student ID: {}", studentId);
 
         Long count = enrollmentService.countEnrollmentsByStudent(studentId);
 
@@ -232,6 +345,57 @@ public class EnrollmentController {
                         count));
     }
 
+    /**
+     * Enrollment counts per status for a student
+     * @param studentId Student ID
+     * @return Count for every status
+     */
+    @GetMapping("/student/{studentId}/counts")
+    public ResponseEntity<ApiResponse<Map<EnrollmentStatus, Long>>> getEnrollmentCountsByStudent(
+            @PathVariable Long studentId) {
+
+        hotLog.debug("REST request to get enrollment counts for student ID: {}", studentId);
+
+        Map<EnrollmentStatus, Long> counts = enrollmentService.getEnrollmentCountsByStudent(studentId);
+
+        return ResponseEntity.ok(ApiResponse.success("Enrollment counts retrieved successfully", counts));
+    }
+
+    /**
+     * Enrollment counts per status for a course
+     * @param courseId Course ID
+     * @return Count for every status
+     */
+    @GetMapping("/course/{courseId}/counts")
+    public ResponseEntity<ApiResponse<Map<EnrollmentStatus, Long>>> getEnrollmentCountsByCourse(
+            @PathVariable Long courseId) {
+
+        hotLog.debug("REST request to get enrollment counts for course ID: {}", courseId);
+
+        Map<EnrollmentStatus, Long> counts = enrollmentService.getEnrollmentCountsByCourse(courseId);
+
+        return ResponseEntity.ok(ApiResponse.success("Enrollment counts retrieved successfully", counts));
+    }
+
+    /**
+     * Check the enrollment counters against the enrollments table and fix any drift
+     * (also runs nightly, see app.counters.reconcile-cron)
+     * @return Counters checked and mismatches fixed
+     */
+    @PostMapping("/counters/reconcile")
+    public ResponseEntity<ApiResponse<CounterReconciliationDTO>> reconcileCounters() {
+
+        hotLog.debug("REST request to reconcile enrollment counters");
+
+        CounterReconciliationDTO result = enrollmentCounterService.reconcile();
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Counters checked: %d, fixed: %d",
+                                result.getCountersChecked(), result.getMismatchesFixed()),
+                        result));
+    }
+
     /**
      * Count total enrollments for a course
      * @param courseId Course ID
@@ -241,7 +405,7 @@ public class EnrollmentController {
     public ResponseEntity<ApiResponse<Long>> countEnrollmentsByCourse(
             @PathVariable Long courseId) {
 
-        log.info("REST request to count enrollments for course ID: {}", courseId);
+        hotLog.debug("REST request to count enrollments for course ID: {}", courseId);
 
         Long count = enrollmentService.countEnrollmentsByCourse(courseId);
 
@@ -251,4 +415,20 @@ public class EnrollmentController {
                         count));
     }
 
+    /**
+     * Export all enrollments as newline-delimited JSON (streamed, not buffered)
+     * @return NDJSON stream, one enrollment per line
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportEnrollments() {
+
+        hotLog.debug("REST request to export all enrollments");
+
+        StreamingResponseBody body = exportService::exportEnrollments;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
 }
@@ -1,18 +1,33 @@
 package com.arnav.sms.controller;
 
 import com.arnav.sms.dto.api.ApiResponse;
+import com.arnav.sms.dto.api.CursorPage;
 import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.GpaSummaryDTO;
+import com.arnav.sms.dto.response.StudentImportErrorDTO;
+import com.arnav.sms.dto.response.StudentImportJobDTO;
 import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.dto.response.TranscriptDTO;
+import com.arnav.sms.logging.HotPathLog;
+import com.arnav.sms.service.ExportService;
+import com.arnav.sms.service.StudentImportService;
 import com.arnav.sms.service.StudentService;
+import com.arnav.sms.service.TranscriptService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -22,8 +37,20 @@ import java.util.List;
 @Validated
 public class StudentController {
 
+    // per-request lines: DEBUG, level-guarded (off in prod)
+    private static final HotPathLog hotLog = HotPathLog.of(StudentController.class);
+
     private StudentService studentService;
 
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private StudentImportService studentImportService;
+
+    @Autowired
+    private TranscriptService transcriptService;
+
     @Autowired
     public void StudentService(StudentService studentService) {
         this.studentService = studentService;
@@ -38,7 +65,7 @@ public class StudentController {
     public ResponseEntity<ApiResponse<StudentResponseDTO>> createStudent(
             @Valid @RequestBody StudentRequestDTO studentRequestDTO) {
 
-        log.info("REST request to create student : {}", studentRequestDTO.getEmail());
+        hotLog.debug("REST request to create student : {}", studentRequestDTO.getEmail());
         StudentResponseDTO studentResponseDTO = studentService.createStudent(studentRequestDTO);
 
         return ResponseEntity
@@ -56,7 +83,7 @@ public class StudentController {
     public ResponseEntity<ApiResponse<StudentResponseDTO>> getStudentById(
             @PathVariable("id") Long Id) {
 
-        log.info("REST request to get student by id : {}", Id);
+        hotLog.debug("REST request to get student by id : {}", Id);
         StudentResponseDTO studentResponseDTO = studentService.getStudentById(Id);
 
         return ResponseEntity.ok(
@@ -71,7 +98,7 @@ public class StudentController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<StudentResponseDTO>>> getAllStudents() {
 
-        log.info("REST request to get all students");
+        hotLog.debug("REST request to get all students");
 
         List<StudentResponseDTO> response = studentService.getAllStudents();
 
@@ -82,6 +109,29 @@ public class StudentController {
     }
 
 
+    /**
+     * Get students page by page (keyset pagination on id)
+     * @param after Opaque cursor from the previous page (omit for the first page)
+     * @param limit Page size (max 200)
+     * @return Students page with the next cursor
+     */
+
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<StudentResponseDTO>>> getStudentsPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+
+        hotLog.debug("REST request to get students page after: {}", after);
+
+        CursorPage<StudentResponseDTO> response = studentService.getStudentsPage(after, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Students page retrieved successfully. Count: %d", response.getSize()),
+                        response));
+    }
+
+
     /**
      * Update student details
      * @param id Student ID
@@ -94,7 +144,7 @@ public class StudentController {
             @PathVariable Long id,
             @Valid @RequestBody StudentRequestDTO requestDTO) {
 
-        log.info("REST request to update student with ID: {}", id);
+        hotLog.debug("REST request to update student with ID: {}", id);
 
         StudentResponseDTO response = studentService.updateStudent(id, requestDTO);
 
@@ -111,7 +161,7 @@ public class StudentController {
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteStudent(@PathVariable Long id) {
 
-        log.info("REST request to delete student with ID: {}", id);
+        hotLog.debug("REST request to delete student with ID: {}", id);
 
         studentService.deleteStudent(id);
 
@@ -120,18 +170,21 @@ public class StudentController {
     }
 
     /**
-     * Search students by name
-     * @param name Search term (first name or last name)
+     * Search students by name, email or phone (prefix + typo tolerant, best match first)
+     * @param name Search term
+     * @param limit Max results (1-200)
      * @return List of matching students
      */
 
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<List<StudentResponseDTO>>> searchStudents(
-            @RequestParam @NotBlank(message = "Search name cannot be blank") String name) {
+            @RequestParam @NotBlank(message = "Search name cannot be blank") String name,
+            @RequestParam(defaultValue = "50") @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 200, message = "Limit cannot exceed 200") int limit) {
 
-        log.info("REST request to search students with name: {}", name);
+        hotLog.debug("REST request to search students with name: {}", name);
 
-        List<StudentResponseDTO> response = studentService.searchStudents(name);
+        List<StudentResponseDTO> response = studentService.searchStudents(name, limit);
 
         return ResponseEntity.ok(
                 ApiResponse.success(
@@ -148,11 +201,122 @@ public class StudentController {
     public ResponseEntity<ApiResponse<StudentResponseDTO>> getStudentByEmail(
             @PathVariable String email) {
 
-        log.info("REST request to get student by email: {}", email);
+        hotLog.debug("REST request to get student by email: {}", email);
 
         StudentResponseDTO response = studentService.getStudentByEmail(email);
 
         return ResponseEntity.ok(
                 ApiResponse.success("Student retrieved successfully", response));
     }
+
+    /**
+     * Export all students as newline-delimited JSON (streamed, not buffered)
+     * @return NDJSON stream, one student per line
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportStudents() {
+
+        hotLog.debug("REST request to export all students");
+
+        StreamingResponseBody body = exportService::exportStudents;
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * Bulk import students from CSV (header row = field names) or NDJSON. Runs in the background;
+     * existing emails are updated unless updateExisting=false
+     * @param contentType text/csv or application/x-ndjson
+     * @param body File content (streamed to disk, not buffered in memory)
+     * @param updateExisting Update students whose email already exists (else reject those rows)
+     * @return Import job (poll GET /api/students/import/{jobId} for progress)
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ApiResponse<StudentImportJobDTO>> importStudents(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            @RequestParam(defaultValue = "true") boolean updateExisting) {
+
+        hotLog.debug("REST request to import students ({})", contentType);
+
+        StudentImportJobDTO response = studentImportService.startImport(body, contentType, updateExisting);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Student import started", response));
+    }
+
+    /**
+     * Progress / result of a student import
+     * @param jobId Import job ID
+     * @return Import job with row counts
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ApiResponse<StudentImportJobDTO>> getImportJob(@PathVariable String jobId) {
+
+        hotLog.debug("REST request to get import job: {}", jobId);
+
+        StudentImportJobDTO response = studentImportService.getJob(jobId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Import job retrieved successfully", response));
+    }
+
+    /**
+     * Rejected rows of a student import
+     * @param jobId Import job ID
+     * @param offset Errors to skip
+     * @param limit Max errors (1-1000)
+     * @return Row number, email and reason per rejected row
+     */
+    @GetMapping("/import/{jobId}/errors")
+    public ResponseEntity<ApiResponse<List<StudentImportErrorDTO>>> getImportErrors(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "Offset cannot be negative") int offset,
+            @RequestParam(defaultValue = "100") @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 1000, message = "Limit cannot exceed 1000") int limit) {
+
+        hotLog.debug("REST request to get errors of import job: {}", jobId);
+
+        List<StudentImportErrorDTO> response = studentImportService.getErrors(jobId, offset, limit);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Import errors retrieved successfully. Count: %d", response.size()),
+                        response));
+    }
+
+    /**
+     * Transcript of a student with GPA (active and completed courses)
+     * @param id Student ID
+     * @return Courses with grade points and the GPA summary
+     */
+    @GetMapping("/{id}/transcript")
+    public ResponseEntity<ApiResponse<TranscriptDTO>> getTranscript(@PathVariable Long id) {
+
+        hotLog.debug("REST request to get transcript of student: {}", id);
+
+        TranscriptDTO response = transcriptService.getTranscript(id);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Transcript retrieved successfully", response));
+    }
+
+    /**
+     * GPA of every student with at least one graded course
+     * @return GPA summary per student, ordered by student ID
+     */
+    @GetMapping("/gpa")
+    public ResponseEntity<ApiResponse<List<GpaSummaryDTO>>> getCohortGpa() {
+
+        hotLog.debug("REST request to get cohort GPA");
+
+        List<GpaSummaryDTO> response = transcriptService.getCohortGpa();
+
+        return ResponseEntity.ok(
+                ApiResponse.success(
+                        String.format("Cohort GPA retrieved successfully. Count: %d", response.size()),
+                        response));
+    }
 }
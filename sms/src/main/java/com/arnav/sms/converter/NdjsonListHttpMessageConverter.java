@@ -0,0 +1,105 @@
+package com.arnav.sms.converter;
+
+import com.arnav.sms.dto.api.ApiResponse;
+import com.arnav.sms.exceptions.ErrorResponseWrapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * Writes list endpoints as NDJSON when the client sends Accept: application/x-ndjson -
+ * one minified JSON object per line, and only the rows: the ApiResponse envelope (success,
+ * message, timestamp) is dropped, the status code already says whether it worked.
+ *
+ * Only ApiResponse whose data is a Collection qualifies, so single-object and cursor-page
+ * endpoints answer 406 instead of a surprising shape. Errors (ErrorResponseWrapper) are written
+ * as a single line so an NDJSON-only client still gets the reason.
+ *
+ * Appended after the JSON converter (JsonOutputConfig), so * / * and browser Accept headers keep getting JSON
+ */
+public class NdjsonListHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final ObjectWriter lineWriter;
+
+    public NdjsonListHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_NDJSON);
+        // NDJSON = har record ek line pe, so pretty print off
+        this.lineWriter = objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .withRootValueSeparator("\n");
+    }
+
+    // raw class check only - which ApiResponse qualifies is decided on the generic type below
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz) || ErrorResponseWrapper.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        return canWrite(mediaType)
+                && (ErrorResponseWrapper.class.isAssignableFrom(clazz) || isListResponse(type != null ? type : clazz));
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(@Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = outputMessage.getBody();
+        SequenceWriter sequenceWriter = lineWriter.writeValues(out);
+        boolean written = false;
+        if (body instanceof ApiResponse<?> response && response.getData() instanceof Collection<?> rows) {
+            for (Object row : rows) {
+                sequenceWriter.write(row);
+                written = true;
+            }
+        } else {
+            sequenceWriter.write(body);
+            written = true;
+        }
+        if (written) {
+            out.write('\n');
+        }
+        sequenceWriter.flush();
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("NDJSON request bodies are not supported");
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("NDJSON request bodies are not supported");
+    }
+
+    // ApiResponse<List<...>> / ApiResponse<Set<...>>, as declared by the controller method
+    private static boolean isListResponse(Type type) {
+        ResolvableType responseType = ResolvableType.forType(type).as(ApiResponse.class);
+        if (responseType == ResolvableType.NONE) {
+            return false;
+        }
+        Class<?> data = responseType.getGeneric(0).resolve();
+        return data != null && Collection.class.isAssignableFrom(data);
+    }
+}
@@ -0,0 +1,49 @@
+package com.arnav.sms.converter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * The regular JSON converter, except that a request can pick the layout: ?pretty=true indents,
+ * ?pretty=false writes minified JSON. Without the parameter the ObjectMapper default applies
+ * (spring.jackson.serialization.indent_output - on in dev, off in the prod profile).
+ *
+ * JsonOutputConfig swaps it in for Boot's MappingJackson2HttpMessageConverter, so it sits at the same position
+ * in the converter list and stays the default for Accept: * / * and application/json
+ */
+public class NegotiatedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public static final String PRETTY_PARAM = "pretty";
+
+    public NegotiatedJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable JavaType javaType, @Nullable MediaType contentType) {
+        String pretty = prettyParam();
+        if (pretty == null) {
+            return writer;
+        }
+        return Boolean.parseBoolean(pretty)
+                ? writer.with(SerializationFeature.INDENT_OUTPUT)
+                : writer.without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Nullable
+    private static String prettyParam() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getParameter(PRETTY_PARAM);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.arnav.sms.dto.api;
+
+import com.arnav.sms.exceptions.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// Keyset (cursor) page: items are ordered by id and nextCursor is an opaque token for the
+// last id returned. Next page = "WHERE id > lastId ORDER BY id LIMIT n", so page 1000
+// costs the same index seek as page 1 (no OFFSET scan)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private static final String CURSOR_PREFIX = "id:";
+
+    private List<T> items;
+    private String nextCursor;   // null on the last page
+    private int size;
+
+    // rows = query result fetched with limit + 1, the extra row only tells us a next page exists
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, Long> idOf) {
+        boolean hasMore = rows.size() > limit;
+        List<T> items = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? encodeCursor(idOf.apply(items.get(items.size() - 1))) : null;
+        return new CursorPage<>(items, nextCursor, items.size());
+    }
+
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // null / blank cursor = first page
+    public static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new InvalidCursorException("Invalid page cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid page cursor: " + cursor);
+        }
+    }
+}
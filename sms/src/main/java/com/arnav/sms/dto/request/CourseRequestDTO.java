@@ -30,6 +30,11 @@ public class CourseRequestDTO {
     @Size(max = 500, message = "Description cannot exceed 500 characters")
     private String description;
 
+    // Optional: leave empty for unlimited seats
+    @Min(value = 1, message = "Capacity must be at least 1")
+    @Max(value = 100000, message = "Capacity cannot exceed 100000")
+    private Integer capacity;
+
 
 
 }
@@ -0,0 +1,31 @@
+package com.arnav.sms.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// Grades for one course in one request: {"by": "STUDENT", "grades": {"12": "A", "13": "B+"}}
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GradeBatchRequestDTO {
+
+    // What the keys of `grades` are
+    public enum KeyType {
+        ENROLLMENT, STUDENT
+    }
+
+    @NotNull(message = "Key type is required (ENROLLMENT or STUDENT)")
+    private KeyType by = KeyType.ENROLLMENT;
+
+    @NotEmpty(message = "Grades cannot be empty")
+    @Size(max = 5000, message = "Cannot post more than 5000 grades per request")
+    private Map<@NotNull Long, @NotBlank(message = "Grade cannot be blank")
+            @Size(max = 5, message = "Grade cannot exceed 5 characters") String> grades;
+}
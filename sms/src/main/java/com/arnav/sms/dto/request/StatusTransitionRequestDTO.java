@@ -0,0 +1,34 @@
+package com.arnav.sms.dto.request;
+
+import com.arnav.sms.entity.EnrollmentStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Bulk status change: every fromStatus enrollment matching the optional filters moves to toStatus.
+// afterId resumes an interrupted run (lastEnrollmentId of the previous response)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StatusTransitionRequestDTO {
+
+    @NotNull(message = "Current status is required")
+    private EnrollmentStatus fromStatus;
+
+    @NotNull(message = "New status is required")
+    private EnrollmentStatus toStatus;
+
+    private Long courseId;
+
+    private Long studentId;
+
+    // enrollment date range, both inclusive (e.g. one term)
+    private LocalDate enrolledFrom;
+
+    private LocalDate enrolledTo;
+
+    private Long afterId;
+}
@@ -0,0 +1,18 @@
+package com.arnav.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Per-item outcome of a bulk enrollment (index = position in the request list)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentResultDTO {
+    private int index;
+    private Long studentId;
+    private Long courseId;
+    private boolean success;
+    private Long enrollmentId;
+    private String message;
+}
@@ -0,0 +1,20 @@
+package com.arnav.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Hit/miss counters for one second-level cache region, plus its current and configured size
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsDTO {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private Double hitRatio;
+    private Long size;
+    private Long maxEntries;
+    private Long ttlSeconds;
+}
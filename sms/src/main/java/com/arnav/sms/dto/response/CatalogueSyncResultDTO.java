@@ -0,0 +1,21 @@
+package com.arnav.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Outcome of a course catalogue sync (counts + the codes that were added / removed)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogueSyncResultDTO {
+    private int received;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int deleted;
+    private List<String> insertedCodes;
+    private List<String> deletedCodes;
+}
@@ -0,0 +1,15 @@
+package com.arnav.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Outcome of one counter reconciliation run
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterReconciliationDTO {
+    private int countersChecked;
+    private int mismatchesFixed;
+    private long durationMs;
+}
@@ -0,0 +1,16 @@
+package com.arnav.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One row of the dashboard's "top courses" list (built by a GROUP BY query)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseEnrollmentCountDTO {
+    private Long courseId;
+    private String courseCode;
+    private String courseName;
+    private Long enrollmentCount;
+}
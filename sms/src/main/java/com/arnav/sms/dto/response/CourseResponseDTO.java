@@ -14,5 +14,6 @@ public class CourseResponseDTO {
     private Integer credits;
     private String instructor;
     private String description;
+    private Integer capacity;
 
 }
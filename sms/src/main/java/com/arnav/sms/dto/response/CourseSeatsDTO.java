@@ -0,0 +1,16 @@
+package com.arnav.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Seat state of one course (capacity / seatsLeft are null for courses without a limit)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSeatsDTO {
+    private Long courseId;
+    private Integer capacity;
+    private Integer seatsLeft;
+    private Long waitlisted;
+}
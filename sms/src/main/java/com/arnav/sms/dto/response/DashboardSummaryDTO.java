@@ -0,0 +1,26 @@
+package com.arnav.sms.dto.response;
+
+import com.arnav.sms.entity.EnrollmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// Everything the dashboard shows, from aggregate queries (no full-table downloads)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummaryDTO {
+    private long totalStudents;
+    private long totalCourses;
+    private long totalEnrollments;
+    private Map<EnrollmentStatus, Long> enrollmentsByStatus;
+    private List<CourseEnrollmentCountDTO> topCourses;
+    private List<StudentResponseDTO> recentStudents;
+    private List<EnrollmentResponseDTO> recentEnrollments;
+    // Summary is cached briefly - tells the client how fresh it is
+    private LocalDateTime generatedAt;
+}
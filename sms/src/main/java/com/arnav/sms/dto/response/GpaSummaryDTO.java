@@ -0,0 +1,19 @@
+package com.arnav.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Credit-weighted GPA of one student (gpa = null until a graded course exists)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GpaSummaryDTO {
+    private Long studentId;
+    private Double gpa;
+    private int gradedCourses;
+    private int creditsAttempted;
+    private int creditsEarned;
+    // grades outside the scale (e.g. "I", "W") - shown, but not counted
+    private int unrecognizedGrades;
+}
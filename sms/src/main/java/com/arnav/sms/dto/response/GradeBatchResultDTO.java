@@ -0,0 +1,19 @@
+package com.arnav.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Summary of a batch grade posting (notFound = keys with no enrollment in the course)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GradeBatchResultDTO {
+    private Long courseId;
+    private int received;
+    private int updated;
+    private int unchanged;
+    private List<Long> notFound;
+}
@@ -0,0 +1,20 @@
+package com.arnav.sms.dto.response;
+
+import com.arnav.sms.entity.EnrollmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Outcome of a bulk status change. lastEnrollmentId = resume point (afterId) if the run is repeated
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionResultDTO {
+    private EnrollmentStatus fromStatus;
+    private EnrollmentStatus toStatus;
+    private long updated;
+    private long promoted;
+    private int chunks;
+    private Long lastEnrollmentId;
+    private long durationMs;
+}
@@ -0,0 +1,15 @@
+package com.arnav.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One rejected row of a student import (row = 1-based record number in the file, header not counted)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentImportErrorDTO {
+    private long row;
+    private String email;
+    private String message;
+}
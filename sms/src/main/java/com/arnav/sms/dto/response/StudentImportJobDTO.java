@@ -0,0 +1,31 @@
+package com.arnav.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Progress of a student import job (GET /api/students/import/{jobId})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentImportJobDTO {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private String jobId;
+    private Status status;
+    private String format;
+    private boolean updateExisting;
+    // rows parsed so far; inserted + updated + failed once the job is done
+    private long rowsRead;
+    private long inserted;
+    private long updated;
+    private long failed;
+    // errors kept for GET .../errors (the first MAX_STORED_ERRORS, failed counts all)
+    private int storedErrors;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,18 @@
+package com.arnav.sms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Transcript of one student: GPA summary + the ACTIVE / COMPLETED courses it is computed from
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranscriptDTO {
+    private Long studentId;
+    private String studentName;
+    private GpaSummaryDTO summary;
+    private List<TranscriptEntryDTO> courses;
+}
@@ -0,0 +1,19 @@
+package com.arnav.sms.dto.response;
+
+import com.arnav.sms.entity.EnrollmentStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One course on a transcript (points = null: not graded yet, or a grade outside the scale)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranscriptEntryDTO {
+    private String courseCode;
+    private String courseName;
+    private Integer credits;
+    private String grade;
+    private Double points;
+    private EnrollmentStatus status;
+}
@@ -0,0 +1,7 @@
+package com.arnav.sms.entity;
+
+// Whose enrollments an EnrollmentCounter row counts
+public enum CounterOwnerType {
+    STUDENT,
+    COURSE
+}
@@ -1,20 +1,35 @@
 package com.arnav.sms.entity;
 
+import com.arnav.sms.search.CourseSearchListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "course")
+@EntityListeners(CourseSearchListener.class)
+// Second-level cache: course rows almost never change (region size/ttl in application.properties)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course")
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
 public class Course {
+    // Pooled table ids (same as Enrollment) so inserts can be batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "course_id_gen")
+    @TableGenerator(
+            name = "course_id_gen",
+            table = "id_sequences",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "course",
+            allocationSize = 50
+    )
     private Long id;
 
     @Column(name = "course_name" , nullable = false ,length = 100)
@@ -32,6 +47,9 @@ public class Course {
     @Column(length = 500)
     private String description;
 
+    // Max seats (ACTIVE + COMPLETED enrollments); null = unlimited. Free seats live in course_seat_stripes
+    private Integer capacity;
+
     // One course : Many Enrollments
     @OneToMany( mappedBy = "course" , cascade = CascadeType.PERSIST ,
             orphanRemoval = true
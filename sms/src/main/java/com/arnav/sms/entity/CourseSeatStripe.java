@@ -0,0 +1,28 @@
+package com.arnav.sms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Free seats of a capacity-limited course, split over a few stripe rows (sum = free seats).
+// Enrollments take a seat with a conditional decrement on one stripe, so a hot course is
+// N independent row locks instead of one. Managed by SeatAllocationService
+@Entity
+@Table(name = "course_seat_stripes")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class CourseSeatStripe {
+
+    @EmbeddedId
+    private CourseSeatStripeId id;
+
+    @Column(name = "seats_left", nullable = false)
+    private int seatsLeft;
+}
@@ -4,6 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
@@ -25,14 +28,28 @@ import java.time.LocalDate;
                 )
         }
 )
+// Second-level cache: the cached entry keeps the student_id/course_id keys, so
+// enrollment.getStudent()/getCourse() resolve from the student/course regions without a join
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "enrollment")
 @AllArgsConstructor
 @NoArgsConstructor
 @Setter
 @Getter
 public class Enrollment {
 
+    // Table-backed pooled ids (MySQL has no sequences): ids are reserved in blocks of 50,
+    // so Hibernate can batch inserts. IDENTITY would force one INSERT round trip per row.
+    // Sequence row is aligned with existing data at startup by IdSequenceInitializer
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "enrollment_id_gen")
+    @TableGenerator(
+            name = "enrollment_id_gen",
+            table = "id_sequences",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "enrollments",
+            allocationSize = 50
+    )
     private Long id;
 
     // Many Enrollments → One Student (Owning Side)
@@ -55,6 +72,13 @@ public class Enrollment {
     @Column(nullable = false)
     private EnrollmentStatus status;
 
+    // Optimistic lock: every UPDATE is "... WHERE id = ? AND version = ?" and bumps it, so a batch
+    // (e.g. grade posting) never silently overwrites a row another request changed meanwhile
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
 
 
 
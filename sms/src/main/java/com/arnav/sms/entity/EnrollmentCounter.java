@@ -0,0 +1,28 @@
+package com.arnav.sms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Materialized enrollment count per (student or course, status), split over EnrollmentCounterService.SLOTS rows.
+// Written only through EnrollmentCounterRepository.increment (atomic upsert), in the same
+// transaction as the enrollment change; checked against the enrollments table by EnrollmentCounterService.reconcile
+@Entity
+@Table(name = "enrollment_counters")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class EnrollmentCounter {
+
+    @EmbeddedId
+    private EnrollmentCounterId id;
+
+    @Column(name = "enrollment_count", nullable = false)
+    private long count;
+}
@@ -0,0 +1,37 @@
+package com.arnav.sms.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Embeddable
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@EqualsAndHashCode
+public class EnrollmentCounterId implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", length = 10, nullable = false)
+    private CounterOwnerType ownerType;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private EnrollmentStatus status;
+
+    // A count is spread over a few slot rows so a popular course is not one hot row lock (sum of slots = count)
+    @Column(nullable = false)
+    private int slot;
+}
@@ -3,5 +3,7 @@ package com.arnav.sms.entity;
 public enum EnrollmentStatus {
     ACTIVE,
     COMPLETED,
-    DROPPED
+    DROPPED,
+    // Course was full: promoted to ACTIVE (oldest first) when a seat is released
+    WAITLISTED
 }
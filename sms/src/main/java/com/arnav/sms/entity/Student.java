@@ -1,22 +1,37 @@
 package com.arnav.sms.entity;
+import com.arnav.sms.search.StudentSearchListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "student")
+@EntityListeners(StudentSearchListener.class)
+// Second-level cache (region size/ttl in application.properties)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "student")
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
 public class Student {
+    // Pooled table ids (same as Enrollment) so inserts can be batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "student_id_gen")
+    @TableGenerator(
+            name = "student_id_gen",
+            table = "id_sequences",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "student",
+            allocationSize = 50
+    )
     private long id;
 
     @Column(length = 50, nullable = false)
@@ -0,0 +1,7 @@
+package com.arnav.sms.exceptions;
+
+public class CourseFullException extends RuntimeException {
+    public CourseFullException(String message) {
+        super(message);
+    }
+}
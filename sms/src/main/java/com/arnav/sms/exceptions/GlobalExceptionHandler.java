@@ -1,7 +1,11 @@
 package com.arnav.sms.exceptions;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -113,6 +117,104 @@ import java.util.Map;
             return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
         }
 
+        // No free seat left in the course
+        @ExceptionHandler(CourseFullException.class)
+        public ResponseEntity<ErrorResponseWrapper> handleCourseFullException(
+                CourseFullException ex, WebRequest request) {
+
+            log.error("CourseFullException: {}", ex.getMessage());
+
+            ErrorResponseWrapper errorResponse = new ErrorResponseWrapper(
+                    LocalDateTime.now(),
+                    HttpStatus.CONFLICT.value(), "Conflict",
+                    ex.getMessage(),
+                    request.getDescription(false).replace("uri=", "")
+            );
+
+            return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        }
+
+        // Invalid page cursor
+        @ExceptionHandler(InvalidCursorException.class)
+        public ResponseEntity<ErrorResponseWrapper> handleInvalidCursorException(
+                InvalidCursorException ex, WebRequest request) {
+
+            log.error("InvalidCursorException: {}", ex.getMessage());
+
+            ErrorResponseWrapper errorResponse = new ErrorResponseWrapper(
+                    LocalDateTime.now(),
+                    HttpStatus.BAD_REQUEST.value(), "Bad Request",
+                    ex.getMessage(),
+                    request.getDescription(false).replace("uri=", "")
+            );
+
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+
+        // Student import job id unknown (or already dropped after retention)
+        @ExceptionHandler(ImportJobNotFoundException.class)
+        public ResponseEntity<ErrorResponseWrapper> handleImportJobNotFoundException(
+                ImportJobNotFoundException ex, WebRequest request) {
+
+            log.error("ImportJobNotFoundException: {}", ex.getMessage());
+
+            ErrorResponseWrapper errorResponse = new ErrorResponseWrapper(
+                    LocalDateTime.now(),
+                    HttpStatus.NOT_FOUND.value(), "Not Found",
+                    ex.getMessage(),
+                    request.getDescription(false).replace("uri=", "")
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        }
+
+        // Import upload rejected before the job starts (format, empty file)
+        @ExceptionHandler(InvalidImportException.class)
+        public ResponseEntity<ErrorResponseWrapper> handleInvalidImportException(
+                InvalidImportException ex, WebRequest request) {
+
+            log.error("InvalidImportException: {}", ex.getMessage());
+
+            ErrorResponseWrapper errorResponse = new ErrorResponseWrapper(
+                    LocalDateTime.now(),
+                    HttpStatus.BAD_REQUEST.value(), "Bad Request",
+                    ex.getMessage(),
+                    request.getDescription(false).replace("uri=", "")
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+
+        // Row changed by another request between read and write (@Version check) - client should re-send
+        @ExceptionHandler(OptimisticLockingFailureException.class)
+        public ResponseEntity<ErrorResponseWrapper> handleOptimisticLockingFailureException(
+                OptimisticLockingFailureException ex, WebRequest request) {
+
+            log.warn("OptimisticLockingFailureException: {}", ex.getMessage());
+
+            ErrorResponseWrapper errorResponse = new ErrorResponseWrapper(
+                    LocalDateTime.now(),
+                    HttpStatus.CONFLICT.value(), "Conflict",
+                    "Data was modified by another request, nothing was saved. Please retry",
+                    request.getDescription(false).replace("uri=", "")
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        }
+
+        // Bulk status change that has to go row by row (needs seats)
+        @ExceptionHandler(InvalidStatusTransitionException.class)
+        public ResponseEntity<ErrorResponseWrapper> handleInvalidStatusTransitionException(
+                InvalidStatusTransitionException ex, WebRequest request) {
+
+            log.error("InvalidStatusTransitionException: {}", ex.getMessage());
+
+            ErrorResponseWrapper errorResponse = new ErrorResponseWrapper(
+                    LocalDateTime.now(),
+                    HttpStatus.BAD_REQUEST.value(), "Bad Request",
+                    ex.getMessage(),
+                    request.getDescription(false).replace("uri=", "")
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+
         // Validation Exceptions
 
         @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -137,6 +239,59 @@ import java.util.Map;
             return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
         }
 
+        // Method parameter validation (@RequestParam / @RequestBody lists on @Validated controllers)
+        @ExceptionHandler(ConstraintViolationException.class)
+        public ResponseEntity<ErrorResponseWrapper> handleConstraintViolationException(
+                ConstraintViolationException ex, WebRequest request) {
+
+            log.error("ConstraintViolationException: {}", ex.getMessage());
+
+            Map<String, String> validationErrors = new HashMap<>();
+            ex.getConstraintViolations().forEach(violation ->
+                    validationErrors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+
+            ErrorResponseWrapper errorResponse = new ErrorResponseWrapper(
+                    LocalDateTime.now(),
+                    HttpStatus.BAD_REQUEST.value(), "validation Failed",
+                    "One or more Fields have validation errors",
+                    request.getDescription(false).replace("uri=", ""),
+                    validationErrors
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        }
+
+        // Accept header ka format is endpoint pe nahi hai (e.g. application/x-ndjson on a single-object endpoint)
+        @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+        public ResponseEntity<ErrorResponseWrapper> handleHttpMediaTypeNotAcceptableException(
+                HttpMediaTypeNotAcceptableException ex, WebRequest request) {
+
+            log.warn("HttpMediaTypeNotAcceptableException: {}", ex.getMessage());
+
+            ErrorResponseWrapper errorResponse = new ErrorResponseWrapper(
+                    LocalDateTime.now(),
+                    HttpStatus.NOT_ACCEPTABLE.value(), "Not Acceptable",
+                    "Requested response format is not available for this endpoint",
+                    request.getDescription(false).replace("uri=", "")
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.NOT_ACCEPTABLE);
+        }
+
+        // Content-Type ka format endpoint consume nahi karta (e.g. application/json on /api/students/import)
+        @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+        public ResponseEntity<ErrorResponseWrapper> handleHttpMediaTypeNotSupportedException(
+                HttpMediaTypeNotSupportedException ex, WebRequest request) {
+
+            log.warn("HttpMediaTypeNotSupportedException: {}", ex.getMessage());
+
+            ErrorResponseWrapper errorResponse = new ErrorResponseWrapper(
+                    LocalDateTime.now(),
+                    HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(), "Unsupported Media Type",
+                    ex.getMessage(),
+                    request.getDescription(false).replace("uri=", "")
+            );
+            return new ResponseEntity<>(errorResponse, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+        }
+
         // Generic Exception
         @ExceptionHandler(Exception.class)
         public ResponseEntity<ErrorResponseWrapper> handleException(Exception ex , WebRequest request) {
@@ -0,0 +1,7 @@
+package com.arnav.sms.exceptions;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.arnav.sms.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.arnav.sms.exceptions;
+
+// Upload could not be accepted (unsupported format, empty body, ...)
+public class InvalidImportException extends RuntimeException {
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.arnav.sms.exceptions;
+
+// Bulk status change that cannot run set-based (e.g. it would need seats in full courses)
+public class InvalidStatusTransitionException extends RuntimeException {
+    public InvalidStatusTransitionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,132 @@
+package com.arnav.sms.filter;
+
+import com.arnav.sms.exceptions.ErrorResponseWrapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps how many API requests run at once (registered by AdmissionControlConfig)
+ *
+ * With virtual threads Tomcat no longer limits concurrency (no 200-thread pool), so thousands of
+ * requests would otherwise block inside Hikari's getConnection() and time out there. Here they wait
+ * in a fair (FIFO) queue before any work starts, and get a quick 503 if no slot frees up in time.
+ * An async request (streamed export) holds its slot until the response is complete
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long waitMillis;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionControlFilter(int maxConcurrent, Duration waitTimeout, ObjectMapper objectMapper) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.waitMillis = waitTimeout.toMillis();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+
+        if (!admitted) {
+            reject(request, response);
+            return;
+        }
+        boolean heldByAsync = false;
+        try {
+            chain.doFilter(request, response);
+            // StreamingResponseBody (/export) keeps its connection after the handler returns,
+            // so the slot is given back only once the async request is over
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnAsyncEnd());
+                heldByAsync = true;
+            }
+        } finally {
+            if (!heldByAsync) {
+                permits.release();
+            }
+        }
+    }
+
+    // Releases the permit of an async request once; error and timeout are followed by complete
+    private final class ReleaseOnAsyncEnd implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        // a new async cycle drops the registered listeners: stay on it until the very end
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    // requests currently running
+    private int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.warn("Request rejected, {} requests in flight and {} waiting: {}",
+                inFlight(), permits.getQueueLength(), request.getRequestURI());
+
+        ErrorResponseWrapper errorResponse = new ErrorResponseWrapper(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable",
+                "Server is busy. Please try again shortly.",
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,53 @@
+package com.arnav.sms.filter;
+
+import com.arnav.sms.config.SqlMonitorProperties;
+import com.arnav.sms.metrics.SqlRequestStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Measures the JDBC work of every API request (SqlRequestStats) and logs one WARN line when the
+ * request crossed any app.sql-monitor limit - statement count, total JDBC time or rows read.
+ *
+ * The raw path (with query string) is logged, not the route pattern: the point is to find and
+ * replay the exact request. Registered by SqlMonitorConfig only when the monitor is enabled
+ */
+@Slf4j
+public class SqlMonitorFilter extends OncePerRequestFilter {
+
+    private final SqlMonitorProperties properties;
+
+    public SqlMonitorFilter(SqlMonitorProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        SqlRequestStats.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlRequestStats stats = SqlRequestStats.stop();
+            if (stats != null && exceedsLimits(stats)) {
+                String query = request.getQueryString();
+                log.warn("SQL limits exceeded: {} {}{} -> {} (limits: statements={}, jdbc-ms={}, rows={})",
+                        request.getMethod(), request.getRequestURI(), query != null ? "?" + query : "", stats,
+                        properties.getMaxStatements(), properties.getMaxJdbcTime().toMillis(), properties.getMaxRows());
+            }
+        }
+    }
+
+    private boolean exceedsLimits(SqlRequestStats stats) {
+        return stats.getStatements() > properties.getMaxStatements()
+                || stats.getJdbcNanos() > properties.getMaxJdbcTime().toNanos()
+                || stats.getRows() > properties.getMaxRows();
+    }
+}
@@ -0,0 +1,48 @@
+package com.arnav.sms.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Level-guarded logger for per-request lines - "REST request to ...", "Fetching ...", "Found N ..." -
+ * that controllers and services write on every call.
+ *
+ * Everything goes out at DEBUG under the owning class' logger, so dev (com.arnav.sms=DEBUG) sees
+ * the same lines as before while prod (INFO) pays one level check per call: the guard runs before
+ * any argument array is built or the message is formatted. Business events (created, deleted,
+ * bulk done) stay on the normal logger at INFO
+ */
+public final class HotPathLog {
+
+    private final Logger log;
+
+    private HotPathLog(Logger log) {
+        this.log = log;
+    }
+
+    public static HotPathLog of(Class<?> owner) {
+        return new HotPathLog(LoggerFactory.getLogger(owner));
+    }
+
+    public boolean isEnabled() {
+        return log.isDebugEnabled();
+    }
+
+    public void debug(String message) {
+        if (log.isDebugEnabled()) {
+            log.debug(message);
+        }
+    }
+
+    public void debug(String format, Object arg) {
+        if (log.isDebugEnabled()) {
+            log.debug(format, arg);
+        }
+    }
+
+    public void debug(String format, Object arg1, Object arg2) {
+        if (log.isDebugEnabled()) {
+            log.debug(format, arg1, arg2);
+        }
+    }
+}
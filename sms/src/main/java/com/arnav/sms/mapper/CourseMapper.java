@@ -20,6 +20,7 @@ public class CourseMapper {
         courseResponseDTO.setCredits(course.getCredits());
         courseResponseDTO.setInstructor(course.getInstructor());
         courseResponseDTO.setDescription(course.getDescription());
+        courseResponseDTO.setCapacity(course.getCapacity());
 
         return courseResponseDTO;
     }
@@ -34,6 +35,7 @@ public class CourseMapper {
         course.setCredits(courseRequestDTO.getCredits());
         course.setInstructor(courseRequestDTO.getInstructor());
         course.setDescription(courseRequestDTO.getDescription());
+        course.setCapacity(courseRequestDTO.getCapacity());
 
         return course;
     }
@@ -47,7 +49,7 @@ public class CourseMapper {
         course.setCredits(courseRequestDTO.getCredits());
         course.setInstructor(courseRequestDTO.getInstructor());
         course.setDescription(courseRequestDTO.getDescription());
-
+        course.setCapacity(courseRequestDTO.getCapacity());
 
     }
 }
@@ -17,6 +17,7 @@ public class EnrollmentMapper {
         responseDTO.setStudentName(enrollment.getStudent().getFirstName() + " " + enrollment.getStudent().getLastName());
         responseDTO.setCourseId(enrollment.getCourse().getId());
         responseDTO.setCourseName(enrollment.getCourse().getCourseName());
+        responseDTO.setCourseCode(enrollment.getCourse().getCourseCode());
         responseDTO.setEnrollmentDate(enrollment.getEnrollmentDate());
         responseDTO.setGrade(enrollment.getGrade());
         responseDTO.setStatus(enrollment.getStatus());
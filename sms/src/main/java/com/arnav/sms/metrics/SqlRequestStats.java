@@ -0,0 +1,69 @@
+package com.arnav.sms.metrics;
+
+/**
+ * JDBC work done on the current thread between start() and stop(): statements executed,
+ * time spent inside JDBC execute calls and rows read from result sets.
+ *
+ * Filled by the datasource-proxy listeners (SqlMonitorConfig), so unlike SqlStatementCounter it also
+ * sees plain JdbcTemplate SQL and counts a JDBC batch once per executeBatch.
+ * Rows are counted as successful ResultSet.next() calls, i.e. what the app actually read
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private long rows;
+    private long statementStartedAt;
+
+    public static void start() {
+        CURRENT.set(new SqlRequestStats());
+    }
+
+    // null if nothing is being measured on this thread (scheduled jobs, startup)
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static SqlRequestStats stop() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    public void statementStarted() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    public void statementFinished() {
+        statements++;
+        jdbcNanos += System.nanoTime() - statementStartedAt;
+    }
+
+    public void rowRead() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public double getJdbcMillis() {
+        return jdbcNanos / 1e6;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    // Header / log format: statements=3; jdbc-ms=1.27; rows=12
+    @Override
+    public String toString() {
+        return String.format("statements=%d; jdbc-ms=%.2f; rows=%d", statements, getJdbcMillis(), rows);
+    }
+}
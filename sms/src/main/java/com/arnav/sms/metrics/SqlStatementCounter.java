@@ -0,0 +1,55 @@
+package com.arnav.sms.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, between start() and stop()
+ * (SqlStatementMetricsFilter does that around every API request).
+ *
+ * Registered via hibernate.session_factory.statement_inspector (MetricsConfig), not a Spring bean.
+ * A JDBC batch is prepared once, so 50 batched inserts count as 1: the number tracks round trips, which
+ * is what an N+1 (e.g. one lazy student / course load per mapped enrollment) blows up.
+ *
+ * It also logs a random sample of statements (1 in sampleEvery, logger sms.sql.sample) - the prod
+ * replacement for show-sql / org.hibernate.SQL=DEBUG, which print every statement on the request thread
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final Logger SAMPLE_LOG = LoggerFactory.getLogger("sms.sql.sample");
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    // 0 = no sampling
+    private final int sampleEvery;
+
+    public SqlStatementCounter(int sampleEvery) {
+        this.sampleEvery = sampleEvery;
+    }
+
+    public static void start() {
+        CURRENT.set(new int[1]);
+    }
+
+    // statements since start(), -1 if nothing was being counted
+    public static int stop() {
+        int[] count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count[0] : -1;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        if (sampleEvery > 0 && ThreadLocalRandom.current().nextInt(sampleEvery) == 0) {
+            SAMPLE_LOG.info("Sampled SQL (1 in {}): {}", sampleEvery, sql);
+        }
+        return sql;
+    }
+}
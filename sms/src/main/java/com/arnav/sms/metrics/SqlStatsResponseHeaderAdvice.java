@@ -0,0 +1,42 @@
+package com.arnav.sms.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds X-SQL-Stats (statements=..; jdbc-ms=..; rows=..) to every API response, just before the body
+ * is written - headers cannot change after that, and with open-in-view off all SQL of the request
+ * has already run by then.
+ *
+ * Dev only: needs both app.sql-monitor.enabled and app.sql-monitor.response-header. Streaming
+ * endpoints (NDJSON / CSV export) bypass body advice and get no header - their numbers still
+ * reach the SqlMonitorFilter log
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = {"app.sql-monitor.enabled", "app.sql-monitor.response-header"}, havingValue = "true")
+public class SqlStatsResponseHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-SQL-Stats";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            response.getHeaders().set(HEADER, stats.toString());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,153 @@
+package com.arnav.sms.reactive;
+
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.dto.response.EnrollmentResponseDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.entity.EnrollmentStatus;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only queries for the reactive stack, plain SQL over R2DBC (no JPA session here).
+ * Lists come back as a Flux that is pulled from the driver as the client consumes it,
+ * so a slow client holds a few rows in memory, not the whole table
+ */
+public class ReactiveReadRepository implements DisposableBean {
+
+    // rows per driver round trip; demand beyond this is requested as the subscriber drains
+    private static final int FETCH_SIZE = 500;
+
+    private static final String STUDENT_SELECT =
+            "SELECT id, first_name, last_name, email, phone, date_of_birth, address, enrollment_date FROM student";
+
+    private static final String COURSE_SELECT =
+            "SELECT id, course_name, course_code, credits, instructor, description, capacity FROM course";
+
+    private static final String ENROLLMENT_SELECT =
+            "SELECT e.id, s.id AS student_id, CONCAT(s.first_name, ' ', s.last_name) AS student_name, "
+                    + "c.id AS course_id, c.course_name, c.course_code, e.enrollment_date, e.grade, e.status "
+                    + "FROM enrollments e JOIN student s ON s.id = e.student_id JOIN course c ON c.id = e.course_id";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReadRepository(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    // ---------- Students ----------
+
+    public Flux<StudentResponseDTO> findAllStudents() {
+        return sql(STUDENT_SELECT + " ORDER BY id").map(ReactiveReadRepository::toStudent).all();
+    }
+
+    public Mono<StudentResponseDTO> findStudentById(Long id) {
+        return sql(STUDENT_SELECT + " WHERE id = :id").bind("id", id)
+                .map(ReactiveReadRepository::toStudent).one();
+    }
+
+    public Mono<StudentResponseDTO> findStudentByEmail(String email) {
+        return sql(STUDENT_SELECT + " WHERE email = :email").bind("email", email)
+                .map(ReactiveReadRepository::toStudent).one();
+    }
+
+    // ---------- Courses ----------
+
+    public Flux<CourseResponseDTO> findAllCourses() {
+        return sql(COURSE_SELECT + " ORDER BY id").map(ReactiveReadRepository::toCourse).all();
+    }
+
+    public Mono<CourseResponseDTO> findCourseById(Long id) {
+        return sql(COURSE_SELECT + " WHERE id = :id").bind("id", id)
+                .map(ReactiveReadRepository::toCourse).one();
+    }
+
+    public Mono<CourseResponseDTO> findCourseByCode(String courseCode) {
+        return sql(COURSE_SELECT + " WHERE course_code = :code").bind("code", courseCode)
+                .map(ReactiveReadRepository::toCourse).one();
+    }
+
+    public Flux<CourseResponseDTO> findCoursesByInstructor(String instructor) {
+        return sql(COURSE_SELECT + " WHERE instructor = :instructor ORDER BY id").bind("instructor", instructor)
+                .map(ReactiveReadRepository::toCourse).all();
+    }
+
+    // ---------- Enrollments ----------
+
+    public Flux<EnrollmentResponseDTO> findAllEnrollments() {
+        return sql(ENROLLMENT_SELECT + " ORDER BY e.id").map(ReactiveReadRepository::toEnrollment).all();
+    }
+
+    public Mono<EnrollmentResponseDTO> findEnrollmentById(Long id) {
+        return sql(ENROLLMENT_SELECT + " WHERE e.id = :id").bind("id", id)
+                .map(ReactiveReadRepository::toEnrollment).one();
+    }
+
+    public Flux<EnrollmentResponseDTO> findEnrollmentsByStudent(Long studentId) {
+        return sql(ENROLLMENT_SELECT + " WHERE e.student_id = :studentId ORDER BY e.id").bind("studentId", studentId)
+                .map(ReactiveReadRepository::toEnrollment).all();
+    }
+
+    public Flux<EnrollmentResponseDTO> findEnrollmentsByCourse(Long courseId) {
+        return sql(ENROLLMENT_SELECT + " WHERE e.course_id = :courseId ORDER BY e.id").bind("courseId", courseId)
+                .map(ReactiveReadRepository::toEnrollment).all();
+    }
+
+    public Flux<EnrollmentResponseDTO> findEnrollmentsByStatus(EnrollmentStatus status) {
+        return sql(ENROLLMENT_SELECT + " WHERE e.status = :status ORDER BY e.id").bind("status", status.name())
+                .map(ReactiveReadRepository::toEnrollment).all();
+    }
+
+    private DatabaseClient.GenericExecuteSpec sql(String sql) {
+        return databaseClient.sql(sql)
+                .filter((statement, next) -> next.execute(statement.fetchSize(FETCH_SIZE)));
+    }
+
+    private static StudentResponseDTO toStudent(Readable row) {
+        return new StudentResponseDTO(
+                row.get("id", Long.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("email", String.class),
+                row.get("phone", String.class),
+                row.get("date_of_birth", LocalDate.class),
+                row.get("address", String.class),
+                row.get("enrollment_date", LocalDate.class));
+    }
+
+    private static CourseResponseDTO toCourse(Readable row) {
+        return new CourseResponseDTO(
+                row.get("id", Long.class),
+                row.get("course_name", String.class),
+                row.get("course_code", String.class),
+                row.get("credits", Integer.class),
+                row.get("instructor", String.class),
+                row.get("description", String.class),
+                row.get("capacity", Integer.class));
+    }
+
+    private static EnrollmentResponseDTO toEnrollment(Readable row) {
+        return new EnrollmentResponseDTO(
+                row.get("id", Long.class),
+                row.get("student_id", Long.class),
+                row.get("student_name", String.class),
+                row.get("course_id", Long.class),
+                row.get("course_name", String.class),
+                row.get("course_code", String.class),
+                row.get("enrollment_date", LocalDate.class),
+                row.get("grade", String.class),
+                EnrollmentStatus.valueOf(row.get("status", String.class)));
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,114 @@
+package com.arnav.sms.reactive;
+
+import com.arnav.sms.dto.api.ApiResponse;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.exceptions.ErrorResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * GET endpoints of the reactive read stack - same paths as the MVC controllers, read-only.
+ *
+ * Single items keep the ApiResponse envelope. Lists are streamed as they come out of the database:
+ * a plain JSON array, or one object per line with Accept: application/x-ndjson. They are not wrapped
+ * in ApiResponse, since the "Total: n" message would need the whole list in memory first
+ */
+@Slf4j
+public class ReactiveReadRoutes {
+
+    private static final MediaType NDJSON = MediaType.APPLICATION_NDJSON;
+
+    private final ReactiveReadRepository repository;
+
+    public ReactiveReadRoutes(ReactiveReadRepository repository) {
+        this.repository = repository;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return route()
+                // Students
+                .GET("/api/students", request -> list(request, repository::findAllStudents))
+                .GET("/api/students/email/{email}", request -> one(request,
+                        () -> repository.findStudentByEmail(request.pathVariable("email")),
+                        "Student retrieved successfully", "Student with email %s not found"))
+                .GET("/api/students/{id}", request -> one(request,
+                        () -> repository.findStudentById(id(request, "id")),
+                        "Student Found Successfully", "Student with id %s not found"))
+                // Courses
+                .GET("/api/courses", request -> list(request, repository::findAllCourses))
+                .GET("/api/courses/code/{courseCode}", request -> one(request,
+                        () -> repository.findCourseByCode(request.pathVariable("courseCode")),
+                        "Course retrieved successfully", "Course with code %s does not exists"))
+                .GET("/api/courses/instructor/{instructor}", request -> list(request,
+                        () -> repository.findCoursesByInstructor(request.pathVariable("instructor"))))
+                .GET("/api/courses/{id}", request -> one(request,
+                        () -> repository.findCourseById(id(request, "id")),
+                        "Course retrieved successfully", "Course not found with ID: %s"))
+                // Enrollments
+                .GET("/api/enrollments", request -> list(request, repository::findAllEnrollments))
+                .GET("/api/enrollments/student/{studentId}", request -> list(request,
+                        () -> repository.findEnrollmentsByStudent(id(request, "studentId"))))
+                .GET("/api/enrollments/course/{courseId}", request -> list(request,
+                        () -> repository.findEnrollmentsByCourse(id(request, "courseId"))))
+                .GET("/api/enrollments/status/{status}", request -> list(request,
+                        () -> repository.findEnrollmentsByStatus(
+                                EnrollmentStatus.valueOf(request.pathVariable("status").toUpperCase()))))
+                .GET("/api/enrollments/{id}", request -> one(request,
+                        () -> repository.findEnrollmentById(id(request, "id")),
+                        "Enrollment retrieved successfully", "Enrollment not found with ID: %s"))
+                // bad id / unknown status -> 400, baaki sab 500 (same shape as GlobalExceptionHandler)
+                .onError(IllegalArgumentException.class, (ex, request) ->
+                        error(request, HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage()))
+                .onError(Exception.class, (ex, request) -> {
+                    log.error("Unexpected Error Occurred Exception: {}", ex.getMessage());
+                    return error(request, HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server error",
+                            "An Unexpected Error Occurred. Please try again later.");
+                })
+                .build();
+    }
+
+    // Streams the rows; the Flux is only pulled as fast as the connection drains.
+    // Queries are built lazily so a bad path variable ends up in onError (400) instead of escaping the handler
+    private static <T> Mono<ServerResponse> list(ServerRequest request, Supplier<Flux<T>> rows) {
+        // NDJSON only when asked for by name - */* stays a JSON array like the MVC endpoints
+        boolean ndjson = request.headers().accept().stream().anyMatch(NDJSON::equalsTypeAndSubtype);
+        return Mono.defer(() -> ServerResponse.ok()
+                .contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON)
+                .body(rows.get(), Object.class));
+    }
+
+    private static <T> Mono<ServerResponse> one(ServerRequest request, Supplier<Mono<T>> row,
+                                                String message, String notFoundMessage) {
+        return Mono.defer(row).flatMap(data -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(ApiResponse.success(message, data)))
+                .switchIfEmpty(Mono.defer(() -> error(request, HttpStatus.NOT_FOUND, "Not Found",
+                        String.format(notFoundMessage, lastSegment(request)))));
+    }
+
+    private static Mono<ServerResponse> error(ServerRequest request, HttpStatus status, String error, String message) {
+        return ServerResponse.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErrorResponseWrapper(LocalDateTime.now(), status.value(), error, message, request.path()));
+    }
+
+    private static Long id(ServerRequest request, String name) {
+        return Long.valueOf(request.pathVariable(name));
+    }
+
+    private static String lastSegment(ServerRequest request) {
+        String path = request.path();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.arnav.sms.reactive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Reactor Netty server for the reactive read routes, on its own port next to Tomcat.
+ * A few event-loop threads serve every connection; a slow client costs a socket and
+ * some buffered rows, not a blocked request thread
+ */
+@Slf4j
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private final HttpHandler httpHandler;
+    private final int port;
+    private volatile DisposableServer server;
+
+    public ReactiveReadServer(HttpHandler httpHandler, int port) {
+        this.httpHandler = httpHandler;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        log.info("Reactive read stack listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    // Actual port (useful with port 0 in tests), -1 when not running
+    public int getPort() {
+        DisposableServer current = server;
+        return current != null ? current.port() : -1;
+    }
+}
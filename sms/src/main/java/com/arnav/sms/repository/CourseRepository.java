@@ -1,20 +1,36 @@
 package com.arnav.sms.repository;
 
 import com.arnav.sms.entity.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
+    // Query-cache region for course lookups (invalidated by Hibernate on any course write)
+    String QUERY_CACHE_REGION = "query.course";
+
     // CRUD - Already available ✅
 
     // Custom Methods
     Optional<Course> findByCourseCode(String courseCode);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<Course> findByCourseNameContainingIgnoreCase(String courseName);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<Course> findByInstructor(String instructor);
 
     boolean existsByCourseCode(String courseCode);
@@ -23,4 +39,10 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
 
     List<Course> findByCreditsGreaterThanEqual(Integer credits);
 
+    // Keyset page: next `limit` courses after the given id
+    List<Course> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Export / search index load: the whole table in id order, run through StreamingQueries
+    String STREAM_ALL = "SELECT c FROM Course c ORDER BY c.id";
+
 }
@@ -0,0 +1,59 @@
+package com.arnav.sms.repository;
+
+import com.arnav.sms.entity.CourseSeatStripe;
+import com.arnav.sms.entity.CourseSeatStripeId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface CourseSeatStripeRepository extends JpaRepository<CourseSeatStripe, CourseSeatStripeId> {
+
+    // Take one seat from a stripe if it has any: 1 = got it, 0 = stripe empty. Never oversells,
+    // the row lock is held only by enrollments that picked this stripe
+    @Modifying
+    @Query("UPDATE CourseSeatStripe s SET s.seatsLeft = s.seatsLeft - 1 " +
+            "WHERE s.id.courseId = ?1 AND s.id.stripe = ?2 AND s.seatsLeft > 0")
+    int takeSeat(Long courseId, int stripe);
+
+    // Give a released seat back to a stripe
+    @Modifying
+    @Query("UPDATE CourseSeatStripe s SET s.seatsLeft = s.seatsLeft + 1 WHERE s.id.courseId = ?1 AND s.id.stripe = ?2")
+    int returnSeat(Long courseId, int stripe);
+
+    // Give several released seats back at once (bulk status change)
+    @Modifying
+    @Query("UPDATE CourseSeatStripe s SET s.seatsLeft = s.seatsLeft + ?3 WHERE s.id.courseId = ?1 AND s.id.stripe = ?2")
+    int returnSeats(Long courseId, int stripe, int seats);
+
+    // Current free seats per stripe (projection: not affected by the bulk updates above)
+    @Query("SELECT s.id.stripe AS stripe, s.seatsLeft AS seatsLeft FROM CourseSeatStripe s " +
+            "WHERE s.id.courseId = ?1 ORDER BY s.id.stripe")
+    List<StripeRow> findRows(Long courseId);
+
+    // Capacity change: row-lock every stripe of the course (no-op update), so seat takes wait for the new counts.
+    // Bulk statements + projections only: managed stripe entities would go stale after the updates above
+    @Modifying
+    @Query("UPDATE CourseSeatStripe s SET s.seatsLeft = s.seatsLeft WHERE s.id.courseId = ?1")
+    int lockStripes(Long courseId);
+
+    @Modifying
+    @Query("UPDATE CourseSeatStripe s SET s.seatsLeft = ?3 WHERE s.id.courseId = ?1 AND s.id.stripe = ?2")
+    int setSeats(Long courseId, int stripe, int seatsLeft);
+
+    // stripes beyond a lowered app.seats.stripes
+    @Modifying
+    @Query("DELETE FROM CourseSeatStripe s WHERE s.id.courseId = ?1 AND s.id.stripe >= ?2")
+    int deleteStripesFrom(Long courseId, int stripe);
+
+    @Modifying
+    @Query("DELETE FROM CourseSeatStripe s WHERE s.id.courseId = ?1")
+    int deleteByCourseId(Long courseId);
+
+    interface StripeRow {
+        Integer getStripe();
+
+        Integer getSeatsLeft();
+    }
+}
@@ -0,0 +1,55 @@
+package com.arnav.sms.repository;
+
+import com.arnav.sms.entity.CounterOwnerType;
+import com.arnav.sms.entity.EnrollmentCounter;
+import com.arnav.sms.entity.EnrollmentCounterId;
+import com.arnav.sms.entity.EnrollmentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface EnrollmentCounterRepository extends JpaRepository<EnrollmentCounter, EnrollmentCounterId> {
+
+    // Atomic upsert: adds delta in the database (row lock until commit), so concurrent enrollments
+    // never lose an update. The query-space hint tells Hibernate only this table changed -
+    // without it a native update evicts the whole second-level cache
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "enrollment_counters"))
+    @Query(value = "INSERT INTO enrollment_counters (owner_type, owner_id, status, slot, enrollment_count) " +
+            "VALUES (:ownerType, :ownerId, :status, :slot, :delta) " +
+            "ON DUPLICATE KEY UPDATE enrollment_count = enrollment_count + :delta", nativeQuery = true)
+    int increment(@Param("ownerType") String ownerType, @Param("ownerId") Long ownerId,
+                  @Param("status") String status, @Param("slot") int slot, @Param("delta") long delta);
+
+    // Reads are projections, not entities: a managed EnrollmentCounter would not see the native increments
+    // One row per status, summed over slots (primary key prefix range)
+    @Query("SELECT c.id.ownerType AS ownerType, c.id.ownerId AS ownerId, c.id.status AS status, SUM(c.count) AS count " +
+            "FROM EnrollmentCounter c WHERE c.id.ownerType = ?1 AND c.id.ownerId = ?2 " +
+            "GROUP BY c.id.ownerType, c.id.ownerId, c.id.status")
+    List<CounterRow> findRows(CounterOwnerType ownerType, Long ownerId);
+
+    @Query("SELECT c.id.ownerType AS ownerType, c.id.ownerId AS ownerId, c.id.status AS status, SUM(c.count) AS count " +
+            "FROM EnrollmentCounter c WHERE c.id.ownerType = ?1 " +
+            "GROUP BY c.id.ownerType, c.id.ownerId, c.id.status")
+    List<CounterRow> findRows(CounterOwnerType ownerType);
+
+    @Modifying
+    @Query("DELETE FROM EnrollmentCounter c WHERE c.id.ownerType = ?1 AND c.id.ownerId = ?2")
+    int deleteRows(CounterOwnerType ownerType, Long ownerId);
+
+    interface CounterRow {
+        CounterOwnerType getOwnerType();
+
+        Long getOwnerId();
+
+        EnrollmentStatus getStatus();
+
+        Long getCount();
+    }
+}
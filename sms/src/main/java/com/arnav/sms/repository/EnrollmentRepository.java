@@ -1,16 +1,31 @@
 package com.arnav.sms.repository;
 
+import com.arnav.sms.dto.response.CourseEnrollmentCountDTO;
+import com.arnav.sms.dto.response.EnrollmentResponseDTO;
 import com.arnav.sms.entity.Enrollment;
 import com.arnav.sms.entity.EnrollmentStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
+    // Listing read path: student + course are joined in the same query and the row is
+    // built directly into the response DTO, so no lazy association is ever touched (no N+1)
+    String ENROLLMENT_DTO_SELECT = "SELECT new com.arnav.sms.dto.response.EnrollmentResponseDTO(" +
+            "e.id, s.id, CONCAT(s.firstName, ' ', s.lastName), c.id, c.courseName, c.courseCode, " +
+            "e.enrollmentDate, e.grade, e.status) " +
+            "FROM Enrollment e JOIN e.student s JOIN e.course c";
+
     // CRUD - Already available ✅
 
     // Custom Methods
@@ -36,5 +51,137 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
     @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.course.id = ?1")
     Long countEnrollmentsByCourseId(Long courseId);
-}
 
+    // DTO projections (single joined select per call)
+    @Query(ENROLLMENT_DTO_SELECT + " ORDER BY e.id")
+    List<EnrollmentResponseDTO> findAllProjected();
+
+    @Query(ENROLLMENT_DTO_SELECT + " WHERE s.id = ?1 ORDER BY e.id")
+    List<EnrollmentResponseDTO> findProjectedByStudentId(Long studentId);
+
+    @Query(ENROLLMENT_DTO_SELECT + " WHERE c.id = ?1 ORDER BY e.id")
+    List<EnrollmentResponseDTO> findProjectedByCourseId(Long courseId);
+
+    @Query(ENROLLMENT_DTO_SELECT + " WHERE e.status = ?1 ORDER BY e.id")
+    List<EnrollmentResponseDTO> findProjectedByStatus(EnrollmentStatus status);
+
+    @Query(ENROLLMENT_DTO_SELECT + " WHERE s.id = ?1 AND e.status = ?2 ORDER BY e.id")
+    List<EnrollmentResponseDTO> findProjectedByStudentIdAndStatus(Long studentId, EnrollmentStatus status);
+
+    // Keyset page: next `limit` enrollments after the given id
+    @Query(ENROLLMENT_DTO_SELECT + " WHERE e.id > ?1 ORDER BY e.id")
+    List<EnrollmentResponseDTO> findProjectedPage(Long afterId, Limit limit);
+
+    // Export: every enrollment as a DTO row in id order, run through StreamingQueries
+    String STREAM_ALL_PROJECTED = ENROLLMENT_DTO_SELECT + " ORDER BY e.id";
+
+    // Dashboard: newest enrollments first
+    @Query(ENROLLMENT_DTO_SELECT + " ORDER BY e.id DESC")
+    List<EnrollmentResponseDTO> findRecentProjected(Limit limit);
+
+    // Dashboard: one row per status
+    @Query("SELECT e.status AS status, COUNT(e) AS count FROM Enrollment e GROUP BY e.status")
+    List<StatusCount> countGroupedByStatus();
+
+    // Dashboard: courses with the most enrollments
+    @Query("SELECT new com.arnav.sms.dto.response.CourseEnrollmentCountDTO(c.id, c.courseCode, c.courseName, COUNT(e)) " +
+            "FROM Enrollment e JOIN e.course c " +
+            "GROUP BY c.id, c.courseCode, c.courseName ORDER BY COUNT(e) DESC, c.id")
+    List<CourseEnrollmentCountDTO> findTopCoursesByEnrollments(Limit limit);
+
+    // Counter reconciliation / cascaded deletes: enrollments grouped by owner and status
+    @Query("SELECT e.student.id AS ownerId, e.status AS status, COUNT(e) AS count FROM Enrollment e " +
+            "GROUP BY e.student.id, e.status")
+    List<OwnerStatusCount> countGroupedByStudentAndStatus();
+
+    @Query("SELECT e.course.id AS ownerId, e.status AS status, COUNT(e) AS count FROM Enrollment e " +
+            "GROUP BY e.course.id, e.status")
+    List<OwnerStatusCount> countGroupedByCourseAndStatus();
+
+    @Query("SELECT e.course.id AS ownerId, e.status AS status, COUNT(e) AS count FROM Enrollment e " +
+            "WHERE e.student.id = ?1 GROUP BY e.course.id, e.status")
+    List<OwnerStatusCount> countGroupedByCourseAndStatusForStudent(Long studentId);
+
+    @Query("SELECT e.student.id AS ownerId, e.status AS status, COUNT(e) AS count FROM Enrollment e " +
+            "WHERE e.course.id = ?1 GROUP BY e.student.id, e.status")
+    List<OwnerStatusCount> countGroupedByStudentAndStatusForCourse(Long courseId);
+
+    // Waitlist, oldest first; rows are locked so two released seats never promote the same student
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Enrollment e WHERE e.course.id = ?1 AND e.status = ?2 ORDER BY e.id")
+    List<Enrollment> lockByCourseIdAndStatus(Long courseId, EnrollmentStatus status, Limit limit);
+
+    // Bulk enroll: existing (student, course) pairs for a whole batch in one query (uk_student_course)
+    @Query("SELECT e.student.id AS studentId, e.course.id AS courseId FROM Enrollment e " +
+            "WHERE e.student.id IN ?1 AND e.course.id IN ?2")
+    List<EnrollmentKey> findExistingKeys(Collection<Long> studentIds, Collection<Long> courseIds);
+
+    // Bulk status change: lock the next chunk of matching rows (keyset on id). Null filters match everything
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Enrollment e WHERE e.status = :status AND e.id > :afterId " +
+            "AND (:courseId IS NULL OR e.course.id = :courseId) " +
+            "AND (:studentId IS NULL OR e.student.id = :studentId) " +
+            "AND (:enrolledFrom IS NULL OR e.enrollmentDate >= :enrolledFrom) " +
+            "AND (:enrolledTo IS NULL OR e.enrollmentDate <= :enrolledTo) " +
+            "ORDER BY e.id")
+    List<Enrollment> lockForTransition(@Param("status") EnrollmentStatus status, @Param("afterId") Long afterId,
+                                       @Param("courseId") Long courseId, @Param("studentId") Long studentId,
+                                       @Param("enrolledFrom") LocalDate enrolledFrom,
+                                       @Param("enrolledTo") LocalDate enrolledTo, Limit limit);
+
+    // One UPDATE for the locked chunk; bumps the version like an entity update would
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Enrollment e SET e.status = :status, e.version = e.version + 1 WHERE e.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") EnrollmentStatus status);
+
+    // Transcript of one student: one joined projection, reduced in memory (TranscriptService)
+    @Query("SELECT c.courseCode AS courseCode, c.courseName AS courseName, c.credits AS credits, " +
+            "e.grade AS grade, e.status AS status FROM Enrollment e JOIN e.course c " +
+            "WHERE e.student.id = ?1 AND e.status IN ?2 ORDER BY e.enrollmentDate, e.id")
+    List<TranscriptRow> findTranscriptRows(Long studentId, Collection<EnrollmentStatus> statuses);
+
+    // Cohort GPA: every graded enrollment, three columns per row
+    @Query("SELECT e.student.id AS studentId, c.credits AS credits, e.grade AS grade FROM Enrollment e " +
+            "JOIN e.course c WHERE e.status IN ?1 AND e.grade IS NOT NULL")
+    List<GradeRow> findGradeRows(Collection<EnrollmentStatus> statuses);
+
+    interface EnrollmentKey {
+        Long getStudentId();
+
+        Long getCourseId();
+    }
+
+    interface TranscriptRow {
+        String getCourseCode();
+
+        String getCourseName();
+
+        Integer getCredits();
+
+        String getGrade();
+
+        EnrollmentStatus getStatus();
+    }
+
+    interface GradeRow {
+        Long getStudentId();
+
+        Integer getCredits();
+
+        String getGrade();
+    }
+
+    interface OwnerStatusCount {
+        Long getOwnerId();
+
+        EnrollmentStatus getStatus();
+
+        Long getCount();
+    }
+
+    interface StatusCount {
+        EnrollmentStatus getStatus();
+
+        Long getCount();
+    }
+}
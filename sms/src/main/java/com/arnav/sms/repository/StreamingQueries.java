@@ -0,0 +1,44 @@
+package com.arnav.sms.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Forward-only cursors for full-table reads (NDJSON exports, search index load)
+ *
+ * Connector/J ignores a positive fetch size unless the URL sets useCursorFetch=true, and that flag
+ * turns on server-side prepared statements for every pooled connection. Integer.MIN_VALUE streams
+ * just this result set row by row instead; the connection can run nothing else until the stream is
+ * closed, so callers must not touch lazy associations while iterating. Other databases (H2 in tests)
+ * get a plain fetch size
+ */
+@Component
+public class StreamingQueries {
+
+    // Rows per JDBC round trip where the driver honours a positive fetch size
+    static final int FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public StreamingQueries(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        boolean mysql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+        this.fetchSize = mysql ? Integer.MIN_VALUE : FETCH_SIZE;
+    }
+
+    // Read-only rows of a JPQL query, in its order (caller must close the stream)
+    public <T> Stream<T> stream(String jpql, Class<T> type) {
+        return entityManager.createQuery(jpql, type)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -1,10 +1,12 @@
 package com.arnav.sms.repository;
 
 import com.arnav.sms.entity.Student;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,9 +24,21 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
 
     boolean existsByEmail(String email);
 
+    // Import: which of these emails already exist (one IN query per chunk)
+    List<Student> findByEmailIn(Collection<String> emails);
+
     List<Student> findByEnrollmentDateBetween(LocalDate startDate, LocalDate endDate);
 
     // YE QUERY DEKHNA PDEGAAA
     @Query("SELECT s FROM Student s WHERE CONCAT(s.firstName, ' ', s.lastName) LIKE %?1%")
     List<Student> searchByFullName(String name);
+
+    // Keyset page: next `limit` students after the given id
+    List<Student> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+    // Dashboard: newest students first
+    List<Student> findAllByOrderByIdDesc(Limit limit);
+
+    // Export / search index load: the whole table in id order, run through StreamingQueries
+    String STREAM_ALL = "SELECT s FROM Student s ORDER BY s.id";
 }
@@ -0,0 +1,74 @@
+package com.arnav.sms.search;
+
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.mapper.CourseMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * In-memory typeahead index over course code, name, instructor and description
+ *
+ * WHY: findByCourseNameContainingIgnoreCase / findByInstructor index use nahi kar sakte,
+ * aur courses.js pura catalogue download karke browser mein filter karta tha
+ * Ranking: code > name > instructor > description (see TokenIndex).
+ * Kept current by CourseSearchListener, rebuilt from DB by SearchIndexLoader
+ */
+@Component
+@Slf4j
+public class CourseSearchIndex {
+
+    static final int CODE_WEIGHT = 4;
+    static final int NAME_WEIGHT = 3;
+    static final int INSTRUCTOR_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    private final CourseMapper courseMapper;
+    private final TokenIndex<CourseResponseDTO> index = new TokenIndex<>();
+
+    private volatile boolean ready;
+
+    public CourseSearchIndex(CourseMapper courseMapper) {
+        this.courseMapper = courseMapper;
+    }
+
+    // Until the startup rebuild is done, callers should fall back to the DB query
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void rebuild(Stream<Course> courses) {
+        index.rebuild(fresh -> courses.forEach(course -> index(fresh, course)));
+        ready = true;
+        log.info("Course search index rebuilt with {} courses and {} tokens", index.size(), index.vocabularySize());
+    }
+
+    // Add or replace one course
+    public void index(Course course) {
+        index(index, course);
+    }
+
+    private void index(TokenIndex<CourseResponseDTO> target, Course course) {
+        Map<String, Integer> tokens = new HashMap<>();
+        TokenIndex.addTokens(tokens, course.getCourseCode(), CODE_WEIGHT);
+        TokenIndex.addTokens(tokens, course.getCourseName(), NAME_WEIGHT);
+        TokenIndex.addTokens(tokens, course.getInstructor(), INSTRUCTOR_WEIGHT);
+        TokenIndex.addTokens(tokens, course.getDescription(), DESCRIPTION_WEIGHT);
+
+        target.put(course.getId(), tokens, courseMapper.toCourseResponseDTO(course));
+    }
+
+    public void remove(long courseId) {
+        index.remove(courseId);
+    }
+
+    // Typeahead: prefix matches only (no fuzzy), best matches first
+    public List<CourseResponseDTO> suggest(String query, int limit) {
+        return index.search(query, limit, false);
+    }
+}
@@ -0,0 +1,33 @@
+package com.arnav.sms.search;
+
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.support.TransactionCallbacks;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA lifecycle listener on Course that keeps CourseSearchIndex in sync (after commit)
+ */
+@Component
+public class CourseSearchListener {
+
+    private final CourseSearchIndex courseSearchIndex;
+
+    public CourseSearchListener(CourseSearchIndex courseSearchIndex) {
+        this.courseSearchIndex = courseSearchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Course course) {
+        TransactionCallbacks.afterCommit(() -> courseSearchIndex.index(course));
+    }
+
+    @PostRemove
+    public void onRemove(Course course) {
+        long courseId = course.getId();
+        TransactionCallbacks.afterCommit(() -> courseSearchIndex.remove(courseId));
+    }
+}
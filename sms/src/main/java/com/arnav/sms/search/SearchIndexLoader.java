@@ -0,0 +1,74 @@
+package com.arnav.sms.search;
+
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.repository.CourseRepository;
+import com.arnav.sms.repository.StreamingQueries;
+import com.arnav.sms.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds the in-memory search indexes from the database once the application is up,
+ * in the background (searches use the DB queries until this finishes)
+ */
+@Component
+@Slf4j
+public class SearchIndexLoader {
+
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final StreamingQueries streamingQueries;
+    private final StudentSearchIndex studentSearchIndex;
+    private final CourseSearchIndex courseSearchIndex;
+    private final EntityManager entityManager;
+
+    public SearchIndexLoader(StreamingQueries streamingQueries,
+                             StudentSearchIndex studentSearchIndex,
+                             CourseSearchIndex courseSearchIndex,
+                             EntityManager entityManager) {
+        this.streamingQueries = streamingQueries;
+        this.studentSearchIndex = studentSearchIndex;
+        this.courseSearchIndex = courseSearchIndex;
+        this.entityManager = entityManager;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadIndexes() {
+        long start = System.currentTimeMillis();
+
+        try (Stream<Student> students = streamingQueries.stream(StudentRepository.STREAM_ALL, Student.class)) {
+            studentSearchIndex.rebuild(clearingPeriodically(students));
+        } catch (RuntimeException ex) {
+            log.error("Student search index build failed, search stays on the database: {}", ex.getMessage());
+        }
+
+        try (Stream<Course> courses = streamingQueries.stream(CourseRepository.STREAM_ALL, Course.class)) {
+            courseSearchIndex.rebuild(clearingPeriodically(courses));
+        } catch (RuntimeException ex) {
+            log.error("Course search index build failed, suggest stays on the database: {}", ex.getMessage());
+        }
+
+        log.info("Search indexes ready in {} ms", System.currentTimeMillis() - start);
+    }
+
+    // indexed rows ko persistence context se hatate raho
+    private <T> Stream<T> clearingPeriodically(Stream<T> rows) {
+        AtomicLong count = new AtomicLong();
+        return rows.peek(row -> {
+            if (count.incrementAndGet() % CLEAR_INTERVAL == 0) {
+                entityManager.clear();
+            }
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.arnav.sms.search;
+
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.mapper.StudentMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * In-memory search index over student name, email and phone
+ *
+ * WHY: "CONCAT(firstName, ' ', lastName) LIKE %x%" har keystroke pe full table scan karta hai
+ * Ranked prefix + typo tolerant matching (see TokenIndex), name > email > phone.
+ * Kept current by StudentSearchListener, rebuilt from DB by SearchIndexLoader
+ */
+@Component
+@Slf4j
+public class StudentSearchIndex {
+
+    static final int NAME_WEIGHT = 3;
+    static final int EMAIL_WEIGHT = 2;
+    static final int PHONE_WEIGHT = 1;
+
+    private final StudentMapper studentMapper;
+    private final TokenIndex<StudentResponseDTO> index = new TokenIndex<>();
+
+    private volatile boolean ready;
+
+    public StudentSearchIndex(StudentMapper studentMapper) {
+        this.studentMapper = studentMapper;
+    }
+
+    // Until the startup rebuild is done, callers should fall back to the DB query
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public void rebuild(Stream<Student> students) {
+        // built off to the side and swapped in; listener commits during the load win over the streamed rows
+        index.rebuild(fresh -> students.forEach(student -> index(fresh, student)));
+        ready = true;
+        log.info("Student search index rebuilt with {} students and {} tokens", index.size(), index.vocabularySize());
+    }
+
+    // Add or replace one student
+    public void index(Student student) {
+        index(index, student);
+    }
+
+    private void index(TokenIndex<StudentResponseDTO> target, Student student) {
+        Map<String, Integer> tokens = new HashMap<>();
+        TokenIndex.addTokens(tokens, student.getFirstName(), NAME_WEIGHT);
+        TokenIndex.addTokens(tokens, student.getLastName(), NAME_WEIGHT);
+        addEmailTokens(tokens, student.getEmail());
+        TokenIndex.addTokens(tokens, student.getPhone(), PHONE_WEIGHT);
+
+        target.put(student.getId(), tokens, studentMapper.toResponseDTO(student));
+    }
+
+    public void remove(long studentId) {
+        index.remove(studentId);
+    }
+
+    // Ranked search: best matches first, at most `limit` results
+    public List<StudentResponseDTO> search(String query, int limit) {
+        return index.search(query, limit, true);
+    }
+
+    // whole address, local part and its pieces ("john.doe@x.com" -> john.doe@x.com, john.doe, john, doe, x, com)
+    private void addEmailTokens(Map<String, Integer> tokens, String email) {
+        if (email == null || email.isBlank()) {
+            return;
+        }
+        String normalized = email.toLowerCase(Locale.ROOT).trim();
+        tokens.merge(normalized, EMAIL_WEIGHT, Math::max);
+        int at = normalized.indexOf('@');
+        if (at > 0) {
+            tokens.merge(normalized.substring(0, at), EMAIL_WEIGHT, Math::max);
+        }
+        TokenIndex.addTokens(tokens, normalized, EMAIL_WEIGHT);
+    }
+}
@@ -0,0 +1,36 @@
+package com.arnav.sms.search;
+
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.support.TransactionCallbacks;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA lifecycle listener on Student that keeps StudentSearchIndex in sync
+ *
+ * WHY: Index sirf committed data dikhaye - rollback hua to index change bhi nahi hoga,
+ * isliye changes afterCommit pe apply hote hain
+ */
+@Component
+public class StudentSearchListener {
+
+    private final StudentSearchIndex studentSearchIndex;
+
+    public StudentSearchListener(StudentSearchIndex studentSearchIndex) {
+        this.studentSearchIndex = studentSearchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Student student) {
+        TransactionCallbacks.afterCommit(() -> studentSearchIndex.index(student));
+    }
+
+    @PostRemove
+    public void onRemove(Student student) {
+        long studentId = student.getId();
+        TransactionCallbacks.afterCommit(() -> studentSearchIndex.remove(studentId));
+    }
+}
@@ -0,0 +1,274 @@
+package com.arnav.sms.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * Generic in-memory inverted index (used by StudentSearchIndex and CourseSearchIndex)
+ *
+ * HOW:
+ * - token -> (docId -> field weight) postings in a sorted map, so a prefix query is a
+ *   range scan (same thing a prefix trie gives)
+ * - padded bigram -> tokens map to find fuzzy candidates, verified with edit distance
+ * - every query token must match (exact > prefix > fuzzy, multiplied by field weight)
+ * Writes are synchronized, reads are lock-free on concurrent maps.
+ * rebuild() fills a fresh set of maps and swaps it in with one volatile write, so a search never
+ * sees a half-built index
+ *
+ * @param <D> document returned by search (response DTO)
+ */
+public class TokenIndex<D> {
+
+    private static final int EXACT_SCORE = 10;
+    private static final int PREFIX_SCORE = 6;
+    private static final int FUZZY_SCORE = 3;
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    private volatile Maps<D> maps = new Maps<>();
+
+    // put / remove calls made while a rebuild is loading (id -> latest change), replayed on top of it;
+    // null when no rebuild is running
+    private Map<Long, Change<D>> changedDuringRebuild;
+
+    public int size() {
+        return maps.documents.size();
+    }
+
+    public int vocabularySize() {
+        return maps.postings.size();
+    }
+
+    // Replaces the whole index with what `loader` puts into a fresh one. Changes that reach this index while
+    // the loader runs (commits after its snapshot was read) are replayed on top, so they win over older rows.
+    // If the loader throws, the current index stays as it was
+    public void rebuild(Consumer<TokenIndex<D>> loader) {
+        TokenIndex<D> fresh = new TokenIndex<>();
+        synchronized (this) {
+            changedDuringRebuild = new LinkedHashMap<>();
+        }
+        try {
+            loader.accept(fresh);
+        } catch (RuntimeException ex) {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+            throw ex;
+        }
+        synchronized (this) {
+            changedDuringRebuild.forEach((id, change) -> {
+                if (change.document() == null) {
+                    fresh.remove(id);
+                } else {
+                    fresh.put(id, change.tokens(), change.document());
+                }
+            });
+            changedDuringRebuild = null;
+            maps = fresh.maps;
+        }
+    }
+
+    // Add or replace one document; tokens = token -> field weight
+    public synchronized void put(long id, Map<String, Integer> tokens, D document) {
+        Maps<D> current = maps;
+        remove(id);
+        tokens.forEach((token, weight) -> {
+            current.postings.computeIfAbsent(token, t -> {
+                bigramsOf(t).forEach(bigram -> current.bigrams.computeIfAbsent(bigram, b -> ConcurrentHashMap.newKeySet()).add(t));
+                return new ConcurrentHashMap<>();
+            }).put(id, weight);
+        });
+        current.documentTokens.put(id, Set.copyOf(tokens.keySet()));
+        current.documents.put(id, document);
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(id, new Change<>(Map.copyOf(tokens), document));
+        }
+    }
+
+    public synchronized void remove(long id) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(id, new Change<>(Map.of(), null));
+        }
+        Maps<D> current = maps;
+        current.documents.remove(id);
+        Set<String> tokens = current.documentTokens.remove(id);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Map<Long, Integer> docs = current.postings.get(token);
+            if (docs == null) {
+                continue;
+            }
+            docs.remove(id);
+            if (docs.isEmpty()) {
+                // koi document ab ye token use nahi karta, vocabulary se hatao
+                current.postings.remove(token);
+                for (String bigram : bigramsOf(token)) {
+                    Set<String> vocab = current.bigrams.get(bigram);
+                    if (vocab != null) {
+                        vocab.remove(token);
+                        if (vocab.isEmpty()) {
+                            current.bigrams.remove(bigram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Ranked search: best matches first (ties by id), at most `limit` results
+    public List<D> search(String query, int limit, boolean fuzzy) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+        Maps<D> current = maps;
+
+        Map<Long, Integer> scores = null;
+        for (String queryToken : queryTokens) {
+            Map<Long, Integer> tokenScores = scoreToken(current, queryToken, fuzzy);
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                // AND: sirf wahi documents jo har token se match karte hain
+                Map<Long, Integer> previous = scores;
+                scores = new HashMap<>();
+                for (Map.Entry<Long, Integer> entry : tokenScores.entrySet()) {
+                    Integer score = previous.get(entry.getKey());
+                    if (score != null) {
+                        scores.put(entry.getKey(), score + entry.getValue());
+                    }
+                }
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> current.documents.get(entry.getKey()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // Best score per document for one query token
+    private static Map<Long, Integer> scoreToken(Maps<?> current, String queryToken, boolean fuzzy) {
+        Map<Long, Integer> scores = new HashMap<>();
+
+        // exact + prefix: range scan over the sorted vocabulary
+        for (Map.Entry<String, Map<Long, Integer>> entry
+                : current.postings.subMap(queryToken, true, queryToken + Character.MAX_VALUE, true).entrySet()) {
+            int matchScore = entry.getKey().equals(queryToken) ? EXACT_SCORE : PREFIX_SCORE;
+            entry.getValue().forEach((id, weight) -> scores.merge(id, matchScore * weight, Math::max));
+        }
+
+        // fuzzy (typos): tokens sharing enough bigrams, then edit distance check
+        if (fuzzy && queryToken.length() >= MIN_FUZZY_LENGTH) {
+            int maxDistance = queryToken.length() >= 8 ? 2 : 1;
+            for (String candidate : fuzzyCandidates(current, queryToken, maxDistance)) {
+                if (editDistance(queryToken, candidate) <= maxDistance) {
+                    Map<Long, Integer> docs = current.postings.get(candidate);
+                    if (docs != null) {
+                        docs.forEach((id, weight) -> scores.merge(id, FUZZY_SCORE * weight, Math::max));
+                    }
+                }
+            }
+        }
+        return scores;
+    }
+
+    private static Set<String> fuzzyCandidates(Maps<?> current, String queryToken, int maxDistance) {
+        List<String> queryBigrams = bigramsOf(queryToken);
+        int minShared = Math.max(1, queryBigrams.size() - 3 * maxDistance);
+
+        Map<String, Integer> shared = new HashMap<>();
+        for (String bigram : queryBigrams) {
+            Set<String> vocab = current.bigrams.get(bigram);
+            if (vocab != null) {
+                vocab.forEach(token -> shared.merge(token, 1, Integer::sum));
+            }
+        }
+
+        Set<String> candidates = new LinkedHashSet<>();
+        shared.forEach((token, count) -> {
+            if (count >= minShared && Math.abs(token.length() - queryToken.length()) <= maxDistance) {
+                candidates.add(token);
+            }
+        });
+        return candidates;
+    }
+
+    // Adds every token of `value` with the field weight (highest weight wins per token)
+    public static void addTokens(Map<String, Integer> tokens, String value, int weight) {
+        for (String token : tokenize(value)) {
+            tokens.merge(token, weight, Math::max);
+        }
+    }
+
+    public static List<String> tokenize(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String part : value.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!part.isEmpty()) {
+                tokens.add(part);
+            }
+        }
+        return tokens;
+    }
+
+    // "^john$" -> ^j, jo, oh, hn, n$
+    static List<String> bigramsOf(String token) {
+        String padded = "^" + token + "$";
+        List<String> result = new ArrayList<>(padded.length() - 1);
+        for (int i = 0; i < padded.length() - 1; i++) {
+            result.add(padded.substring(i, i + 2));
+        }
+        return result;
+    }
+
+    // Optimal string alignment distance (Levenshtein + adjacent transposition, "jhon" -> "john" = 1)
+    static int editDistance(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) d[i][0] = i;
+        for (int j = 0; j <= b.length(); j++) d[0][j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                d[i][j] = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d[i][j] = Math.min(d[i][j], d[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+
+    // Everything a search reads; replaced as a whole by rebuild()
+    private static final class Maps<D> {
+        private final Map<Long, D> documents = new ConcurrentHashMap<>();
+        private final Map<Long, Set<String>> documentTokens = new ConcurrentHashMap<>();
+        private final NavigableMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+        private final Map<String, Set<String>> bigrams = new ConcurrentHashMap<>();
+    }
+
+    // document null = removed
+    private record Change<D>(Map<String, Integer> tokens, D document) {
+    }
+}
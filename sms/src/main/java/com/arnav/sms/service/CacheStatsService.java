@@ -0,0 +1,101 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.config.CacheRegionProperties;
+import com.arnav.sms.dto.response.CacheRegionStatsDTO;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+@Service
+@Slf4j
+public class CacheStatsService {
+
+    private final Statistics statistics;
+    private final CacheManager cacheManager;
+    private final CacheRegionProperties cacheRegionProperties;
+    private final org.springframework.cache.CacheManager lookupCacheManager;
+
+    public CacheStatsService(EntityManagerFactory entityManagerFactory, CacheManager cacheManager,
+                             CacheRegionProperties cacheRegionProperties,
+                             org.springframework.cache.CacheManager lookupCacheManager) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.cacheManager = cacheManager;
+        this.cacheRegionProperties = cacheRegionProperties;
+        this.lookupCacheManager = lookupCacheManager;
+    }
+
+    // Per-region counters since startup (needs hibernate.generate_statistics=true)
+    public List<CacheRegionStatsDTO> getRegionStats() {
+        if (!statistics.isStatisticsEnabled()) {
+            log.warn("Hibernate statistics are disabled, cache counters will stay at zero");
+        }
+
+        // configured regions + whatever Hibernate has created (query regions appear on first use)
+        TreeSet<String> regions = new TreeSet<>(cacheRegionProperties.getRegions().keySet());
+        regions.addAll(Arrays.asList(statistics.getSecondLevelCacheRegionNames()));
+
+        return regions.stream().map(this::toStats).toList();
+    }
+
+    // Spring lookup caches (courseByCode, studentByEmail); negative entries count as hits too
+    public List<CacheRegionStatsDTO> getLookupStats() {
+        return lookupCacheManager.getCacheNames().stream().sorted().map(this::toLookupStats).toList();
+    }
+
+    private CacheRegionStatsDTO toLookupStats(String name) {
+        CaffeineCache cache = (CaffeineCache) lookupCacheManager.getCache(name);
+        CacheStats stats = cache.getNativeCache().stats();
+
+        CacheRegionStatsDTO dto = new CacheRegionStatsDTO();
+        dto.setRegion(name);
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setPutCount(stats.loadCount());
+        dto.setHitRatio(stats.requestCount() == 0 ? null : stats.hitRate());
+        dto.setSize(cache.getNativeCache().estimatedSize());
+
+        CacheRegionProperties.Region spec = cacheRegionProperties.getLookups().get(name);
+        if (spec != null) {
+            dto.setMaxEntries(spec.getMaxEntries());
+            dto.setTtlSeconds(spec.getTtl() == null ? null : spec.getTtl().toSeconds());
+        }
+        return dto;
+    }
+
+    private CacheRegionStatsDTO toStats(String region) {
+        CacheRegionStatsDTO dto = new CacheRegionStatsDTO();
+        dto.setRegion(region);
+
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics != null) {
+            dto.setHitCount(regionStatistics.getHitCount());
+            dto.setMissCount(regionStatistics.getMissCount());
+            dto.setPutCount(regionStatistics.getPutCount());
+        }
+        long lookups = dto.getHitCount() + dto.getMissCount();
+        dto.setHitRatio(lookups == 0 ? null : (double) dto.getHitCount() / lookups);
+
+        Cache<Object, Object> cache = cacheManager.getCache(region);
+        if (cache != null) {
+            dto.setSize(cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize());
+        }
+
+        CacheRegionProperties.Region spec = cacheRegionProperties.getRegions().get(region);
+        if (spec != null) {
+            dto.setMaxEntries(spec.getMaxEntries());
+            dto.setTtlSeconds(spec.getTtl() == null ? null : spec.getTtl().toSeconds());
+        }
+        return dto;
+    }
+}
@@ -1,46 +1,89 @@
 package com.arnav.sms.service;
+import com.arnav.sms.config.LookupCacheConfig;
+import com.arnav.sms.dto.api.CursorPage;
 import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.response.CatalogueSyncResultDTO;
 import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.dto.response.CourseSeatsDTO;
 import com.arnav.sms.entity.Course;
 import com.arnav.sms.exceptions.CourseNotFoundException;
 import com.arnav.sms.exceptions.DuplicateCourseException;
+import com.arnav.sms.logging.HotPathLog;
 import com.arnav.sms.mapper.CourseMapper;
 import com.arnav.sms.repository.CourseRepository;
+import com.arnav.sms.search.CourseSearchIndex;
+import com.arnav.sms.support.TransactionCallbacks;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+// every public method is timed as sms.service{class, method, exception} (buckets: application.properties)
+@Timed("sms.service")
 @Service
 @Slf4j
 public class CourseService {
 
+    // per-request lines: DEBUG, level-guarded (off in prod)
+    private static final HotPathLog hotLog = HotPathLog.of(CourseService.class);
+
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
+    private final CourseSearchIndex courseSearchIndex;
+    private final Cache courseByCodeCache;
+    private final EnrollmentCounterService enrollmentCounterService;
+    private final SeatAllocationService seatAllocationService;
+    private final TranscriptService transcriptService;
 
-    public CourseService(CourseRepository courseRepository, CourseMapper courseMapper) {
+    public CourseService(CourseRepository courseRepository, CourseMapper courseMapper,
+                         CourseSearchIndex courseSearchIndex, CacheManager cacheManager,
+                         EnrollmentCounterService enrollmentCounterService,
+                         SeatAllocationService seatAllocationService,
+                         TranscriptService transcriptService) {
         this.courseRepository = courseRepository;
         this.courseMapper = courseMapper;
+        this.courseSearchIndex = courseSearchIndex;
+        this.courseByCodeCache = cacheManager.getCache(LookupCacheConfig.COURSE_BY_CODE);
+        this.enrollmentCounterService = enrollmentCounterService;
+        this.seatAllocationService = seatAllocationService;
+        this.transcriptService = transcriptService;
     }
-    // create course
+    // create course (seat stripes are created with it when a capacity is given)
+    @Transactional
     public CourseResponseDTO createCourse(CourseRequestDTO courseRequestDTO) {
-        log.info("Creating new course with code: {}", courseRequestDTO.getCourseCode());
+        hotLog.debug("Creating new course with code: {}", courseRequestDTO.getCourseCode());
 
-        if(courseRepository.existsByCourseCode(courseRequestDTO.getCourseCode())) {
+        if(findCachedByCode(courseRequestDTO.getCourseCode()).isPresent()) {
             log.error("Course with code {} already exists", courseRequestDTO.getCourseCode());
             throw new DuplicateCourseException("Course with code " + courseRequestDTO.getCourseCode() + " already exists");
         }
         Course course = courseMapper.toCourseEntity(courseRequestDTO);
         Course savedCourse = courseRepository.save(course);
+        seatAllocationService.capacityChanged(savedCourse, null);
 
         log.info("Course created successfully with ID: {}", savedCourse.getCourseCode());
-        return courseMapper.toCourseResponseDTO(savedCourse);
+        CourseResponseDTO response = courseMapper.toCourseResponseDTO(savedCourse);
+        // replaces the negative entry left by the duplicate check - after commit, since the pooled id means
+        // the INSERT only runs at commit and may still fail there (unique code)
+        TransactionCallbacks.afterCommit(() -> courseByCodeCache.put(response.getCourseCode(), response));
+        return response;
 
     }
     // READ - Get by ID
     public CourseResponseDTO getCourseById(Long id) {
-        log.info("Fetching course with ID: {}", id);
+        hotLog.debug("Fetching course with ID: {}", id);
 
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> {
@@ -54,36 +97,56 @@ public class CourseService {
 
     // find by Course Code
     public CourseResponseDTO getByCourseCode(String courseCode) {
-        log.info("Getting course with code: {}", courseCode);
-        if(!courseRepository.existsByCourseCode(courseCode)) {
-            log.error("Course with code {} does not exists", courseCode);
-        }
-        Course course = courseRepository.findByCourseCode(courseCode).orElseThrow(() -> {
+        hotLog.debug("Getting course with code: {}", courseCode);
+
+        return findCachedByCode(courseCode).orElseThrow(() -> {
             log.error("Course with code {} does not exists", courseCode);
             return new CourseNotFoundException("Course with code " + courseCode + " does not exists");
         });
+    }
 
-        return courseMapper.toCourseResponseDTO(course);
+    // Read-through lookup by code; a miss is cached too (short negative ttl, see LookupCacheConfig)
+    private Optional<CourseResponseDTO> findCachedByCode(String courseCode) {
+        return Optional.ofNullable(courseByCodeCache.get(courseCode, () ->
+                courseRepository.findByCourseCode(courseCode)
+                        .map(courseMapper::toCourseResponseDTO)
+                        .orElse(null)));
     }
 
     // Search By Name
     public List<CourseResponseDTO> getCourseByName (String courseName) {
-        log.info("Getting course with name: {}", courseName);
+        hotLog.debug("Getting course with name: {}", courseName);
 
         List<Course> courses = courseRepository.findByCourseNameContainingIgnoreCase(courseName);
-        log.info("Found {} courses matching: {}", courses.size() , courseName);
+        hotLog.debug("Found {} courses matching: {}", courses.size() , courseName);
 
         return courses.stream()
                 .map(courseMapper::toCourseResponseDTO)
                 .collect(Collectors.toList());
     }
 
+    // Typeahead over code / name / instructor / description (in-memory index)
+    public List<CourseResponseDTO> suggestCourses(String query, int limit) {
+        hotLog.debug("Suggesting courses for: {}", query);
+
+        if (!courseSearchIndex.isReady()) {
+            // index abhi build ho raha hai (startup) - DB query fallback
+            log.warn("Course search index not ready, falling back to database search");
+            return courseRepository.findByCourseNameContainingIgnoreCase(query).stream()
+                    .limit(limit)
+                    .map(courseMapper::toCourseResponseDTO)
+                    .collect(Collectors.toList());
+        }
+
+        return courseSearchIndex.suggest(query, limit);
+    }
+
     // get all Courses
     public List<CourseResponseDTO> getAllCourses() {
-        log.info("fetching all courses");
+        hotLog.debug("fetching all courses");
 
         List<Course> courses = courseRepository.findAll();
-        log.info("found courses: {}", courses.size());
+        hotLog.debug("found courses: {}", courses.size());
 
         return courses.stream()
                 .map(courseMapper::toCourseResponseDTO)
@@ -91,40 +154,162 @@ public class CourseService {
 
     }
 
-    // Update Course
+    // Keyset page of courses
+    public CursorPage<CourseResponseDTO> getCoursesPage(String after, int limit) {
+        hotLog.debug("fetching courses page after cursor: {}", after);
+
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Course> courses = courseRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.decodeCursor(after), Limit.of(pageSize + 1));
+
+        return CursorPage.of(
+                courses.stream().map(courseMapper::toCourseResponseDTO).collect(Collectors.toList()),
+                pageSize, CourseResponseDTO::getId);
+    }
+
+    // Update Course (capacity changes rebalance the seat stripes / promote from the waitlist)
+    @Transactional
     public CourseResponseDTO updateCourse(Long id ,CourseRequestDTO courseRequestDTO) {
-        log.info("Updating course with code: {}", courseRequestDTO.getCourseCode());
+        hotLog.debug("Updating course with code: {}", courseRequestDTO.getCourseCode());
 
         Course course = courseRepository.findById(id).orElseThrow(()->
                 new CourseNotFoundException("Course with code " + id + " does not exists"));
 
         // check course code duplication
-        if(!course.getCourseCode().equals(courseRequestDTO.getCourseCode()) && courseRepository.existsByCourseCode(courseRequestDTO.getCourseCode())) {
+        String oldCode = course.getCourseCode();
+        if(!oldCode.equals(courseRequestDTO.getCourseCode()) && findCachedByCode(courseRequestDTO.getCourseCode()).isPresent()) {
             throw new DuplicateCourseException("Course with code " + courseRequestDTO.getCourseCode() + " already exists");
         }
+        Integer oldCapacity = course.getCapacity();
         courseMapper.UpdateCourseEntityFromDTO(courseRequestDTO, course);
         Course updatedCourse = courseRepository.save(course);
+        seatAllocationService.capacityChanged(updatedCourse, oldCapacity);
         log.info("Course updated successfully with ID: {}", updatedCourse.getCourseCode());
-        return courseMapper.toCourseResponseDTO(updatedCourse);
+
+        CourseResponseDTO response = courseMapper.toCourseResponseDTO(updatedCourse);
+        TransactionCallbacks.afterCommit(() -> {
+            courseByCodeCache.evict(oldCode);
+            courseByCodeCache.put(response.getCourseCode(), response);
+        });
+        // credits / name / code appear on every transcript with this course
+        transcriptService.coursesChanged();
+        return response;
 
     }
 
-    // DELETE
+    // DELETE (enrollments go with the course, so the student counters are adjusted in the same transaction)
+    @Transactional
     public void deleteCourse(Long id) {
-        log.info("Deleting course with ID: {}", id);
+        hotLog.debug("Deleting course with ID: {}", id);
 
-        if (!courseRepository.existsById(id)) {
+        Course course = courseRepository.findById(id).orElseThrow(() -> {
             log.error("Course not found with ID: {}", id);
-            throw new CourseNotFoundException("Course not found with ID: " + id);
-        }
+            return new CourseNotFoundException("Course not found with ID: " + id);
+        });
 
-        courseRepository.deleteById(id);
+        enrollmentCounterService.courseDeleted(course.getId());
+        seatAllocationService.courseDeleted(course.getId());
+        courseRepository.delete(course);
+        // after commit: evicting earlier lets a racing getByCourseCode re-cache the still-committed row
+        String courseCode = course.getCourseCode();
+        TransactionCallbacks.afterCommit(() -> courseByCodeCache.evict(courseCode));
+        transcriptService.coursesChanged();
         log.info("Course deleted successfully with ID: {}", id);
     }
 
+    // Catalogue sync (term rollover): the request is the full desired catalogue, keyed by course code.
+    // One read of the existing rows, diff in memory, then only the differences are written - inserts and
+    // updates flush as JDBC batches. Courses missing from the list are deleted unless deleteMissing=false
+    @Transactional
+    public CatalogueSyncResultDTO syncCatalogue(List<CourseRequestDTO> catalogue, boolean deleteMissing) {
+        hotLog.debug("Syncing course catalogue with {} courses", catalogue.size());
+
+        Map<String, CourseRequestDTO> desired = new LinkedHashMap<>();
+        for (CourseRequestDTO courseRequestDTO : catalogue) {
+            if (desired.put(courseRequestDTO.getCourseCode(), courseRequestDTO) != null) {
+                throw new DuplicateCourseException("Course code " + courseRequestDTO.getCourseCode()
+                        + " appears more than once in the catalogue");
+            }
+        }
+
+        Map<String, Course> existing = courseRepository.findAll().stream()
+                .collect(Collectors.toMap(Course::getCourseCode, Function.identity()));
+
+        List<Course> inserted = new ArrayList<>();
+        Map<Course, Integer> updated = new LinkedHashMap<>();   // course -> old capacity
+        for (CourseRequestDTO courseRequestDTO : desired.values()) {
+            Course course = existing.get(courseRequestDTO.getCourseCode());
+            if (course == null) {
+                inserted.add(courseMapper.toCourseEntity(courseRequestDTO));
+            } else if (!sameAs(course, courseRequestDTO)) {
+                updated.put(course, course.getCapacity());
+                courseMapper.UpdateCourseEntityFromDTO(courseRequestDTO, course);
+            }
+        }
+        List<Course> deleted = deleteMissing
+                ? existing.values().stream().filter(course -> !desired.containsKey(course.getCourseCode())).toList()
+                : List.of();
+
+        // deleted courses take their enrollments along: fix the student counters, drop the seat stripes
+        for (Course course : deleted) {
+            enrollmentCounterService.courseDeleted(course.getId());
+            seatAllocationService.courseDeleted(course.getId());
+        }
+        courseRepository.deleteAll(deleted);
+        courseRepository.saveAll(inserted);
+        courseRepository.flush();
+
+        // seat stripes / waitlist promotion only where the capacity actually changed
+        inserted.forEach(course -> seatAllocationService.capacityChanged(course, null));
+        updated.forEach(seatAllocationService::capacityChanged);
+
+        // lookup cache only once the sync is committed - a failed sync must not leave its catalogue cached
+        List<CourseResponseDTO> written = new ArrayList<>();
+        inserted.forEach(course -> written.add(courseMapper.toCourseResponseDTO(course)));
+        updated.keySet().forEach(course -> written.add(courseMapper.toCourseResponseDTO(course)));
+        List<String> deletedCodes = deleted.stream().map(Course::getCourseCode).toList();
+        TransactionCallbacks.afterCommit(() -> {
+            written.forEach(response -> courseByCodeCache.put(response.getCourseCode(), response));
+            deletedCodes.forEach(courseByCodeCache::evict);
+        });
+        if (!updated.isEmpty() || !deleted.isEmpty()) {
+            transcriptService.coursesChanged();
+        }
+
+        CatalogueSyncResultDTO result = new CatalogueSyncResultDTO(
+                desired.size(), inserted.size(), updated.size(),
+                desired.size() - inserted.size() - updated.size(), deleted.size(),
+                inserted.stream().map(Course::getCourseCode).toList(),
+                deletedCodes);
+        log.info("Course catalogue synced: {} inserted, {} updated, {} unchanged, {} deleted",
+                result.getInserted(), result.getUpdated(), result.getUnchanged(), result.getDeleted());
+        return result;
+    }
+
+    // true if applying the DTO would not change the course
+    private static boolean sameAs(Course course, CourseRequestDTO courseRequestDTO) {
+        return Objects.equals(course.getCourseName(), courseRequestDTO.getCourseName())
+                && Objects.equals(course.getCredits(), courseRequestDTO.getCredits())
+                && Objects.equals(course.getInstructor(), courseRequestDTO.getInstructor())
+                && Objects.equals(course.getDescription(), courseRequestDTO.getDescription())
+                && Objects.equals(course.getCapacity(), courseRequestDTO.getCapacity());
+    }
+
+    // Seats: capacity, free seats, waitlist length
+    public CourseSeatsDTO getCourseSeats(Long id) {
+        hotLog.debug("Fetching seats for course ID: {}", id);
+
+        Course course = courseRepository.findById(id).orElseThrow(() -> {
+            log.error("Course not found with ID: {}", id);
+            return new CourseNotFoundException("Course not found with ID: " + id);
+        });
+
+        return seatAllocationService.getSeats(course);
+    }
+
     // Get by Instructor
     public List<CourseResponseDTO> getCoursesByInstructor(String instructor) {
-        log.info("Fetching courses by instructor: {}", instructor);
+        hotLog.debug("Fetching courses by instructor: {}", instructor);
 
         List<Course> courses = courseRepository.findByInstructor(instructor);
 
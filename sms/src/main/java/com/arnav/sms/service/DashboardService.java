@@ -0,0 +1,70 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.config.LookupCacheConfig;
+import com.arnav.sms.dto.response.DashboardSummaryDTO;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.mapper.StudentMapper;
+import com.arnav.sms.repository.CourseRepository;
+import com.arnav.sms.repository.EnrollmentRepository;
+import com.arnav.sms.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class DashboardService {
+
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentMapper studentMapper;
+    private final Cache dashboardCache;
+
+    public DashboardService(StudentRepository studentRepository, CourseRepository courseRepository,
+                            EnrollmentRepository enrollmentRepository, StudentMapper studentMapper,
+                            CacheManager cacheManager) {
+        this.studentRepository = studentRepository;
+        this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.studentMapper = studentMapper;
+        this.dashboardCache = cacheManager.getCache(LookupCacheConfig.DASHBOARD_SUMMARY);
+    }
+
+    // Cached summary; concurrent callers for the same size wait for one computation
+    public DashboardSummaryDTO getSummary(int recent) {
+        return dashboardCache.get(recent, () -> buildSummary(recent));
+    }
+
+    // Counts, status breakdown, top courses and newest rows - 6 small queries, none of them a full download
+    private DashboardSummaryDTO buildSummary(int recent) {
+        log.info("Computing dashboard summary (recent = {})", recent);
+
+        Map<EnrollmentStatus, Long> byStatus = new EnumMap<>(EnrollmentStatus.class);
+        for (EnrollmentStatus status : EnrollmentStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        enrollmentRepository.countGroupedByStatus()
+                .forEach(row -> byStatus.put(row.getStatus(), row.getCount()));
+
+        DashboardSummaryDTO summary = new DashboardSummaryDTO();
+        summary.setTotalStudents(studentRepository.count());
+        summary.setTotalCourses(courseRepository.count());
+        summary.setTotalEnrollments(byStatus.values().stream().mapToLong(Long::longValue).sum());
+        summary.setEnrollmentsByStatus(byStatus);
+        summary.setTopCourses(enrollmentRepository.findTopCoursesByEnrollments(Limit.of(recent)));
+        summary.setRecentStudents(studentRepository.findAllByOrderByIdDesc(Limit.of(recent)).stream()
+                .map(studentMapper::toResponseDTO)
+                .collect(Collectors.toList()));
+        summary.setRecentEnrollments(enrollmentRepository.findRecentProjected(Limit.of(recent)));
+        summary.setGeneratedAt(LocalDateTime.now());
+        return summary;
+    }
+}
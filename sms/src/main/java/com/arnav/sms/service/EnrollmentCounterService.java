@@ -0,0 +1,182 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.dto.response.CounterReconciliationDTO;
+import com.arnav.sms.entity.CounterOwnerType;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.repository.EnrollmentCounterRepository;
+import com.arnav.sms.repository.EnrollmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Materialized enrollment counters per student and per course, split by status
+ *
+ * Every change runs inside the caller's transaction (MANDATORY), so a counter can never
+ * commit without the enrollment change that caused it, or the other way round
+ */
+@Service
+@Slf4j
+public class EnrollmentCounterService {
+
+    // Rows per (owner, status). Any slot may be incremented - only the sum means something - so
+    // concurrent enrollments into one course mostly land on different rows instead of queueing on one lock
+    static final int SLOTS = 8;
+
+    private final EnrollmentCounterRepository enrollmentCounterRepository;
+    private final EnrollmentRepository enrollmentRepository;
+
+    public EnrollmentCounterService(EnrollmentCounterRepository enrollmentCounterRepository,
+                                    EnrollmentRepository enrollmentRepository) {
+        this.enrollmentCounterRepository = enrollmentCounterRepository;
+        this.enrollmentRepository = enrollmentRepository;
+    }
+
+    // New enrollment with the given status
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enrolled(Long studentId, Long courseId, EnrollmentStatus status) {
+        add(studentId, courseId, status, 1);
+    }
+
+    // Status change of one enrollment
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statusChanged(Long studentId, Long courseId, EnrollmentStatus from, EnrollmentStatus to) {
+        if (from == to) {
+            return;
+        }
+        add(studentId, courseId, from, -1);
+        add(studentId, courseId, to, 1);
+    }
+
+    // Enrollment deleted
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removed(Long studentId, Long courseId, EnrollmentStatus status) {
+        add(studentId, courseId, status, -1);
+    }
+
+    // Many enrollments at once (bulk enroll): one upsert per distinct owner instead of per row
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enrolledAll(Map<Long, Long> perStudent, Map<Long, Long> perCourse, EnrollmentStatus status) {
+        perStudent.forEach((studentId, n) -> increment(CounterOwnerType.STUDENT, studentId, status, 0, n));
+        perCourse.forEach((courseId, n) -> increment(CounterOwnerType.COURSE, courseId, status, 0, n));
+    }
+
+    // Many enrollments changed status at once (bulk transition): one upsert per distinct owner and status
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void statusChangedAll(Map<Long, Long> perStudent, Map<Long, Long> perCourse,
+                                 EnrollmentStatus from, EnrollmentStatus to) {
+        if (from == to) {
+            return;
+        }
+        perStudent.forEach((studentId, n) -> {
+            increment(CounterOwnerType.STUDENT, studentId, from, 0, -n);
+            increment(CounterOwnerType.STUDENT, studentId, to, 0, n);
+        });
+        perCourse.forEach((courseId, n) -> {
+            increment(CounterOwnerType.COURSE, courseId, from, 0, -n);
+            increment(CounterOwnerType.COURSE, courseId, to, 0, n);
+        });
+    }
+
+    // Student is about to be deleted (its enrollments go with it): fix the course side, drop its own rows
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void studentDeleted(Long studentId) {
+        enrollmentRepository.countGroupedByCourseAndStatusForStudent(studentId)
+                .forEach(row -> increment(CounterOwnerType.COURSE, row.getOwnerId(), row.getStatus(),
+                        slotFor(studentId), -row.getCount()));
+        enrollmentCounterRepository.deleteRows(CounterOwnerType.STUDENT, studentId);
+    }
+
+    // Course is about to be deleted (its enrollments go with it): fix the student side, drop its own rows
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void courseDeleted(Long courseId) {
+        enrollmentRepository.countGroupedByStudentAndStatusForCourse(courseId)
+                .forEach(row -> increment(CounterOwnerType.STUDENT, row.getOwnerId(), row.getStatus(),
+                        slotFor(courseId), -row.getCount()));
+        enrollmentCounterRepository.deleteRows(CounterOwnerType.COURSE, courseId);
+    }
+
+    // Counts per status for one student or course (every status present, 0 if none)
+    @Transactional(readOnly = true)
+    public Map<EnrollmentStatus, Long> getCounts(CounterOwnerType ownerType, Long ownerId) {
+        Map<EnrollmentStatus, Long> counts = new EnumMap<>(EnrollmentStatus.class);
+        for (EnrollmentStatus status : EnrollmentStatus.values()) {
+            counts.put(status, 0L);
+        }
+        enrollmentCounterRepository.findRows(ownerType, ownerId)
+                .forEach(row -> counts.put(row.getStatus(), row.getCount()));
+        return counts;
+    }
+
+    /**
+     * Verifies every counter against GROUP BY counts of the enrollments table and corrects drift
+     * (e.g. rows changed outside the services). Runs nightly and on demand.
+     *
+     * Source counts and counters are read in one REPEATABLE READ snapshot, and corrections are applied
+     * as deltas (expected - seen), so enrollments committed while this runs are not overwritten
+     */
+    @Scheduled(cron = "${app.counters.reconcile-cron}")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public CounterReconciliationDTO reconcile() {
+        long start = System.currentTimeMillis();
+        log.info("Reconciling enrollment counters");
+
+        Map<CounterKey, Long> expected = new HashMap<>();
+        enrollmentRepository.countGroupedByStudentAndStatus().forEach(row -> expected.put(
+                new CounterKey(CounterOwnerType.STUDENT, row.getOwnerId(), row.getStatus()), row.getCount()));
+        enrollmentRepository.countGroupedByCourseAndStatus().forEach(row -> expected.put(
+                new CounterKey(CounterOwnerType.COURSE, row.getOwnerId(), row.getStatus()), row.getCount()));
+
+        Map<CounterKey, Long> actual = new HashMap<>();
+        for (CounterOwnerType ownerType : CounterOwnerType.values()) {
+            enrollmentCounterRepository.findRows(ownerType).forEach(row -> actual.put(
+                    new CounterKey(row.getOwnerType(), row.getOwnerId(), row.getStatus()), row.getCount()));
+        }
+
+        Set<CounterKey> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+
+        int fixed = 0;
+        for (CounterKey key : keys) {
+            long delta = expected.getOrDefault(key, 0L) - actual.getOrDefault(key, 0L);
+            if (delta != 0) {
+                log.warn("Counter drift for {} {} {}: expected {}, found {}", key.ownerType(), key.ownerId(),
+                        key.status(), expected.getOrDefault(key, 0L), actual.getOrDefault(key, 0L));
+                increment(key.ownerType(), key.ownerId(), key.status(), 0, delta);
+                fixed++;
+            }
+        }
+
+        CounterReconciliationDTO result =
+                new CounterReconciliationDTO(keys.size(), fixed, System.currentTimeMillis() - start);
+        log.info("Counter reconciliation done. Checked: {}, Fixed: {}, Took: {} ms",
+                result.getCountersChecked(), result.getMismatchesFixed(), result.getDurationMs());
+        return result;
+    }
+
+    private void add(Long studentId, Long courseId, EnrollmentStatus status, long delta) {
+        // slot picked by the other side's id: a course's rows are spread by student, and the other way round
+        increment(CounterOwnerType.STUDENT, studentId, status, slotFor(courseId), delta);
+        increment(CounterOwnerType.COURSE, courseId, status, slotFor(studentId), delta);
+    }
+
+    private void increment(CounterOwnerType ownerType, Long ownerId, EnrollmentStatus status, int slot, long delta) {
+        enrollmentCounterRepository.increment(ownerType.name(), ownerId, status.name(), slot, delta);
+    }
+
+    private static int slotFor(Long otherId) {
+        return (int) Math.floorMod(otherId, (long) SLOTS);
+    }
+
+    private record CounterKey(CounterOwnerType ownerType, Long ownerId, EnrollmentStatus status) {
+    }
+}
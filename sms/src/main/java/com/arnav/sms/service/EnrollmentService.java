@@ -1,49 +1,80 @@
 package com.arnav.sms.service;
 
+import com.arnav.sms.dto.api.CursorPage;
 import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.request.GradeBatchRequestDTO;
+import com.arnav.sms.dto.response.BulkEnrollmentResultDTO;
 import com.arnav.sms.dto.response.EnrollmentResponseDTO;
+import com.arnav.sms.dto.response.GradeBatchResultDTO;
+import com.arnav.sms.entity.CounterOwnerType;
 import com.arnav.sms.entity.Course;
 import com.arnav.sms.entity.Enrollment;
 import com.arnav.sms.entity.EnrollmentStatus;
 import com.arnav.sms.entity.Student;
+import com.arnav.sms.exceptions.CourseFullException;
 import com.arnav.sms.exceptions.CourseNotFoundException;
 import com.arnav.sms.exceptions.DuplicateEnrollmentException;
 import com.arnav.sms.exceptions.EnrollmentException;
+import com.arnav.sms.exceptions.InvalidStatusTransitionException;
 import com.arnav.sms.exceptions.StudentNotFoundException;
+import com.arnav.sms.logging.HotPathLog;
 import com.arnav.sms.mapper.EnrollmentMapper;
 import com.arnav.sms.repository.CourseRepository;
 import com.arnav.sms.repository.EnrollmentRepository;
 import com.arnav.sms.repository.StudentRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+// every public method is timed as sms.service{class, method, exception} (buckets: application.properties)
+@Timed("sms.service")
 @Service
 @Transactional
 @Slf4j
 public class EnrollmentService {
+
+    // per-request lines: DEBUG, level-guarded (off in prod)
+    private static final HotPathLog hotLog = HotPathLog.of(EnrollmentService.class);
+
     private final EnrollmentRepository enrollmentRepository;
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
     private final EnrollmentMapper enrollmentMapper;  // ✅ Add Mapper
+    private final EnrollmentCounterService enrollmentCounterService;
+    private final SeatAllocationService seatAllocationService;
+    private final TranscriptService transcriptService;
 
     public EnrollmentService(EnrollmentRepository enrollmentRepository,
                              StudentRepository studentRepository,
                              CourseRepository courseRepository,
-                             EnrollmentMapper enrollmentMapper) {
+                             EnrollmentMapper enrollmentMapper,
+                             EnrollmentCounterService enrollmentCounterService,
+                             SeatAllocationService seatAllocationService,
+                             TranscriptService transcriptService) {
         this.enrollmentRepository = enrollmentRepository;
         this.studentRepository = studentRepository;
         this.courseRepository = courseRepository;
         this.enrollmentMapper = enrollmentMapper;
+        this.enrollmentCounterService = enrollmentCounterService;
+        this.seatAllocationService = seatAllocationService;
+        this.transcriptService = transcriptService;
     }
 
     public EnrollmentResponseDTO enrollStudent(EnrollmentRequestDTO enrollmentRequestDTO) {
-        log.info("Enrollment request received for ");
-        log.info("Enrolling student ID: {} to course ID: {}",
+        hotLog.debug("Enrolling student ID: {} to course ID: {}",
                 enrollmentRequestDTO.getStudentId(), enrollmentRequestDTO.getCourseId());
 
         // check if student exists
@@ -63,24 +94,113 @@ public class EnrollmentService {
             throw new DuplicateEnrollmentException("Student is already enrolled in this course");
 
         }
-        // Create enrollment
+        // Create enrollment (full course -> waitlist)
+        EnrollmentStatus status = seatAllocationService.tryTakeSeat(course)
+                ? EnrollmentStatus.ACTIVE : EnrollmentStatus.WAITLISTED;
         Enrollment enrollment = new Enrollment();
         enrollment.setStudent(student);
         enrollment.setCourse(course);
         enrollment.setEnrollmentDate(LocalDate.now());
-        enrollment.setStatus(EnrollmentStatus.ACTIVE);
+        enrollment.setStatus(status);
 
         Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
-        log.info("Enrollment created successfully with ID: {}", savedEnrollment.getId());
+        enrollmentCounterService.enrolled(student.getId(), course.getId(), status);
+        transcriptService.studentChanged(student.getId());
+        log.info("Enrollment created successfully with ID: {} ({})", savedEnrollment.getId(), status);
 
         // ✅ Use Mapper
         return enrollmentMapper.toEnrollmentResponseDTO(savedEnrollment);
 
     }
 
+    // Bulk enroll: 3 set-based reads (students IN, courses IN, existing pairs) + batched inserts,
+    // instead of 4 statements per enrollment. Invalid items are reported, valid ones still saved
+    public List<BulkEnrollmentResultDTO> bulkEnroll(List<EnrollmentRequestDTO> requests) {
+        hotLog.debug("Bulk enrollment request received for {} items", requests.size());
+
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> courseIds = new HashSet<>();
+        for (EnrollmentRequestDTO request : requests) {
+            if (request.getStudentId() != null) studentIds.add(request.getStudentId());
+            if (request.getCourseId() != null) courseIds.add(request.getCourseId());
+        }
+
+        Map<Long, Student> students = studentRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+        Map<Long, Course> courses = courseRepository.findAllById(courseIds).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+
+        // "studentId:courseId" keys already taken (DB + earlier items of this batch)
+        Set<String> takenPairs = new HashSet<>();
+        if (!studentIds.isEmpty() && !courseIds.isEmpty()) {
+            enrollmentRepository.findExistingKeys(studentIds, courseIds)
+                    .forEach(key -> takenPairs.add(key.getStudentId() + ":" + key.getCourseId()));
+        }
+
+        List<BulkEnrollmentResultDTO> results = new ArrayList<>(requests.size());
+        List<Enrollment> toSave = new ArrayList<>();
+        List<BulkEnrollmentResultDTO> savedResults = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+
+        for (int i = 0; i < requests.size(); i++) {
+            EnrollmentRequestDTO request = requests.get(i);
+            Long studentId = request.getStudentId();
+            Long courseId = request.getCourseId();
+            BulkEnrollmentResultDTO result = new BulkEnrollmentResultDTO(i, studentId, courseId, false, null, null);
+            results.add(result);
+
+            if (studentId == null || courseId == null) {
+                result.setMessage("Student ID and Course ID are required");
+            } else if (!students.containsKey(studentId)) {
+                result.setMessage("Student not found with ID: " + studentId);
+            } else if (!courses.containsKey(courseId)) {
+                result.setMessage("Course not found with ID: " + courseId);
+            } else if (!takenPairs.add(studentId + ":" + courseId)) {
+                result.setMessage("Student is already enrolled in this course");
+            } else {
+                Course course = courses.get(courseId);
+                Enrollment enrollment = new Enrollment();
+                enrollment.setStudent(students.get(studentId));
+                enrollment.setCourse(course);
+                enrollment.setEnrollmentDate(today);
+                enrollment.setStatus(seatAllocationService.tryTakeSeat(course)
+                        ? EnrollmentStatus.ACTIVE : EnrollmentStatus.WAITLISTED);
+                toSave.add(enrollment);
+                savedResults.add(result);
+            }
+        }
+
+        // ids come from the pooled table generator, so these inserts go out as JDBC batches
+        List<Enrollment> saved = enrollmentRepository.saveAll(toSave);
+
+        Map<EnrollmentStatus, Map<Long, Long>> perStudent = new EnumMap<>(EnrollmentStatus.class);
+        Map<EnrollmentStatus, Map<Long, Long>> perCourse = new EnumMap<>(EnrollmentStatus.class);
+        for (Enrollment enrollment : saved) {
+            perStudent.computeIfAbsent(enrollment.getStatus(), status -> new HashMap<>())
+                    .merge(enrollment.getStudent().getId(), 1L, Long::sum);
+            perCourse.computeIfAbsent(enrollment.getStatus(), status -> new HashMap<>())
+                    .merge(enrollment.getCourse().getId(), 1L, Long::sum);
+        }
+        perStudent.forEach((status, counts) ->
+                enrollmentCounterService.enrolledAll(counts, perCourse.get(status), status));
+        perStudent.values().forEach(counts -> counts.keySet().forEach(transcriptService::studentChanged));
+
+        for (int i = 0; i < saved.size(); i++) {
+            BulkEnrollmentResultDTO result = savedResults.get(i);
+            result.setSuccess(true);
+            result.setEnrollmentId(saved.get(i).getId());
+            result.setMessage(saved.get(i).getStatus() == EnrollmentStatus.WAITLISTED
+                    ? "Course is full, student added to the waitlist"
+                    : "Student enrolled successfully");
+        }
+
+        log.info("Bulk enrollment done. Enrolled: {}, Failed: {}", saved.size(), requests.size() - saved.size());
+        return results;
+    }
+
     // READ - Get by ID
     public EnrollmentResponseDTO getEnrollmentById(Long id) {
-        log.info("Fetching enrollment with ID: {}", id);
+        hotLog.debug("Fetching enrollment with ID: {}", id);
 
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> {
@@ -95,20 +215,29 @@ public class EnrollmentService {
 
     // READ - Get All
     public List<EnrollmentResponseDTO> getAllEnrollments() {
-        log.info("Fetching all enrollments");
+        hotLog.debug("Fetching all enrollments");
 
-        List<Enrollment> enrollments = enrollmentRepository.findAll();
-        log.info("Found {} enrollments", enrollments.size());
+        // ✅ Joined DTO projection (no N+1)
+        List<EnrollmentResponseDTO> enrollments = enrollmentRepository.findAllProjected();
+        hotLog.debug("Found {} enrollments", enrollments.size());
 
-        // ✅ Use Mapper
-        return enrollments.stream()
-                .map(enrollmentMapper::toEnrollmentResponseDTO)
-                .collect(Collectors.toList());
+        return enrollments;
+    }
+
+    // READ - Keyset page
+    public CursorPage<EnrollmentResponseDTO> getEnrollmentsPage(String after, int limit) {
+        hotLog.debug("Fetching enrollments page after cursor: {}", after);
+
+        int pageSize = CursorPage.clampLimit(limit);
+        List<EnrollmentResponseDTO> enrollments = enrollmentRepository.findProjectedPage(
+                CursorPage.decodeCursor(after), Limit.of(pageSize + 1));
+
+        return CursorPage.of(enrollments, pageSize, EnrollmentResponseDTO::getId);
     }
 
     // Get Enrollments by Student
     public List<EnrollmentResponseDTO> getEnrollmentsByStudent(Long studentId) {
-        log.info("Fetching enrollments for student ID: {}", studentId);
+        hotLog.debug("Fetching enrollments for student ID: {}", studentId);
 
         // Check if student exists
         if (!studentRepository.existsById(studentId)) {
@@ -116,18 +245,15 @@ public class EnrollmentService {
             throw new StudentNotFoundException("Student not found with ID: " + studentId);
         }
         // get all Enrollments Courses ID by StudentID
-        List<Enrollment> enrollments = enrollmentRepository.findByStudentId(studentId);
-        log.info("Found {} enrollments for student ID: {}", enrollments.size(), studentId);
+        List<EnrollmentResponseDTO> enrollments = enrollmentRepository.findProjectedByStudentId(studentId);
+        hotLog.debug("Found {} enrollments for student ID: {}", enrollments.size(), studentId);
 
-        // ✅ Use Mapper
-        return enrollments.stream()
-                .map(enrollmentMapper::toEnrollmentResponseDTO)
-                .collect(Collectors.toList());
+        return enrollments;
     }
 
     // Get Enrollments by Course
     public List<EnrollmentResponseDTO> getEnrollmentsByCourse(Long courseId) {
-        log.info("Fetching enrollments for course ID: {}", courseId);
+        hotLog.debug("Fetching enrollments for course ID: {}", courseId);
 
         // Check if course exists
         if (!courseRepository.existsById(courseId)) {
@@ -135,18 +261,15 @@ public class EnrollmentService {
             throw new CourseNotFoundException("Course not found with ID: " + courseId);
         }
 
-        List<Enrollment> enrollments = enrollmentRepository.findByCourseId(courseId);
-        log.info("Found {} enrollments for course ID: {}", enrollments.size(), courseId);
+        List<EnrollmentResponseDTO> enrollments = enrollmentRepository.findProjectedByCourseId(courseId);
+        hotLog.debug("Found {} enrollments for course ID: {}", enrollments.size(), courseId);
 
-        // ✅ Use Mapper
-        return enrollments.stream()
-                .map(enrollmentMapper::toEnrollmentResponseDTO)
-                .collect(Collectors.toList());
+        return enrollments;
     }
 
     // UPDATE - Update Grade
     public EnrollmentResponseDTO updateGrade(Long id, String grade) {
-        log.info("Updating grade for enrollment ID: {} to {}", id, grade);
+        hotLog.debug("Updating grade for enrollment ID: {} to {}", id, grade);
 
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> {
@@ -157,6 +280,7 @@ public class EnrollmentService {
 
         enrollment.setGrade(grade);
         Enrollment updatedEnrollment = enrollmentRepository.save(enrollment);
+        transcriptService.studentChanged(enrollment.getStudent().getId());
 
         log.info("Grade updated successfully for enrollment ID: {}", id);
 
@@ -164,9 +288,56 @@ public class EnrollmentService {
         return enrollmentMapper.toEnrollmentResponseDTO(updatedEnrollment);
     }
 
+    // UPDATE - Grades for a whole course: one read of the course's enrollments, then the changed rows are
+    // flushed as one batched UPDATE set (id + version checked per row). If any row was changed meanwhile
+    // the whole batch rolls back (ObjectOptimisticLockingFailureException -> 409) and can simply be re-sent
+    public GradeBatchResultDTO updateGrades(Long courseId, GradeBatchRequestDTO requestDTO) {
+        hotLog.debug("Updating {} grades for course ID: {}", requestDTO.getGrades().size(), courseId);
+
+        if (!courseRepository.existsById(courseId)) {
+            log.error("Course not found with ID: {}", courseId);
+            throw new CourseNotFoundException("Course not found with ID: " + courseId);
+        }
+
+        // student proxies are never initialised - getStudent().getId() reads the foreign key
+        Function<Enrollment, Long> key = requestDTO.getBy() == GradeBatchRequestDTO.KeyType.STUDENT
+                ? enrollment -> enrollment.getStudent().getId()
+                : Enrollment::getId;
+        Map<Long, Enrollment> enrollments = enrollmentRepository.findByCourseId(courseId).stream()
+                .collect(Collectors.toMap(key, Function.identity()));
+
+        int updated = 0;
+        List<Long> notFound = new ArrayList<>();
+        Set<Long> gradedStudents = new HashSet<>();
+        for (Map.Entry<Long, String> grade : requestDTO.getGrades().entrySet()) {
+            Enrollment enrollment = enrollments.get(grade.getKey());
+            if (enrollment == null) {
+                notFound.add(grade.getKey());
+            } else if (!grade.getValue().equals(enrollment.getGrade())) {
+                enrollment.setGrade(grade.getValue());
+                gradedStudents.add(enrollment.getStudent().getId());
+                updated++;
+            }
+        }
+        enrollmentRepository.flush();
+        // one transcript eviction per student, not per graded row
+        gradedStudents.forEach(transcriptService::studentChanged);
+
+        log.info("Grades posted for course ID: {}. Updated: {}, Not found: {}", courseId, updated, notFound.size());
+        return new GradeBatchResultDTO(courseId, requestDTO.getGrades().size(), updated,
+                requestDTO.getGrades().size() - updated - notFound.size(), notFound);
+    }
+
     // UPDATE - Update Status
     public EnrollmentResponseDTO updateStatus(Long id, EnrollmentStatus status) {
-        log.info("Updating status for enrollment ID: {} to {}", id, status);
+        hotLog.debug("Updating status for enrollment ID: {} to {}", id, status);
+
+        // the waitlist is kept by seat allocation: a demoted ACTIVE row would release its seat to itself
+        if (status == EnrollmentStatus.WAITLISTED) {
+            log.error("Enrollment ID: {} cannot be moved to WAITLISTED manually", id);
+            throw new InvalidStatusTransitionException(
+                    "Status cannot be set to WAITLISTED, the waitlist is kept by seat allocation");
+        }
 
         Enrollment enrollment = enrollmentRepository.findById(id)
                 .orElseThrow(() -> {
@@ -175,8 +346,24 @@ public class EnrollmentService {
                             "Enrollment not found with ID: " + id);
                 });
 
+        EnrollmentStatus previous = enrollment.getStatus();
+        Course course = enrollment.getCourse();
+        boolean heldSeat = holdsSeat(previous);
+        if (!heldSeat && holdsSeat(status) && !seatAllocationService.tryTakeSeat(course)) {
+            log.error("Course ID: {} is full", course.getId());
+            throw new CourseFullException("Course " + course.getCourseCode() + " is full");
+        }
+
         enrollment.setStatus(status);
         Enrollment updatedEnrollment = enrollmentRepository.save(enrollment);
+        enrollmentCounterService.statusChanged(
+                enrollment.getStudent().getId(), course.getId(), previous, status);
+        transcriptService.studentChanged(enrollment.getStudent().getId());
+
+        // e.g. ACTIVE -> DROPPED: the seat goes to the oldest waitlisted student
+        if (heldSeat && !holdsSeat(status)) {
+            seatAllocationService.releaseSeat(course);
+        }
 
         log.info("Status updated successfully for enrollment ID: {}", id);
 
@@ -186,20 +373,26 @@ public class EnrollmentService {
 
     // DELETE
     public void deleteEnrollment(Long id) {
-        log.info("Deleting enrollment with ID: {}", id);
+        hotLog.debug("Deleting enrollment with ID: {}", id);
 
-        if (!enrollmentRepository.existsById(id)) {
+        Enrollment enrollment = enrollmentRepository.findById(id).orElseThrow(() -> {
             log.error(" Enrollment not found with ID: {}", id);
-            throw new EnrollmentException("Enrollment not found with ID: " + id);
-        }
+            return new EnrollmentException("Enrollment not found with ID: " + id);
+        });
 
-        enrollmentRepository.deleteById(id);
+        enrollmentRepository.delete(enrollment);
+        enrollmentCounterService.removed(
+                enrollment.getStudent().getId(), enrollment.getCourse().getId(), enrollment.getStatus());
+        transcriptService.studentChanged(enrollment.getStudent().getId());
+        if (holdsSeat(enrollment.getStatus())) {
+            seatAllocationService.releaseSeat(enrollment.getCourse());
+        }
         log.info("Enrollment deleted successfully with ID: {}", id);
     }
 
     // Get Student's Active Enrollments
     public List<EnrollmentResponseDTO> getActiveEnrollmentsByStudent(Long studentId) {
-        log.info("Fetching active enrollments for student ID: {}", studentId);
+        hotLog.debug("Fetching active enrollments for student ID: {}", studentId);
 
         // Check if student exists
         if (!studentRepository.existsById(studentId)) {
@@ -207,57 +400,73 @@ public class EnrollmentService {
             throw new StudentNotFoundException("Student not found with ID: " + studentId);
         }
 
-        List<Enrollment> enrollments = enrollmentRepository
-                .findByStudentIdAndStatus(studentId, EnrollmentStatus.ACTIVE);
+        List<EnrollmentResponseDTO> enrollments = enrollmentRepository
+                .findProjectedByStudentIdAndStatus(studentId, EnrollmentStatus.ACTIVE);
 
-        log.info("Found {} active enrollments for student ID : {}",
+        hotLog.debug("Found {} active enrollments for student ID : {}",
                 enrollments.size(), studentId);
 
-        // ✅ Use Mapper
-        return enrollments.stream()
-                .map(enrollmentMapper::toEnrollmentResponseDTO)
-                .collect(Collectors.toList());
+        return enrollments;
     }
 
     // Get Enrollments by Status
     public List<EnrollmentResponseDTO> getEnrollmentsByStatus(EnrollmentStatus status) {
-        log.info("Fetching enrollments with status: {}", status);
+        hotLog.debug("Fetching enrollments with status: {}", status);
 
-        List<Enrollment> enrollments = enrollmentRepository.findByStatus(status);
-        log.info("Found {} enrollments with status: {}", enrollments.size(), status);
+        List<EnrollmentResponseDTO> enrollments = enrollmentRepository.findProjectedByStatus(status);
+        hotLog.debug("Found {} enrollments with status: {}", enrollments.size(), status);
 
-        // ✅ Use Mapper
-        return enrollments.stream()
-                .map(enrollmentMapper::toEnrollmentResponseDTO)
-                .collect(Collectors.toList());
+        return enrollments;
     }
 
-    // Count Enrollments by Student
+    // Count Enrollments by Student (all statuses, from the materialized counters)
     public Long countEnrollmentsByStudent(Long studentId) {
-        log.info("Counting enrollments for student ID: {}", studentId);
+        hotLog.debug("Counting enrollments for student ID: {}", studentId);
 
-        if (!studentRepository.existsById(studentId)) {
-            throw new StudentNotFoundException("Student not found with ID: " + studentId);
-        }
-
-        Long count = enrollmentRepository.countEnrollmentsByStudentId(studentId);
-        log.info("Student ID {} has {} enrollments", studentId, count);
+        Long count = total(getEnrollmentCountsByStudent(studentId));
+        hotLog.debug("Student ID {} has {} enrollments", studentId, count);
 
         return count;
     }
 
-    // Count Enrollments by Course
+    // Count Enrollments by Course (all statuses, from the materialized counters)
     public Long countEnrollmentsByCourse(Long courseId) {
-        log.info("Counting enrollments for course ID: {}", courseId);
+        hotLog.debug("Counting enrollments for course ID: {}", courseId);
 
-        if (!courseRepository.existsById(courseId)) {
+        Long count = total(getEnrollmentCountsByCourse(courseId));
+        hotLog.debug("Course ID {} has {} enrollments", courseId, count);
+
+        return count;
+    }
+
+    // Enrollment counts per status for a student
+    public Map<EnrollmentStatus, Long> getEnrollmentCountsByStudent(Long studentId) {
+        Map<EnrollmentStatus, Long> counts = enrollmentCounterService.getCounts(CounterOwnerType.STUDENT, studentId);
+
+        // no enrollments counted: only then is it worth checking the student exists (2nd-level cache hit)
+        if (total(counts) == 0 && studentRepository.findById(studentId).isEmpty()) {
+            throw new StudentNotFoundException("Student not found with ID: " + studentId);
+        }
+        return counts;
+    }
+
+    // Enrollment counts per status for a course
+    public Map<EnrollmentStatus, Long> getEnrollmentCountsByCourse(Long courseId) {
+        Map<EnrollmentStatus, Long> counts = enrollmentCounterService.getCounts(CounterOwnerType.COURSE, courseId);
+
+        if (total(counts) == 0 && courseRepository.findById(courseId).isEmpty()) {
             throw new CourseNotFoundException("Course not found with ID: " + courseId);
         }
+        return counts;
+    }
 
-        Long count = enrollmentRepository.countEnrollmentsByCourseId(courseId);
-        log.info("Course ID {} has {} enrollments", courseId, count);
+    // ACTIVE and COMPLETED enrollments count against the course capacity
+    static boolean holdsSeat(EnrollmentStatus status) {
+        return status == EnrollmentStatus.ACTIVE || status == EnrollmentStatus.COMPLETED;
+    }
 
-        return count;
+    private static long total(Map<EnrollmentStatus, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
     }
 
 
@@ -0,0 +1,160 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.dto.request.StatusTransitionRequestDTO;
+import com.arnav.sms.dto.response.StatusTransitionResultDTO;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.Enrollment;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.exceptions.InvalidStatusTransitionException;
+import com.arnav.sms.repository.CourseRepository;
+import com.arnav.sms.repository.EnrollmentRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk status transitions (semester close: every ACTIVE enrollment of a course / term -> COMPLETED or DROPPED)
+ *
+ * Runs as a loop of chunks, each in its own transaction: lock the next N matching rows (keyset on id),
+ * one UPDATE ... WHERE id IN (...) for all of them, counters per owner, seats per course. Row locks are
+ * held for one chunk only, so enrollments into the same courses keep going while a big run is in progress.
+ *
+ * Committed chunks stay committed. Rows that were moved no longer match fromStatus, so an interrupted run
+ * is resumed by sending the same request again (optionally with afterId = lastEnrollmentId to skip ahead).
+ * Students promoted from the waitlist by this run (ACTIVE -> DROPPED frees seats) keep their new status,
+ * even when a later chunk would match them
+ */
+// every public method is timed as sms.service{class, method, exception} (buckets: application.properties)
+@Timed("sms.service")
+@Service
+@Slf4j
+public class EnrollmentStatusTransitionService {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentCounterService enrollmentCounterService;
+    private final SeatAllocationService seatAllocationService;
+    private final TranscriptService transcriptService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public EnrollmentStatusTransitionService(EnrollmentRepository enrollmentRepository,
+                                             CourseRepository courseRepository,
+                                             EnrollmentCounterService enrollmentCounterService,
+                                             SeatAllocationService seatAllocationService,
+                                             TranscriptService transcriptService,
+                                             PlatformTransactionManager transactionManager,
+                                             @Value("${app.enrollments.transition-chunk-size:500}") int chunkSize) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseRepository = courseRepository;
+        this.enrollmentCounterService = enrollmentCounterService;
+        this.seatAllocationService = seatAllocationService;
+        this.transcriptService = transcriptService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    // Move every matching enrollment from one status to another, chunk by chunk
+    public StatusTransitionResultDTO transition(StatusTransitionRequestDTO requestDTO) {
+        EnrollmentStatus from = requestDTO.getFromStatus();
+        EnrollmentStatus to = requestDTO.getToStatus();
+        if (from == to) {
+            throw new InvalidStatusTransitionException("Current and new status are both " + from);
+        }
+        // a seat per row, and waitlisting when a course is full - that stays on PATCH /api/enrollments/{id}/status
+        if (!EnrollmentService.holdsSeat(from) && EnrollmentService.holdsSeat(to)) {
+            throw new InvalidStatusTransitionException(
+                    from + " -> " + to + " needs a seat per enrollment and cannot be applied in bulk");
+        }
+        // the seats freed by demoting would promote the oldest waitlisted rows - i.e. the ones just demoted
+        if (to == EnrollmentStatus.WAITLISTED) {
+            throw new InvalidStatusTransitionException(
+                    from + " -> " + to + " cannot be applied in bulk, the waitlist is kept by seat allocation");
+        }
+
+        log.info("Bulk status transition {} -> {} started (course: {}, student: {}, enrolled: {} - {}, after: {})",
+                from, to, requestDTO.getCourseId(), requestDTO.getStudentId(),
+                requestDTO.getEnrolledFrom(), requestDTO.getEnrolledTo(), requestDTO.getAfterId());
+        long start = System.currentTimeMillis();
+
+        long afterId = requestDTO.getAfterId() != null ? requestDTO.getAfterId() : 0L;
+        Set<Long> promoted = new HashSet<>();
+        long updated = 0;
+        int chunks = 0;
+        while (true) {
+            long cursor = afterId;
+            ChunkResult chunk = transactionTemplate.execute(status -> applyChunk(requestDTO, cursor, promoted));
+            if (chunk == null || chunk.scanned() == 0) {
+                break;
+            }
+            chunks++;
+            updated += chunk.updated();
+            promoted.addAll(chunk.promoted());
+            afterId = chunk.lastId();
+            log.debug("Bulk status transition chunk {}: {} rows, up to ID: {}", chunks, chunk.updated(), afterId);
+            if (chunk.scanned() < chunkSize) {
+                break;
+            }
+        }
+
+        StatusTransitionResultDTO result = new StatusTransitionResultDTO(from, to, updated, promoted.size(), chunks,
+                afterId > 0 ? afterId : null, System.currentTimeMillis() - start);
+        log.info("Bulk status transition {} -> {} done. Updated: {}, Promoted: {}, Chunks: {}, Took: {} ms",
+                from, to, updated, promoted.size(), chunks, result.getDurationMs());
+        return result;
+    }
+
+    // skip = enrollments this run promoted from the waitlist
+    private ChunkResult applyChunk(StatusTransitionRequestDTO requestDTO, long afterId, Set<Long> skip) {
+        EnrollmentStatus from = requestDTO.getFromStatus();
+        EnrollmentStatus to = requestDTO.getToStatus();
+
+        List<Enrollment> locked = enrollmentRepository.lockForTransition(from, afterId,
+                requestDTO.getCourseId(), requestDTO.getStudentId(),
+                requestDTO.getEnrolledFrom(), requestDTO.getEnrolledTo(), Limit.of(chunkSize));
+        if (locked.isEmpty()) {
+            return new ChunkResult(0, 0, List.of(), afterId);
+        }
+        long lastId = locked.get(locked.size() - 1).getId();
+        List<Enrollment> rows = locked.stream().filter(enrollment -> !skip.contains(enrollment.getId())).toList();
+        if (rows.isEmpty()) {
+            return new ChunkResult(locked.size(), 0, List.of(), lastId);
+        }
+
+        // lazy student / course proxies: getId() reads the foreign key, nothing is loaded
+        Map<Long, Long> perStudent = new HashMap<>();
+        Map<Long, Long> perCourse = new HashMap<>();
+        for (Enrollment enrollment : rows) {
+            perStudent.merge(enrollment.getStudent().getId(), 1L, Long::sum);
+            perCourse.merge(enrollment.getCourse().getId(), 1L, Long::sum);
+        }
+
+        int updated = enrollmentRepository.updateStatusByIds(rows.stream().map(Enrollment::getId).toList(), to);
+        enrollmentCounterService.statusChangedAll(perStudent, perCourse, from, to);
+        perStudent.keySet().forEach(transcriptService::studentChanged);
+
+        // e.g. ACTIVE -> DROPPED: the seats go to the oldest waitlisted students of each course
+        List<Long> promoted = new ArrayList<>();
+        if (EnrollmentService.holdsSeat(from) && !EnrollmentService.holdsSeat(to)) {
+            for (Course course : courseRepository.findAllById(perCourse.keySet())) {
+                promoted.addAll(seatAllocationService.releaseSeats(course, perCourse.get(course.getId()).intValue()));
+            }
+        }
+        return new ChunkResult(locked.size(), updated, promoted, lastId);
+    }
+
+    // scanned = rows locked (drives the keyset loop), updated = rows actually moved
+    private record ChunkResult(int scanned, int updated, List<Long> promoted, long lastId) {
+    }
+}
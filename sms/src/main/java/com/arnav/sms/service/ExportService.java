@@ -0,0 +1,109 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.dto.response.EnrollmentResponseDTO;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.mapper.CourseMapper;
+import com.arnav.sms.mapper.StudentMapper;
+import com.arnav.sms.repository.CourseRepository;
+import com.arnav.sms.repository.EnrollmentRepository;
+import com.arnav.sms.repository.StreamingQueries;
+import com.arnav.sms.repository.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Full-table NDJSON exports (one JSON object per line)
+// Rows come from a JDBC cursor (StreamingQueries) and are written straight to the
+// response, and the persistence context is cleared every CLEAR_INTERVAL rows,
+// so memory stays flat no matter how big the table is
+@Service
+@Slf4j
+public class ExportService {
+
+    static final int CLEAR_INTERVAL = 500;
+
+    private final StreamingQueries streamingQueries;
+    private final StudentMapper studentMapper;
+    private final CourseMapper courseMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter ndjsonWriter;
+
+    public ExportService(StreamingQueries streamingQueries,
+                         StudentMapper studentMapper,
+                         CourseMapper courseMapper,
+                         EntityManager entityManager,
+                         ObjectMapper objectMapper) {
+        this.streamingQueries = streamingQueries;
+        this.studentMapper = studentMapper;
+        this.courseMapper = courseMapper;
+        this.entityManager = entityManager;
+        // NDJSON = har record ek line pe, so pretty print off
+        this.ndjsonWriter = objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .withRootValueSeparator("\n");
+    }
+
+    @Transactional(readOnly = true)
+    public void exportStudents(OutputStream out) {
+        log.info("Exporting all students as NDJSON");
+        try (Stream<?> rows = streamingQueries.stream(StudentRepository.STREAM_ALL, Student.class).map(studentMapper::toResponseDTO)) {
+            long count = writeRows(rows, out);
+            log.info("Exported {} students", count);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCourses(OutputStream out) {
+        log.info("Exporting all courses as NDJSON");
+        try (Stream<?> rows = streamingQueries.stream(CourseRepository.STREAM_ALL, Course.class).map(courseMapper::toCourseResponseDTO)) {
+            long count = writeRows(rows, out);
+            log.info("Exported {} courses", count);
+        }
+    }
+
+    // Enrollments stream as DTO projections, nothing gets attached to the persistence context
+    @Transactional(readOnly = true)
+    public void exportEnrollments(OutputStream out) {
+        log.info("Exporting all enrollments as NDJSON");
+        try (Stream<?> rows = streamingQueries.stream(EnrollmentRepository.STREAM_ALL_PROJECTED, EnrollmentResponseDTO.class)) {
+            long count = writeRows(rows, out);
+            log.info("Exported {} enrollments", count);
+        }
+    }
+
+    private long writeRows(Stream<?> rows, OutputStream out) {
+        long count = 0;
+        try {
+            SequenceWriter sequenceWriter = ndjsonWriter.writeValues(out);
+            Iterator<?> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                sequenceWriter.write(iterator.next());
+                count++;
+                if (count % CLEAR_INTERVAL == 0) {
+                    // already written rows ko memory se hatao
+                    entityManager.clear();
+                    sequenceWriter.flush();
+                }
+            }
+            if (count > 0) {
+                out.write('\n');
+            }
+            sequenceWriter.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("NDJSON export failed after " + count + " rows", ex);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,26 @@
+package com.arnav.sms.service;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Letter grade -> grade points (4.0 scale). Enrollment.grade is free text, so lookups are trimmed and
+ * case-insensitive; anything not listed (I, W, P, typos) has no points and stays out of the GPA
+ */
+final class GradeScale {
+
+    private static final Map<String, Double> POINTS = Map.ofEntries(
+            Map.entry("A+", 4.0), Map.entry("A", 4.0), Map.entry("A-", 3.7),
+            Map.entry("B+", 3.3), Map.entry("B", 3.0), Map.entry("B-", 2.7),
+            Map.entry("C+", 2.3), Map.entry("C", 2.0), Map.entry("C-", 1.7),
+            Map.entry("D+", 1.3), Map.entry("D", 1.0),
+            Map.entry("F", 0.0));
+
+    private GradeScale() {
+    }
+
+    // null = not on the scale
+    static Double pointsFor(String grade) {
+        return grade == null ? null : POINTS.get(grade.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,256 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.dto.response.CourseSeatsDTO;
+import com.arnav.sms.entity.CounterOwnerType;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.CourseSeatStripe;
+import com.arnav.sms.entity.CourseSeatStripeId;
+import com.arnav.sms.entity.Enrollment;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.repository.CourseSeatStripeRepository;
+import com.arnav.sms.repository.EnrollmentRepository;
+import com.arnav.sms.support.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Seat allocation for capacity-limited courses
+ *
+ * Free seats live in N stripe rows per course (course_seat_stripes). A seat is taken with a
+ * conditional decrement on one stripe (seats_left > 0), so the database never oversells and
+ * concurrent enrollments on a hot course lock different rows instead of queueing on one.
+ * An in-memory copy of the stripe counts (hints) lets enrollments skip stripes - or the whole
+ * database round trip - once a course is full; the stripe rows stay the source of truth.
+ *
+ * Hints are per application instance: with several instances a stale hint only costs a wasted
+ * UPDATE (stripe looked free) or an early waitlist (stripe looked empty until the next reload)
+ */
+@Service
+@Slf4j
+public class SeatAllocationService {
+
+    // Released seats always go back to this stripe. A capacity cut below the seats already held is
+    // parked here as a negative count, so releases pay that debt off before anyone gets promoted
+    static final int HOME_STRIPE = 0;
+
+    private final CourseSeatStripeRepository courseSeatStripeRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentCounterService enrollmentCounterService;
+    private final TranscriptService transcriptService;
+    private final int stripes;
+
+    // courseId -> believed free seats per stripe (loaded lazily from the stripe rows)
+    private final Map<Long, AtomicIntegerArray> hints = new ConcurrentHashMap<>();
+
+    public SeatAllocationService(CourseSeatStripeRepository courseSeatStripeRepository,
+                                 EnrollmentRepository enrollmentRepository,
+                                 EnrollmentCounterService enrollmentCounterService,
+                                 TranscriptService transcriptService,
+                                 @Value("${app.seats.stripes:8}") int stripes) {
+        this.courseSeatStripeRepository = courseSeatStripeRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentCounterService = enrollmentCounterService;
+        this.transcriptService = transcriptService;
+        this.stripes = stripes;
+    }
+
+    // Take one seat for a new / reactivated enrollment. false = course is full (caller waitlists or rejects)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryTakeSeat(Course course) {
+        if (course.getCapacity() == null) {
+            return true;
+        }
+        Long courseId = course.getId();
+        AtomicIntegerArray hint = hintFor(courseId);
+
+        // random start stripe spreads concurrent enrollments over the rows
+        int start = ThreadLocalRandom.current().nextInt(hint.length());
+        for (int i = 0; i < hint.length(); i++) {
+            int stripe = (start + i) % hint.length();
+            int seen = hint.get(stripe);
+            if (seen <= 0) {
+                continue;
+            }
+            if (courseSeatStripeRepository.takeSeat(courseId, stripe) == 1) {
+                hint.decrementAndGet(stripe);
+                // seat goes back into the hint if the enrollment does not commit
+                TransactionCallbacks.onRollback(() -> hint.incrementAndGet(stripe));
+                return true;
+            }
+            // stripe was empty after all; CAS so a seat returned meanwhile is not forgotten
+            hint.compareAndSet(stripe, seen, 0);
+        }
+        return false;
+    }
+
+    // A seat holder left (dropped / deleted): the oldest waitlisted student gets the seat,
+    // otherwise it goes back to the free pool
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseSeat(Course course) {
+        if (course.getCapacity() == null) {
+            return;
+        }
+        Long courseId = course.getId();
+        courseSeatStripeRepository.returnSeat(courseId, HOME_STRIPE);
+
+        List<Enrollment> next = enrollmentRepository.lockByCourseIdAndStatus(
+                courseId, EnrollmentStatus.WAITLISTED, Limit.of(1));
+        // take fails only while the course is over capacity (negative home stripe)
+        if (!next.isEmpty() && courseSeatStripeRepository.takeSeat(courseId, HOME_STRIPE) == 1) {
+            promote(next.get(0));
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            AtomicIntegerArray hint = hints.get(courseId);
+            if (hint != null) {
+                hint.incrementAndGet(HOME_STRIPE);
+            }
+        });
+    }
+
+    // Several seat holders of one course left at once (bulk status change): one stripe update returns
+    // all the seats, then up to that many waitlisted students are promoted. Returns the promoted enrollment ids
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Long> releaseSeats(Course course, int count) {
+        if (course.getCapacity() == null || count <= 0) {
+            return List.of();
+        }
+        Long courseId = course.getId();
+        courseSeatStripeRepository.returnSeats(courseId, HOME_STRIPE, count);
+
+        List<Long> promoted = new ArrayList<>();
+        for (Enrollment next : enrollmentRepository.lockByCourseIdAndStatus(
+                courseId, EnrollmentStatus.WAITLISTED, Limit.of(count))) {
+            // take fails only while the course is over capacity (negative home stripe)
+            if (courseSeatStripeRepository.takeSeat(courseId, HOME_STRIPE) != 1) {
+                break;
+            }
+            promote(next);
+            promoted.add(next.getId());
+        }
+        int returned = count - promoted.size();
+        TransactionCallbacks.afterCommit(() -> {
+            AtomicIntegerArray hint = hints.get(courseId);
+            if (hint != null) {
+                hint.addAndGet(HOME_STRIPE, returned);
+            }
+        });
+        return promoted;
+    }
+
+    /**
+     * Capacity set, changed or removed: recompute free seats, promote waitlisted students into any
+     * new room, and rewrite the stripes. Stripe rows are locked first, so concurrent
+     * enrollments wait for the new counts instead of racing them
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void capacityChanged(Course course, Integer oldCapacity) {
+        Integer capacity = course.getCapacity();
+        if (capacity == null ? oldCapacity == null : capacity.equals(oldCapacity)) {
+            return;
+        }
+        Long courseId = course.getId();
+        courseSeatStripeRepository.lockStripes(courseId);
+        List<CourseSeatStripeRepository.StripeRow> rows = courseSeatStripeRepository.findRows(courseId);
+        TransactionCallbacks.afterCommit(() -> hints.remove(courseId));
+
+        if (capacity == null) {
+            // no limit any more: everyone waiting gets in
+            enrollmentRepository.lockByCourseIdAndStatus(courseId, EnrollmentStatus.WAITLISTED, Limit.unlimited())
+                    .forEach(this::promote);
+            courseSeatStripeRepository.deleteByCourseId(courseId);
+            log.info("Capacity removed from course ID: {}", courseId);
+            return;
+        }
+
+        long free;
+        if (rows.isEmpty()) {
+            // first limit on this course: seats already held count against it
+            Map<EnrollmentStatus, Long> counts = enrollmentCounterService.getCounts(CounterOwnerType.COURSE, courseId);
+            free = capacity - counts.get(EnrollmentStatus.ACTIVE) - counts.get(EnrollmentStatus.COMPLETED);
+        } else {
+            free = rows.stream().mapToLong(CourseSeatStripeRepository.StripeRow::getSeatsLeft).sum()
+                    + capacity - (oldCapacity == null ? 0 : oldCapacity);
+        }
+
+        if (free > 0) {
+            List<Enrollment> waiting = enrollmentRepository.lockByCourseIdAndStatus(
+                    courseId, EnrollmentStatus.WAITLISTED, Limit.of((int) Math.min(free, Integer.MAX_VALUE)));
+            waiting.forEach(this::promote);
+            free -= waiting.size();
+        }
+
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            if (courseSeatStripeRepository.setSeats(courseId, stripe, share(free, stripe)) == 0) {
+                courseSeatStripeRepository.save(
+                        new CourseSeatStripe(new CourseSeatStripeId(courseId, stripe), share(free, stripe)));
+            }
+        }
+        courseSeatStripeRepository.deleteStripesFrom(courseId, stripes);
+
+        log.info("Capacity of course ID: {} set to {} ({} seats free)", courseId, capacity, free);
+    }
+
+    // Course is about to be deleted
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void courseDeleted(Long courseId) {
+        courseSeatStripeRepository.deleteByCourseId(courseId);
+        TransactionCallbacks.afterCommit(() -> hints.remove(courseId));
+    }
+
+    // Capacity, free seats and waitlist length of a course
+    @Transactional(readOnly = true)
+    public CourseSeatsDTO getSeats(Course course) {
+        Long waitlisted = enrollmentCounterService.getCounts(CounterOwnerType.COURSE, course.getId())
+                .get(EnrollmentStatus.WAITLISTED);
+        if (course.getCapacity() == null) {
+            return new CourseSeatsDTO(course.getId(), null, null, waitlisted);
+        }
+        int seatsLeft = courseSeatStripeRepository.findRows(course.getId()).stream()
+                .mapToInt(CourseSeatStripeRepository.StripeRow::getSeatsLeft).sum();
+        return new CourseSeatsDTO(course.getId(), course.getCapacity(), Math.max(seatsLeft, 0), waitlisted);
+    }
+
+    private void promote(Enrollment enrollment) {
+        enrollment.setStatus(EnrollmentStatus.ACTIVE);
+        enrollmentCounterService.statusChanged(enrollment.getStudent().getId(), enrollment.getCourse().getId(),
+                EnrollmentStatus.WAITLISTED, EnrollmentStatus.ACTIVE);
+        transcriptService.studentChanged(enrollment.getStudent().getId());
+        log.info("Enrollment ID: {} promoted from the waitlist", enrollment.getId());
+    }
+
+    // Even split over the stripes; a negative total (over capacity) sits on the home stripe
+    private int share(long free, int stripe) {
+        if (free <= 0) {
+            return stripe == HOME_STRIPE ? (int) free : 0;
+        }
+        return (int) (free / stripes + (stripe < free % stripes ? 1 : 0));
+    }
+
+    private AtomicIntegerArray hintFor(Long courseId) {
+        AtomicIntegerArray hint = hints.get(courseId);
+        if (hint != null) {
+            return hint;
+        }
+        // loaded outside computeIfAbsent so the map is never blocked on a query
+        AtomicIntegerArray loaded = new AtomicIntegerArray(stripes);
+        courseSeatStripeRepository.findRows(courseId).forEach(row -> {
+            if (row.getStripe() < stripes) {
+                loaded.set(row.getStripe(), row.getSeatsLeft());
+            }
+        });
+        AtomicIntegerArray raced = hints.putIfAbsent(courseId, loaded);
+        return raced != null ? raced : loaded;
+    }
+}
@@ -0,0 +1,122 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.dto.response.StudentImportErrorDTO;
+import com.arnav.sms.dto.response.StudentImportJobDTO;
+import com.arnav.sms.dto.response.StudentImportJobDTO.Status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * State of one student import. Written only by the worker thread (StudentImportWorker),
+ * read by any request thread through toDTO() / errors() - hence volatile fields instead of locks
+ * for the counters, and a synchronized list for the errors
+ */
+final class StudentImportJob {
+
+    // Per-row errors kept for GET .../errors; beyond this only the failed counter grows
+    static final int MAX_STORED_ERRORS = 1_000;
+
+    enum Format {
+        CSV("text/csv", ".csv"),
+        NDJSON("application/x-ndjson", ".ndjson");
+
+        final String mediaType;
+        final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+    }
+
+    private final String id;
+    private final Format format;
+    private final boolean updateExisting;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final List<StudentImportErrorDTO> errors = new ArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile long rowsRead;
+    private volatile long inserted;
+    private volatile long updated;
+    private volatile long failed;
+    private volatile String message;
+    private volatile LocalDateTime finishedAt;
+
+    StudentImportJob(String id, Format format, boolean updateExisting) {
+        this.id = id;
+        this.format = format;
+        this.updateExisting = updateExisting;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Format getFormat() {
+        return format;
+    }
+
+    boolean isUpdateExisting() {
+        return updateExisting;
+    }
+
+    LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    void started() {
+        status = Status.RUNNING;
+    }
+
+    void rowRead() {
+        rowsRead++;
+    }
+
+    void inserted(int count) {
+        inserted += count;
+    }
+
+    void updated(int count) {
+        updated += count;
+    }
+
+    void rejected(long row, String email, String reason) {
+        failed++;
+        synchronized (errors) {
+            if (errors.size() < MAX_STORED_ERRORS) {
+                errors.add(new StudentImportErrorDTO(row, email, reason));
+            }
+        }
+    }
+
+    void completed() {
+        message = failed == 0 ? "Import completed" : "Import completed with " + failed + " rejected rows";
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void failed(String reason) {
+        message = reason;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    StudentImportJobDTO toDTO() {
+        int storedErrors;
+        synchronized (errors) {
+            storedErrors = errors.size();
+        }
+        return new StudentImportJobDTO(id, status, format.name(), updateExisting, rowsRead, inserted, updated,
+                failed, storedErrors, message, createdAt, finishedAt);
+    }
+
+    List<StudentImportErrorDTO> errors(int offset, int limit) {
+        synchronized (errors) {
+            int from = Math.min(offset, errors.size());
+            return new ArrayList<>(errors.subList(from, Math.min(errors.size(), from + limit)));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.dto.response.StudentImportErrorDTO;
+import com.arnav.sms.dto.response.StudentImportJobDTO;
+import com.arnav.sms.exceptions.ImportJobNotFoundException;
+import com.arnav.sms.exceptions.InvalidImportException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Bulk student import jobs (CSV / NDJSON). The upload is copied to a temp file as it arrives, so the
+// request ends with the upload and memory does not grow with the file; StudentImportWorker does the rest.
+// Jobs live in memory (lost on restart) and are dropped JOB_RETENTION after they finish
+@Service
+@Slf4j
+public class StudentImportService {
+
+    static final Duration JOB_RETENTION = Duration.ofHours(24);
+
+    private final StudentImportWorker studentImportWorker;
+    private final Map<String, StudentImportJob> jobs = new ConcurrentHashMap<>();
+
+    public StudentImportService(StudentImportWorker studentImportWorker) {
+        this.studentImportWorker = studentImportWorker;
+    }
+
+    // Spool the upload and queue the job; returns its initial state (QUEUED)
+    public StudentImportJobDTO startImport(InputStream body, String contentType, boolean updateExisting) {
+        StudentImportJob.Format format = formatOf(contentType);
+        Path file = spool(body, format);
+
+        dropExpiredJobs();
+        StudentImportJob job = new StudentImportJob(UUID.randomUUID().toString(), format, updateExisting);
+        jobs.put(job.getId(), job);
+        log.info("Student import {} queued ({} bytes of {})", job.getId(), file.toFile().length(), format);
+
+        studentImportWorker.run(job, file);
+        return job.toDTO();
+    }
+
+    // Progress / result of one job
+    public StudentImportJobDTO getJob(String jobId) {
+        return findJob(jobId).toDTO();
+    }
+
+    // Rejected rows of one job, in file order
+    public List<StudentImportErrorDTO> getErrors(String jobId, int offset, int limit) {
+        return findJob(jobId).errors(offset, limit);
+    }
+
+    private StudentImportJob findJob(String jobId) {
+        StudentImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException("Import job " + jobId + " not found");
+        }
+        return job;
+    }
+
+    private static StudentImportJob.Format formatOf(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            for (StudentImportJob.Format format : StudentImportJob.Format.values()) {
+                if (mediaType.isCompatibleWith(MediaType.parseMediaType(format.mediaType))) {
+                    return format;
+                }
+            }
+        }
+        throw new InvalidImportException("Unsupported import format " + contentType
+                + " (use text/csv or application/x-ndjson)");
+    }
+
+    private static Path spool(InputStream body, StudentImportJob.Format format) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("student-import-", format.extension);
+            long bytes = Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            if (bytes == 0) {
+                Files.delete(file);
+                throw new InvalidImportException("Import file is empty");
+            }
+            return file;
+        } catch (IOException ex) {
+            if (file != null) {
+                file.toFile().delete();
+            }
+            throw new UncheckedIOException("Could not store the import upload", ex);
+        }
+    }
+
+    private void dropExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff));
+    }
+}
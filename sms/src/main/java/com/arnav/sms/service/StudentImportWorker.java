@@ -0,0 +1,255 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.config.LookupCacheConfig;
+import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.StudentImportErrorDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.mapper.StudentMapper;
+import com.arnav.sms.repository.StudentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Runs a student import in the background: reads the spooled upload one record at a time
+ * (MappingIterator - CSV and NDJSON alike), validates each row against the StudentRequestDTO
+ * constraints and writes CHUNK_SIZE rows per transaction:
+ *  - one SELECT ... WHERE email IN (...) per chunk finds the rows that already exist
+ *  - new students are inserted, existing ones updated (or rejected when updateExisting is off),
+ *    flushed as JDBC batches (hibernate.jdbc.batch_size + order_inserts / order_updates)
+ *  - a chunk that fails on the database (e.g. a concurrent insert of the same email) is retried
+ *    row by row, so one bad row costs its own transaction, not the other 499
+ *
+ * Search index entries come from StudentSearchListener (after commit), the email lookup cache is
+ * refreshed here after each committed chunk. Memory: one chunk plus the set of emails seen so far
+ */
+@Component
+@Slf4j
+public class StudentImportWorker {
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final int MAX_REASON_LENGTH = 300;
+
+    private final StudentRepository studentRepository;
+    private final StudentMapper studentMapper;
+    private final Validator validator;
+    private final TranscriptService transcriptService;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache studentByEmailCache;
+    private final Cache dashboardCache;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+
+    public StudentImportWorker(StudentRepository studentRepository,
+                               StudentMapper studentMapper,
+                               Validator validator,
+                               TranscriptService transcriptService,
+                               PlatformTransactionManager transactionManager,
+                               CacheManager cacheManager,
+                               ObjectMapper objectMapper) {
+        this.studentRepository = studentRepository;
+        this.studentMapper = studentMapper;
+        this.validator = validator;
+        this.transcriptService = transcriptService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.studentByEmailCache = cacheManager.getCache(LookupCacheConfig.STUDENT_BY_EMAIL);
+        this.dashboardCache = cacheManager.getCache(LookupCacheConfig.DASHBOARD_SUMMARY);
+        this.ndjsonReader = objectMapper.readerFor(StudentRequestDTO.class);
+        // header row = DTO field names (firstName, lastName, email, phone, dateOfBirth, address), any case / order
+        this.csvReader = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .build()
+                .readerFor(StudentRequestDTO.class)
+                .with(CsvSchema.emptySchema().withHeader());
+    }
+
+    @Async
+    public void run(StudentImportJob job, Path file) {
+        job.started();
+        log.info("Student import {} started ({}, updateExisting={})", job.getId(), job.getFormat(), job.isUpdateExisting());
+        long start = System.currentTimeMillis();
+
+        try (InputStream in = Files.newInputStream(file);
+             MappingIterator<StudentRequestDTO> rows = reader(job.getFormat()).readValues(in)) {
+
+            Set<String> seenEmails = new HashSet<>();
+            List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            long rowNumber = 0;
+            while (rows.hasNextValue()) {
+                rowNumber++;
+                job.rowRead();
+                StudentRequestDTO dto;
+                try {
+                    dto = rows.nextValue();
+                } catch (JsonMappingException ex) {
+                    // bad value (e.g. date) - the iterator skips to the next record
+                    job.rejected(rowNumber, null, "Unreadable row: " + ex.getOriginalMessage());
+                    continue;
+                }
+
+                String problem = validate(dto);
+                if (problem != null) {
+                    job.rejected(rowNumber, dto.getEmail(), problem);
+                } else if (!seenEmails.add(dto.getEmail().toLowerCase(Locale.ROOT))) {
+                    job.rejected(rowNumber, dto.getEmail(), "Duplicate email in file");
+                } else {
+                    chunk.add(new ImportRow(rowNumber, dto));
+                    if (chunk.size() == CHUNK_SIZE) {
+                        importChunk(job, chunk);
+                        chunk = new ArrayList<>(CHUNK_SIZE);
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk);
+            }
+            job.completed();
+        } catch (JsonProcessingException ex) {
+            // syntax error (broken CSV quoting / JSON) - no reliable way to find the next record
+            job.failed("Malformed " + job.getFormat() + " input: " + ex.getOriginalMessage());
+        } catch (IOException | RuntimeException ex) {
+            log.error("Student import {} failed", job.getId(), ex);
+            job.failed("Import failed: " + ex.getMessage());
+        } finally {
+            deleteQuietly(file);
+            // counts on the dashboard changed
+            dashboardCache.clear();
+        }
+
+        log.info("Student import {} finished in {} ms: {}", job.getId(), System.currentTimeMillis() - start, job.toDTO());
+    }
+
+    private ObjectReader reader(StudentImportJob.Format format) {
+        return format == StudentImportJob.Format.CSV ? csvReader : ndjsonReader;
+    }
+
+    // null if valid, else "field: message; field: message"
+    private String validate(StudentRequestDTO dto) {
+        if (dto == null) {
+            return "Empty row";
+        }
+        Set<ConstraintViolation<StudentRequestDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage().trim())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void importChunk(StudentImportJob job, List<ImportRow> rows) {
+        ChunkResult result;
+        try {
+            result = transactionTemplate.execute(status -> upsert(rows, job.isUpdateExisting()));
+        } catch (DataAccessException | TransactionException ex) {
+            if (rows.size() > 1) {
+                log.warn("Student import {}: chunk of {} rows failed ({}), retrying row by row",
+                        job.getId(), rows.size(), NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+                rows.forEach(row -> importChunk(job, List.of(row)));
+            } else {
+                ImportRow row = rows.get(0);
+                job.rejected(row.number(), row.dto().getEmail(), "Could not save: " + reason(ex));
+            }
+            return;
+        }
+
+        // committed: refresh the email lookups (also replaces negative entries) and count
+        result.saved().forEach(student -> studentByEmailCache.put(student.getEmail(), student));
+        job.inserted(result.inserted());
+        job.updated(result.saved().size() - result.inserted());
+        result.rejected().forEach(error -> job.rejected(error.getRow(), error.getEmail(), error.getMessage()));
+    }
+
+    private ChunkResult upsert(List<ImportRow> rows, boolean updateExisting) {
+        Map<String, Student> existing = new HashMap<>();
+        studentRepository.findByEmailIn(rows.stream().map(row -> row.dto().getEmail()).toList())
+                .forEach(student -> existing.put(student.getEmail().toLowerCase(Locale.ROOT), student));
+
+        List<Student> inserted = new ArrayList<>();
+        List<Student> updated = new ArrayList<>();
+        List<StudentImportErrorDTO> rejected = new ArrayList<>();
+        for (ImportRow row : rows) {
+            Student current = existing.get(row.dto().getEmail().toLowerCase(Locale.ROOT));
+            if (current == null) {
+                inserted.add(studentMapper.toEntity(row.dto()));
+            } else if (updateExisting) {
+                studentMapper.UpdateEntityFromDTO(row.dto(), current);
+                updated.add(current);
+            } else {
+                rejected.add(new StudentImportErrorDTO(row.number(), row.dto().getEmail(),
+                        "Student with email " + row.dto().getEmail() + " already exists"));
+            }
+        }
+        studentRepository.saveAll(inserted);
+        // inserts and dirty updates go out as JDBC batches here
+        studentRepository.flush();
+        // updated names show up on transcripts (evicted after commit)
+        updated.forEach(student -> transcriptService.studentChanged(student.getId()));
+
+        List<StudentResponseDTO> saved = new ArrayList<>(inserted.size() + updated.size());
+        inserted.forEach(student -> saved.add(studentMapper.toResponseDTO(student)));
+        updated.forEach(student -> saved.add(studentMapper.toResponseDTO(student)));
+        return new ChunkResult(saved, inserted.size(), rejected);
+    }
+
+    private static String reason(Exception ex) {
+        String reason = String.valueOf(NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+        return reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) + "..." : reason;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete import file {}: {}", file, ex.getMessage());
+        }
+    }
+
+    private record ImportRow(long number, StudentRequestDTO dto) {
+    }
+
+    // saved = inserted rows first, then updated ones
+    private record ChunkResult(List<StudentResponseDTO> saved, int inserted, List<StudentImportErrorDTO> rejected) {
+    }
+}
@@ -1,50 +1,87 @@
 package com.arnav.sms.service;
 
+import com.arnav.sms.config.LookupCacheConfig;
+import com.arnav.sms.dto.api.CursorPage;
 import com.arnav.sms.dto.request.StudentRequestDTO;
 import com.arnav.sms.dto.response.StudentResponseDTO;
 import com.arnav.sms.entity.Student;
 import com.arnav.sms.exceptions.DuplicateEmailException;
 import com.arnav.sms.exceptions.StudentNotFoundException;
+import com.arnav.sms.logging.HotPathLog;
 import com.arnav.sms.mapper.StudentMapper;
+import com.arnav.sms.repository.EnrollmentRepository;
 import com.arnav.sms.repository.StudentRepository;
+import com.arnav.sms.search.StudentSearchIndex;
+import com.arnav.sms.support.TransactionCallbacks;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+// every public method is timed as sms.service{class, method, exception} (buckets: application.properties)
+@Timed("sms.service")
 @Service
 @Slf4j
 public class StudentService {
 
+    // per-request lines: DEBUG, level-guarded (off in prod)
+    private static final HotPathLog hotLog = HotPathLog.of(StudentService.class);
+
     private final StudentRepository studentRepository;
     private final StudentMapper studentMapper;
-
-    public StudentService(StudentRepository studentRepository, StudentMapper studentMapper) {
+    private final StudentSearchIndex studentSearchIndex;
+    private final Cache studentByEmailCache;
+    private final EnrollmentCounterService enrollmentCounterService;
+    private final SeatAllocationService seatAllocationService;
+    private final EnrollmentRepository enrollmentRepository;
+    private final TranscriptService transcriptService;
+
+    public StudentService(StudentRepository studentRepository, StudentMapper studentMapper,
+                          StudentSearchIndex studentSearchIndex, CacheManager cacheManager,
+                          EnrollmentCounterService enrollmentCounterService,
+                          SeatAllocationService seatAllocationService,
+                          EnrollmentRepository enrollmentRepository,
+                          TranscriptService transcriptService) {
         this.studentRepository = studentRepository;
         this.studentMapper = studentMapper;
+        this.studentSearchIndex = studentSearchIndex;
+        this.studentByEmailCache = cacheManager.getCache(LookupCacheConfig.STUDENT_BY_EMAIL);
+        this.enrollmentCounterService = enrollmentCounterService;
+        this.seatAllocationService = seatAllocationService;
+        this.enrollmentRepository = enrollmentRepository;
+        this.transcriptService = transcriptService;
     }
 
     // Create Student
     public StudentResponseDTO createStudent(StudentRequestDTO studentRequestDTO) {
 
-        log.info("Creating new Student with email : {}", studentRequestDTO.getEmail());
+        hotLog.debug("Creating new Student with email : {}", studentRequestDTO.getEmail());
 
-        if(studentRepository.findByEmail(studentRequestDTO.getEmail()).isPresent()){
+        if(findCachedByEmail(studentRequestDTO.getEmail()).isPresent()){
             log.error("Student with email {} already exists", studentRequestDTO.getEmail());
             throw new DuplicateEmailException("Student with email " + studentRequestDTO.getEmail() + " already exists");
         }
         Student student = studentMapper.toEntity(studentRequestDTO);
         Student savedStudent = studentRepository.save(student);
         log.info("Student Created Successfully with email : {}", savedStudent.getEmail());
-        log.info("Your Student ID is : {}", savedStudent.getId());
+        hotLog.debug("Your Student ID is : {}", savedStudent.getId());
 
-        return studentMapper.toResponseDTO(savedStudent);
+        StudentResponseDTO response = studentMapper.toResponseDTO(savedStudent);
+        // replaces the negative entry left by the duplicate check
+        studentByEmailCache.put(response.getEmail(), response);
+        return response;
     }
 
     // READ - Get by ID
     public StudentResponseDTO getStudentById(Long studentId) {
 
-        log.info("Getting Student with id : {}", studentId);
+        hotLog.debug("Getting Student with id : {}", studentId);
 
         Student student = studentRepository.findById(studentId).orElseThrow(()->{
             log.error("Student with id {} not found", studentId);
@@ -57,63 +94,108 @@ public class StudentService {
     // find all students
     public List<StudentResponseDTO> getAllStudents() {
 
-        log.info("Getting All Students");
+        hotLog.debug("Getting All Students");
 
         List<Student> students = studentRepository.findAll();
-        log.info("Found {} Students", students.size());
+        hotLog.debug("Found {} Students", students.size());
 
         return students.stream()
                 .map(studentMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
+    // Keyset page of students
+    public CursorPage<StudentResponseDTO> getStudentsPage(String after, int limit) {
+
+        hotLog.debug("Getting Students page after cursor : {}", after);
+
+        int pageSize = CursorPage.clampLimit(limit);
+        List<Student> students = studentRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorPage.decodeCursor(after), Limit.of(pageSize + 1));
+
+        return CursorPage.of(
+                students.stream().map(studentMapper::toResponseDTO).collect(Collectors.toList()),
+                pageSize, StudentResponseDTO::getId);
+    }
+
     // Update Students
     public StudentResponseDTO updateStudent(Long studentId, StudentRequestDTO studentRequestDTO) {
-        log.info("Updating Student with id : {}", studentId);
+        hotLog.debug("Updating Student with id : {}", studentId);
         Student student = studentRepository.findById(studentId).orElseThrow(
                 ()->new StudentNotFoundException("Student with id " + studentId + " not found")
         );
-        if(!student.getEmail().equals(studentRequestDTO.getEmail()) && studentRepository.existsByEmail(studentRequestDTO.getEmail())){
+        String oldEmail = student.getEmail();
+        if(!oldEmail.equals(studentRequestDTO.getEmail()) && findCachedByEmail(studentRequestDTO.getEmail()).isPresent()){
             throw new DuplicateEmailException("Student with email " + studentRequestDTO.getEmail() + " already exists");
         }
         studentMapper.UpdateEntityFromDTO(studentRequestDTO, student);
         Student updatedStudent = studentRepository.save(student);
         log.info("Student Updated Successfully with id : {}", updatedStudent.getId());
-        return studentMapper.toResponseDTO(updatedStudent);
+
+        StudentResponseDTO response = studentMapper.toResponseDTO(updatedStudent);
+        studentByEmailCache.evict(oldEmail);
+        studentByEmailCache.put(response.getEmail(), response);
+        // name is on the transcript
+        transcriptService.studentChanged(studentId);
+        return response;
     }
 
-    // DELETE
+    // DELETE (enrollments go with the student, so the course counters and seats are adjusted in the same transaction)
+    @Transactional
     public void deleteStudent(Long id) {
-        log.info("Deleting student with ID: {}", id);
+        hotLog.debug("Deleting student with ID: {}", id);
 
-        if (!studentRepository.existsById(id)) {
+        Student student = studentRepository.findById(id).orElseThrow(() -> {
             log.error("Student not found with ID: {}", id);
-            throw new StudentNotFoundException("Student not found with ID: " + id);
-        }
+            return new StudentNotFoundException("Student not found with ID: " + id);
+        });
 
-        studentRepository.deleteById(id);
+        enrollmentCounterService.studentDeleted(student.getId());
+        // seats held by the student go to the waitlists of those courses
+        enrollmentRepository.findByStudentId(student.getId()).stream()
+                .filter(enrollment -> EnrollmentService.holdsSeat(enrollment.getStatus()))
+                .forEach(enrollment -> seatAllocationService.releaseSeat(enrollment.getCourse()));
+        studentRepository.delete(student);
+        // after commit: evicting earlier lets a racing getStudentByEmail re-cache the still-committed row
+        String email = student.getEmail();
+        TransactionCallbacks.afterCommit(() -> studentByEmailCache.evict(email));
+        transcriptService.studentChanged(student.getId());
         log.info("Student deleted successfully with ID: {}", id);
     }
 
-    // Search by Name
-    public List<StudentResponseDTO> searchStudents(String name) {
-        log.info("Searching students with name : {}", name);
+    // Search by name / email / phone (ranked, typo tolerant) via the in-memory index
+    public List<StudentResponseDTO> searchStudents(String name, int limit) {
+        hotLog.debug("Searching students with name : {}", name);
+
+        if (!studentSearchIndex.isReady()) {
+            // index abhi build ho raha hai (startup) - DB query fallback
+            log.warn("Student search index not ready, falling back to database search");
+            return studentRepository.searchByFullName(name).stream()
+                    .limit(limit)
+                    .map(studentMapper::toResponseDTO)
+                    .collect(Collectors.toList());
+        }
 
-        List<Student> students = studentRepository.searchByFullName(name);
-        log.info("Found {} Students matching: {}", students.size() , name);
+        List<StudentResponseDTO> students = studentSearchIndex.search(name, limit);
+        hotLog.debug("Found {} Students matching: {}", students.size() , name);
 
-        return students.stream()
-                .map(studentMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return students;
     }
 
     // Get By Email
     public StudentResponseDTO getStudentByEmail(String email) {
-        log.info("Getting Student with email : {}", email);
-        Student student = studentRepository.findByEmail(email).orElseThrow(( ) ->
+        hotLog.debug("Getting Student with email : {}", email);
+        return findCachedByEmail(email).orElseThrow(( ) ->
                 new StudentNotFoundException("Student with email " + email + " not found")
         );
-        return studentMapper.toResponseDTO(student);
+    }
+
+    // Read-through lookup by email; a miss is cached too (short negative ttl, see LookupCacheConfig)
+    private Optional<StudentResponseDTO> findCachedByEmail(String email) {
+        return Optional.ofNullable(studentByEmailCache.get(email, () ->
+                studentRepository.findByEmail(email)
+                        .map(studentMapper::toResponseDTO)
+                        .orElse(null)));
     }
 
 
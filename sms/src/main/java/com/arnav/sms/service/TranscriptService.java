@@ -0,0 +1,168 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.config.LookupCacheConfig;
+import com.arnav.sms.dto.response.GpaSummaryDTO;
+import com.arnav.sms.dto.response.TranscriptDTO;
+import com.arnav.sms.dto.response.TranscriptEntryDTO;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.exceptions.StudentNotFoundException;
+import com.arnav.sms.logging.HotPathLog;
+import com.arnav.sms.repository.EnrollmentRepository;
+import com.arnav.sms.repository.StudentRepository;
+import com.arnav.sms.support.TransactionCallbacks;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Transcripts and credit-weighted GPA (grade points from GradeScale x Course.credits)
+ *
+ * Only ACTIVE / COMPLETED enrollments count (DROPPED / WAITLISTED never earned a grade).
+ * Per student: one joined projection, reduced in a single pass, cached (LookupCacheConfig.TRANSCRIPT).
+ * The grade / status / course write paths call studentChanged / coursesChanged, which evict after commit,
+ * so a read racing the write can never put the old numbers back.
+ * Whole cohort: one query for every graded row, reduced per student on the fork-join common pool
+ */
+// every public method is timed as sms.service{class, method, exception} (buckets: application.properties)
+@Timed("sms.service")
+@Service
+@Slf4j
+public class TranscriptService {
+
+    // per-request lines: DEBUG, level-guarded (off in prod)
+    private static final HotPathLog hotLog = HotPathLog.of(TranscriptService.class);
+
+    static final Set<EnrollmentStatus> COUNTED = EnumSet.of(EnrollmentStatus.ACTIVE, EnrollmentStatus.COMPLETED);
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentRepository studentRepository;
+    private final Cache transcriptCache;
+
+    public TranscriptService(EnrollmentRepository enrollmentRepository, StudentRepository studentRepository,
+                             CacheManager cacheManager) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.studentRepository = studentRepository;
+        this.transcriptCache = cacheManager.getCache(LookupCacheConfig.TRANSCRIPT);
+    }
+
+    // Transcript + GPA of one student (cached)
+    @Transactional(readOnly = true)
+    public TranscriptDTO getTranscript(Long studentId) {
+        hotLog.debug("Fetching transcript for student ID: {}", studentId);
+
+        // unknown student = cached miss (negative ttl), like the lookups in StudentService
+        return Optional.ofNullable(transcriptCache.get(studentId, () -> computeTranscript(studentId)))
+                .orElseThrow(() -> {
+                    log.error("Student not found with ID: {}", studentId);
+                    return new StudentNotFoundException("Student not found with ID: " + studentId);
+                });
+    }
+
+    // GPA of every student with at least one graded course, sorted by student ID
+    @Transactional(readOnly = true)
+    public List<GpaSummaryDTO> getCohortGpa() {
+        long start = System.currentTimeMillis();
+        List<EnrollmentRepository.GradeRow> rows = enrollmentRepository.findGradeRows(COUNTED);
+
+        // parallel stream = fork-join: the rows are split across the common pool, each task folds its
+        // share into its own per-student map, and the partial maps are joined with GpaAccumulator.merge
+        Map<Long, GpaAccumulator> perStudent = rows.parallelStream().collect(Collectors.groupingBy(
+                EnrollmentRepository.GradeRow::getStudentId,
+                Collector.of(GpaAccumulator::new,
+                        (accumulator, row) -> accumulator.add(row.getCredits(), row.getGrade()),
+                        GpaAccumulator::merge)));
+
+        List<GpaSummaryDTO> result = perStudent.entrySet().stream()
+                .map(entry -> entry.getValue().toSummary(entry.getKey()))
+                .sorted(Comparator.comparing(GpaSummaryDTO::getStudentId))
+                .toList();
+        log.info("Cohort GPA computed for {} students from {} graded enrollments in {} ms",
+                result.size(), rows.size(), System.currentTimeMillis() - start);
+        return result;
+    }
+
+    // A grade / status / enrollment of this student changed (or the student itself)
+    public void studentChanged(Long studentId) {
+        TransactionCallbacks.afterCommit(() -> transcriptCache.evict(studentId));
+    }
+
+    // Course name / code / credits changed or courses were removed: every transcript may be affected
+    public void coursesChanged() {
+        TransactionCallbacks.afterCommit(transcriptCache::clear);
+    }
+
+    // null if the student does not exist
+    private TranscriptDTO computeTranscript(Long studentId) {
+        Student student = studentRepository.findById(studentId).orElse(null);
+        if (student == null) {
+            return null;
+        }
+
+        GpaAccumulator accumulator = new GpaAccumulator();
+        List<TranscriptEntryDTO> courses = new ArrayList<>();
+        for (EnrollmentRepository.TranscriptRow row : enrollmentRepository.findTranscriptRows(studentId, COUNTED)) {
+            accumulator.add(row.getCredits(), row.getGrade());
+            courses.add(new TranscriptEntryDTO(row.getCourseCode(), row.getCourseName(), row.getCredits(),
+                    row.getGrade(), GradeScale.pointsFor(row.getGrade()), row.getStatus()));
+        }
+        return new TranscriptDTO(studentId, student.getFirstName() + " " + student.getLastName(),
+                accumulator.toSummary(studentId), courses);
+    }
+
+    // Running totals for one student; merge() combines partial results of the fork-join split
+    static final class GpaAccumulator {
+
+        private double qualityPoints;
+        private int gradedCourses;
+        private int creditsAttempted;
+        private int creditsEarned;
+        private int unrecognizedGrades;
+
+        // grade null = in progress, not counted
+        void add(Integer credits, String grade) {
+            if (grade == null) {
+                return;
+            }
+            Double points = GradeScale.pointsFor(grade);
+            if (points == null) {
+                unrecognizedGrades++;
+                return;
+            }
+            int weight = credits != null ? credits : 0;
+            qualityPoints += points * weight;
+            gradedCourses++;
+            creditsAttempted += weight;
+            if (points > 0) {
+                creditsEarned += weight;
+            }
+        }
+
+        GpaAccumulator merge(GpaAccumulator other) {
+            qualityPoints += other.qualityPoints;
+            gradedCourses += other.gradedCourses;
+            creditsAttempted += other.creditsAttempted;
+            creditsEarned += other.creditsEarned;
+            unrecognizedGrades += other.unrecognizedGrades;
+            return this;
+        }
+
+        GpaSummaryDTO toSummary(Long studentId) {
+            Double gpa = creditsAttempted > 0 ? Math.round(qualityPoints / creditsAttempted * 100) / 100.0 : null;
+            return new GpaSummaryDTO(studentId, gpa, gradedCourses, creditsAttempted, creditsEarned, unrecognizedGrades);
+        }
+    }
+}
@@ -4,6 +4,7 @@
 // ─────────────────────────────────────────
 
 const BASE_URL = 'http://localhost:8080/api';
+const PAGE_SIZE = 50;
 
 async function request(method, path, body) {
   const res = await fetch(BASE_URL + path, {
@@ -27,4 +28,16 @@ const api = {
   put:    (path, body) => request('PUT',    path, body),
   patch:  (path, body) => request('PATCH',  path, body),
   delete: (path)       => request('DELETE', path),
+
+  // Keyset pagination — GET {path}/page?limit=&after=  →  data: { items, nextCursor, size }
+  page:   (path, after, limit = PAGE_SIZE) =>
+    request('GET', `${path}/page?limit=${limit}` + (after ? `&after=${encodeURIComponent(after)}` : '')),
 };
+
+// ── LOAD MORE BUTTON (shown under a table while the server has more pages) ──
+function loadMoreHTML(cursor, onClick) {
+  if (!cursor) return '';
+  return `<div style="text-align:center;margin-top:16px">
+    <button class="btn btn-ghost" onclick="${onClick}">Load more</button>
+  </div>`;
+}
@@ -1,8 +1,11 @@
 // ─────────────────────────────────────────
 // app.js — Router + Dashboard
 // Entry point of the application
+// Dashboard data: GET /api/dashboard/summary?recent=  (aggregates, cached server-side)
 // ─────────────────────────────────────────
 
+const DASH_RECENT = 5;
+
 // ── PAGE ROUTER ──
 const pages = { dashboard, students, courses, enrollments };
 
@@ -41,12 +44,14 @@ async function dashboard() {
         <div class="stat-icon">⟐</div>
         <div class="stat-value" id="d-enrollments">—</div>
         <div class="stat-label">Total Enrollments</div>
+        <div class="stat-label" id="d-status" style="margin-top:4px"></div>
       </div>
     </div>
     <div class="section">
       <div class="tabs">
         <div class="tab active" onclick="switchDashTab(this, 'dash-students')">Recent Students</div>
         <div class="tab" onclick="switchDashTab(this, 'dash-enrollments')">Recent Enrollments</div>
+        <div class="tab" onclick="switchDashTab(this, 'dash-courses')">Top Courses</div>
       </div>
       <div id="dash-students" class="tab-content active">
         <div class="loading"><div class="spinner"></div>Loading...</div>
@@ -54,32 +59,30 @@ async function dashboard() {
       <div id="dash-enrollments" class="tab-content">
         <div class="loading"><div class="spinner"></div>Loading...</div>
       </div>
+      <div id="dash-courses" class="tab-content">
+        <div class="loading"><div class="spinner"></div>Loading...</div>
+      </div>
     </div>`;
 
   try {
-    // Fetch all three in parallel
-    const [sRes, cRes, eRes] = await Promise.all([
-      api.get('/students'),
-      api.get('/courses'),
-      api.get('/enrollments'),
-    ]);
-
-    const studentList    = sRes.data || [];
-    const courseList     = cRes.data || [];
-    const enrollmentList = eRes.data || [];
+    // One aggregate call instead of downloading all three tables
+    const res = await api.get(`/dashboard/summary?recent=${DASH_RECENT}`);
+    const summary = res.data || {};
 
     // Update stat cards
-    document.getElementById('d-students').textContent    = studentList.length;
-    document.getElementById('d-courses').textContent     = courseList.length;
-    document.getElementById('d-enrollments').textContent = enrollmentList.length;
+    document.getElementById('d-students').textContent    = summary.totalStudents ?? 0;
+    document.getElementById('d-courses').textContent     = summary.totalCourses ?? 0;
+    document.getElementById('d-enrollments').textContent = summary.totalEnrollments ?? 0;
+    document.getElementById('d-status').textContent = Object.entries(summary.enrollmentsByStatus || {})
+      .map(([status, count]) => `${status.toLowerCase()} ${count}`).join(' · ');
 
     // Update sidebar badges
-    document.getElementById('student-count').textContent    = studentList.length;
-    document.getElementById('course-count').textContent     = courseList.length;
-    document.getElementById('enrollment-count').textContent = enrollmentList.length;
+    document.getElementById('student-count').textContent    = summary.totalStudents ?? 0;
+    document.getElementById('course-count').textContent     = summary.totalCourses ?? 0;
+    document.getElementById('enrollment-count').textContent = summary.totalEnrollments ?? 0;
 
-    // Recent Students (last 5)
-    const recent = [...studentList].reverse().slice(0, 5);
+    // Recent Students (newest first)
+    const recent = summary.recentStudents || [];
     const dashStudentsEl = document.getElementById('dash-students');
 
     if (!recent.length) {
@@ -107,8 +110,8 @@ async function dashboard() {
         </div>`;
     }
 
-    // Recent Enrollments (last 5)
-    const recentE = [...enrollmentList].reverse().slice(0, 5);
+    // Recent Enrollments (newest first)
+    const recentE = summary.recentEnrollments || [];
     const dashEnrollEl = document.getElementById('dash-enrollments');
 
     if (!recentE.length) {
@@ -131,6 +134,29 @@ async function dashboard() {
         </div>`;
     }
 
+    // Top Courses (most enrollments)
+    const top = summary.topCourses || [];
+    const dashCoursesEl = document.getElementById('dash-courses');
+
+    if (!top.length) {
+      dashCoursesEl.innerHTML = `<div class="empty"><div class="empty-icon">⬡</div><div class="empty-text">No enrollments yet</div></div>`;
+    } else {
+      dashCoursesEl.innerHTML = `
+        <div class="table-wrap">
+          <table>
+            <thead><tr><th>Code</th><th>Course</th><th>Enrollments</th></tr></thead>
+            <tbody>
+              ${top.map(c => `
+                <tr>
+                  <td style="font-family:'DM Mono',monospace;font-size:12px">${c.courseCode}</td>
+                  <td style="font-weight:500">${c.courseName}</td>
+                  <td style="font-family:'DM Mono',monospace;color:var(--accent2)">${c.enrollmentCount}</td>
+                </tr>`).join('')}
+            </tbody>
+          </table>
+        </div>`;
+    }
+
   } catch (e) {
     toast('Could not connect to backend — is Spring Boot running on :8080?', 'error');
   }
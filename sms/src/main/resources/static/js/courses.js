@@ -1,14 +1,17 @@
 // ─────────────────────────────────────────
 // courses.js — Courses page CRUD
 // Endpoints used:
-//   GET    /api/courses
+//   GET    /api/courses/page?limit=&after=
+//   GET    /api/courses/suggest?q=&limit=
 //   GET    /api/courses/:id
 //   POST   /api/courses
 //   PUT    /api/courses/:id
 //   DELETE /api/courses/:id
 // ─────────────────────────────────────────
 
-let allCourses = [];
+let allCourses   = [];
+let courseCursor = null;   // next-page cursor, null when everything is loaded
+let courseSearchTimer = null;
 
 // ── RENDER PAGE ──
 async function courses() {
@@ -36,12 +39,21 @@ async function courses() {
   await loadCourses();
 }
 
-// ── LOAD ALL ──
+// ── LOAD (first page) ──
 async function loadCourses() {
+  allCourses   = [];
+  courseCursor = null;
+  await loadMoreCourses();
+}
+
+// ── LOAD NEXT PAGE ──
+async function loadMoreCourses() {
   try {
-    const res = await api.get('/courses');
-    allCourses = res.data || [];
-    document.getElementById('course-count').textContent = allCourses.length;
+    const res  = await api.page('/courses', courseCursor);
+    const page = res.data || {};
+    allCourses   = allCourses.concat(page.items || []);
+    courseCursor = page.nextCursor || null;
+    document.getElementById('course-count').textContent = allCourses.length + (courseCursor ? '+' : '');
     renderCourseTable(allCourses);
   } catch (e) {
     document.getElementById('course-table').innerHTML =
@@ -50,19 +62,22 @@ async function loadCourses() {
   }
 }
 
-// ── FILTER ──
+// ── SEARCH (server-side typeahead, debounced) ──
 function filterCourses(query) {
-  const q = query.toLowerCase();
-  const filtered = allCourses.filter(c =>
-    c.courseName?.toLowerCase().includes(q) ||
-    c.courseCode?.toLowerCase().includes(q) ||
-    c.instructor?.toLowerCase().includes(q)
-  );
-  renderCourseTable(filtered);
+  clearTimeout(courseSearchTimer);
+  const q = query.trim();
+  if (!q) { renderCourseTable(allCourses); return; }
+
+  courseSearchTimer = setTimeout(async () => {
+    try {
+      const res = await api.get(`/courses/suggest?q=${encodeURIComponent(q)}&limit=50`);
+      renderCourseTable(res.data || [], false);
+    } catch (e) { toast(e.message, 'error'); }
+  }, 200);
 }
 
 // ── RENDER TABLE ──
-function renderCourseTable(data) {
+function renderCourseTable(data, showMore = true) {
   const el = document.getElementById('course-table');
   if (!data.length) {
     el.innerHTML = `<div class="empty"><div class="empty-icon">⬡</div><div class="empty-text">No courses found</div></div>`;
@@ -76,6 +91,7 @@ function renderCourseTable(data) {
             <th>Course Name</th>
             <th>Code</th>
             <th>Credits</th>
+            <th>Capacity</th>
             <th>Instructor</th>
             <th>Description</th>
             <th>Actions</th>
@@ -87,6 +103,7 @@ function renderCourseTable(data) {
               <td><div class="cell-name">${c.courseName}</div></td>
               <td><span class="badge badge-blue">${c.courseCode}</span></td>
               <td style="font-family:'DM Mono',monospace;color:var(--accent2)">${c.credits}</td>
+              <td style="font-family:'DM Mono',monospace;color:var(--muted)">${c.capacity || '∞'}</td>
               <td style="color:var(--muted)">${c.instructor || '—'}</td>
               <td style="color:var(--muted);font-size:12px;max-width:200px;overflow:hidden;text-overflow:ellipsis;white-space:nowrap">
                 ${c.description || '—'}
@@ -100,7 +117,8 @@ function renderCourseTable(data) {
             </tr>`).join('')}
         </tbody>
       </table>
-    </div>`;
+    </div>
+    ${showMore ? loadMoreHTML(courseCursor, 'loadMoreCourses()') : ''}`;
 }
 
 // ── FORM HTML ──
@@ -119,6 +137,10 @@ function courseFormHTML(c = {}) {
         <label>Credits *</label>
         <input id="c-credits" type="number" value="${c.credits || ''}" placeholder="4" min="1" max="10" />
       </div>
+      <div class="form-group">
+        <label>Capacity</label>
+        <input id="c-capacity" type="number" value="${c.capacity || ''}" placeholder="Unlimited" min="1" />
+      </div>
       <div class="form-group">
         <label>Instructor</label>
         <input id="c-instructor" value="${c.instructor || ''}" placeholder="Dr. Smith" />
@@ -136,6 +158,7 @@ function getCourseFormData() {
     courseName:  document.getElementById('c-name').value.trim(),
     courseCode:  document.getElementById('c-code').value.trim(),
     credits:     parseInt(document.getElementById('c-credits').value) || null,
+    capacity:    parseInt(document.getElementById('c-capacity').value) || null,
     instructor:  document.getElementById('c-instructor').value.trim() || null,
     description: document.getElementById('c-desc').value.trim() || null,
   };
@@ -1,15 +1,16 @@
 // ─────────────────────────────────────────
 // enrollments.js — Enrollments page
 // Endpoints used:
-//   GET    /api/enrollments
+//   GET    /api/enrollments/page?limit=&after=
 //   POST   /api/enrollments
 //   PATCH  /api/enrollments/:id/grade?grade=A+
 //   PATCH  /api/enrollments/:id/status?status=ACTIVE
 //   DELETE /api/enrollments/:id
 // ─────────────────────────────────────────
 
-let allEnrollments = [];
-let statusFilter   = '';
+let allEnrollments   = [];
+let enrollmentCursor = null;   // next-page cursor, null when everything is loaded
+let statusFilter     = '';
 
 // ── RENDER PAGE ──
 async function enrollments() {
@@ -32,6 +33,7 @@ async function enrollments() {
           <option value="ACTIVE">Active</option>
           <option value="COMPLETED">Completed</option>
           <option value="DROPPED">Dropped</option>
+          <option value="WAITLISTED">Waitlisted</option>
         </select>
         <button class="btn btn-ghost" onclick="loadEnrollments()">↻ Refresh</button>
       </div>
@@ -43,12 +45,21 @@ async function enrollments() {
   await loadEnrollments();
 }
 
-// ── LOAD ALL ──
+// ── LOAD (first page) ──
 async function loadEnrollments() {
+  allEnrollments   = [];
+  enrollmentCursor = null;
+  await loadMoreEnrollments();
+}
+
+// ── LOAD NEXT PAGE ──
+async function loadMoreEnrollments() {
   try {
-    const res = await api.get('/enrollments');
-    allEnrollments = res.data || [];
-    document.getElementById('enrollment-count').textContent = allEnrollments.length;
+    const res  = await api.page('/enrollments', enrollmentCursor);
+    const page = res.data || {};
+    allEnrollments   = allEnrollments.concat(page.items || []);
+    enrollmentCursor = page.nextCursor || null;
+    document.getElementById('enrollment-count').textContent = allEnrollments.length + (enrollmentCursor ? '+' : '');
     applyEnrollmentFilters();
   } catch (e) {
     document.getElementById('enrollment-table').innerHTML =
@@ -125,7 +136,8 @@ function renderEnrollmentTable(data) {
             </tr>`).join('')}
         </tbody>
       </table>
-    </div>`;
+    </div>
+    ${loadMoreHTML(enrollmentCursor, 'loadMoreEnrollments()')}`;
 }
 
 // ── ADD ENROLLMENT ──
@@ -166,8 +178,10 @@ async function submitAddEnrollment() {
     toast('Please select both a student and a course', 'error'); return;
   }
   try {
-    await api.post('/enrollments', { studentId: +studentId, courseId: +courseId });
-    toast('Student enrolled successfully!', 'success');
+    const res = await api.post('/enrollments', { studentId: +studentId, courseId: +courseId });
+    toast(res.data?.status === 'WAITLISTED'
+      ? 'Course is full - student added to the waitlist'
+      : 'Student enrolled successfully!', 'success');
     closeModal();
     await loadEnrollments();
   } catch (e) { toast(e.message, 'error'); }
@@ -198,6 +212,7 @@ async function submitUpdateGrade(id) {
 }
 
 // ── UPDATE STATUS ──
+// WAITLISTED is not offered: only seat allocation puts enrollments on the waitlist
 function openUpdateStatus(id, currentStatus) {
   openModal('Update Status', `
     <div class="form-group">
@@ -243,6 +258,6 @@ async function submitDeleteEnrollment(id) {
 
 // ── UTIL ──
 function statusBadge(status) {
-  const map = { ACTIVE: 'green', COMPLETED: 'blue', DROPPED: 'red' };
+  const map = { ACTIVE: 'green', COMPLETED: 'blue', DROPPED: 'red', WAITLISTED: 'yellow' };
   return `<span class="badge badge-${map[status] || 'yellow'}">${status}</span>`;
 }
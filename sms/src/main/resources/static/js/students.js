@@ -1,14 +1,17 @@
 // ─────────────────────────────────────────
 // students.js — Students page CRUD
 // Endpoints used:
-//   GET    /api/students
+//   GET    /api/students/page?limit=&after=
+//   GET    /api/students/search?name=&limit=
 //   GET    /api/students/:id
 //   POST   /api/students
 //   PUT    /api/students/:id
 //   DELETE /api/students/:id
 // ─────────────────────────────────────────
 
-let allStudents = [];
+let allStudents  = [];
+let studentCursor = null;   // next-page cursor, null when everything is loaded
+let studentSearchTimer = null;
 
 // ── RENDER PAGE ──
 async function students() {
@@ -36,12 +39,21 @@ async function students() {
   await loadStudents();
 }
 
-// ── LOAD ALL ──
+// ── LOAD (first page) ──
 async function loadStudents() {
+  allStudents   = [];
+  studentCursor = null;
+  await loadMoreStudents();
+}
+
+// ── LOAD NEXT PAGE ──
+async function loadMoreStudents() {
   try {
-    const res = await api.get('/students');
-    allStudents = res.data || [];
-    document.getElementById('student-count').textContent = allStudents.length;
+    const res  = await api.page('/students', studentCursor);
+    const page = res.data || {};
+    allStudents   = allStudents.concat(page.items || []);
+    studentCursor = page.nextCursor || null;
+    document.getElementById('student-count').textContent = allStudents.length + (studentCursor ? '+' : '');
     renderStudentTable(allStudents);
   } catch (e) {
     document.getElementById('student-table').innerHTML =
@@ -50,18 +62,22 @@ async function loadStudents() {
   }
 }
 
-// ── FILTER ──
+// ── SEARCH (server-side index, debounced) ──
 function filterStudents(query) {
-  const q = query.toLowerCase();
-  const filtered = allStudents.filter(s =>
-    `${s.firstName} ${s.lastName}`.toLowerCase().includes(q) ||
-    s.email.toLowerCase().includes(q)
-  );
-  renderStudentTable(filtered);
+  clearTimeout(studentSearchTimer);
+  const q = query.trim();
+  if (!q) { renderStudentTable(allStudents); return; }
+
+  studentSearchTimer = setTimeout(async () => {
+    try {
+      const res = await api.get(`/students/search?name=${encodeURIComponent(q)}&limit=50`);
+      renderStudentTable(res.data || [], false);
+    } catch (e) { toast(e.message, 'error'); }
+  }, 200);
 }
 
 // ── RENDER TABLE ──
-function renderStudentTable(data) {
+function renderStudentTable(data, showMore = true) {
   const el = document.getElementById('student-table');
   if (!data.length) {
     el.innerHTML = `<div class="empty"><div class="empty-icon">◎</div><div class="empty-text">No students found</div></div>`;
@@ -105,7 +121,8 @@ function renderStudentTable(data) {
             </tr>`).join('')}
         </tbody>
       </table>
-    </div>`;
+    </div>
+    ${showMore ? loadMoreHTML(studentCursor, 'loadMoreStudents()') : ''}`;
 }
 
 // ── FORM HTML ──
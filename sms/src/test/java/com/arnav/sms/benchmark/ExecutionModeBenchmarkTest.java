@@ -0,0 +1,159 @@
+package com.arnav.sms.benchmark;
+
+import com.arnav.sms.SmsApplication;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.repository.CourseRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Platform threads (Tomcat's 200) vs virtual threads + admission control, 2k concurrent clients
+// hammering a DB-backed endpoint over a 10-connection pool. Reports throughput and latency percentiles.
+// Opt-in: mvn test -Dtest=ExecutionModeBenchmarkTest -Dbenchmark=true
+// Note: H2 in-memory answers in microseconds, so JDBC waits (where virtual threads shine) are much shorter
+// than on MySQL; the numbers show the queueing behaviour, not production throughput
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExecutionModeBenchmarkTest {
+
+    private static final int CLIENTS = 2_000;
+    private static final int COURSES = 500;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(15);
+
+    @Test
+    void platformVsVirtualThreads() throws Exception {
+        Result platform = run("platform", false);
+        Result virtual = run("virtual", true);
+
+        System.out.printf("Execution mode, %d concurrent clients, GET /api/courses/page, pool size 10%n", CLIENTS);
+        for (Result result : List.of(platform, virtual)) {
+            System.out.printf("  %-8s: %,8.0f req/s  p50 %6.1f ms  p99 %7.1f ms  p99.9 %7.1f ms  max %7.1f ms  errors %d%n",
+                    result.mode, result.throughput, result.p50, result.p99, result.p999, result.max, result.errors);
+        }
+    }
+
+    private Result run(String mode, boolean virtualThreads) throws Exception {
+        // command-line args: must win over the -Dspring.datasource.* the build passes for contextLoads
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SmsApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=jdbc:h2:mem:mode-" + mode + ";MODE=MySQL",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.hikari.maximum-pool-size=10",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                // logging per request would dominate the timings
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.org.springframework.web=WARN")) {
+
+            seedCourses(context.getBean(CourseRepository.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/courses/page?limit=20");
+
+            drive(uri, WARMUP);
+            return new Result(mode, drive(uri, MEASURE), MEASURE);
+        }
+    }
+
+    private static void seedCourses(CourseRepository courseRepository) {
+        List<Course> courses = new ArrayList<>(COURSES);
+        for (int i = 0; i < COURSES; i++) {
+            Course course = new Course();
+            course.setCourseName("Course " + i);
+            course.setCourseCode("BM" + i);
+            course.setCredits(4);
+            courses.add(course);
+        }
+        courseRepository.saveAll(courses);
+    }
+
+    // Every client sends requests back to back until the deadline; returns latencies (ns), errors as -1
+    private static List<long[]> drive(URI uri, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(clients)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .build()) {
+
+            List<Future<long[]>> futures = new ArrayList<>(CLIENTS);
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[256];
+                    int n = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        long latency;
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            latency = response.statusCode() == 200 ? System.nanoTime() - start : -1;
+                        } catch (Exception e) {
+                            latency = -1;
+                        }
+                        if (n == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, n * 2);
+                        }
+                        latencies[n++] = latency;
+                    }
+                    return Arrays.copyOf(latencies, n);
+                }));
+            }
+
+            List<long[]> all = new ArrayList<>(CLIENTS);
+            for (Future<long[]> future : futures) {
+                all.add(future.get());
+            }
+            return all;
+        }
+    }
+
+    private static final class Result {
+        final String mode;
+        final double throughput;
+        final double p50;
+        final double p99;
+        final double p999;
+        final double max;
+        final long errors;
+
+        Result(String mode, List<long[]> perClient, Duration duration) {
+            long[] all = perClient.stream().flatMapToLong(Arrays::stream).toArray();
+            long[] ok = Arrays.stream(all).filter(latency -> latency >= 0).sorted().toArray();
+            this.mode = mode;
+            this.errors = all.length - ok.length;
+            this.throughput = ok.length / (double) duration.toSeconds();
+            this.p50 = percentile(ok, 0.50);
+            this.p99 = percentile(ok, 0.99);
+            this.p999 = percentile(ok, 0.999);
+            this.max = ok.length == 0 ? 0 : ok[ok.length - 1] / 1_000_000.0;
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1_000_000.0;
+        }
+    }
+}
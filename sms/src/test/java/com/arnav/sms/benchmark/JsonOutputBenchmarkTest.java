@@ -0,0 +1,125 @@
+package com.arnav.sms.benchmark;
+
+import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.repository.StudentRepository;
+import com.arnav.sms.service.CourseService;
+import com.arnav.sms.service.EnrollmentService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// GET /api/enrollments as pretty JSON (old default), compact JSON (prod default) and NDJSON:
+// bytes per response and CPU per request. MockMvc runs the whole request on the calling thread,
+// so thread CPU time covers query, mapping and serialization.
+// Opt-in: mvn test -Dtest=JsonOutputBenchmarkTest -Dbenchmark=true
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:json-bench;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // logging per request would dominate the timings
+        "spring.jpa.show-sql=false",
+        "logging.level.root=WARN",
+        "logging.level.com.arnav.sms=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.org.springframework.web=WARN"
+})
+@AutoConfigureMockMvc
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JsonOutputBenchmarkTest {
+
+    private static final int STUDENTS = 1_000;
+    private static final int COURSES = 50;
+    private static final int COURSES_PER_STUDENT = 5;
+    private static final int WARMUP = 100;
+    private static final int MEASURE = 300;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Test
+    void prettyVsCompactVsNdjson() throws Exception {
+        seed();
+
+        Map<String, RequestBuilder> modes = new LinkedHashMap<>();
+        modes.put("pretty", get("/api/enrollments").param("pretty", "true"));
+        modes.put("compact", get("/api/enrollments").param("pretty", "false"));
+        modes.put("ndjson", get("/api/enrollments").accept(MediaType.APPLICATION_NDJSON));
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        System.out.printf("JSON output, GET /api/enrollments, %,d rows, %d requests per mode%n",
+                STUDENTS * COURSES_PER_STUDENT, MEASURE);
+        long baselineBytes = 0;
+        double baselineCpu = 0;
+        for (Map.Entry<String, RequestBuilder> mode : modes.entrySet()) {
+            for (int i = 0; i < WARMUP; i++) {
+                mockMvc.perform(mode.getValue());
+            }
+            long bytes = 0;
+            long cpuStart = threads.getCurrentThreadCpuTime();
+            for (int i = 0; i < MEASURE; i++) {
+                bytes = mockMvc.perform(mode.getValue()).andReturn().getResponse().getContentAsByteArray().length;
+            }
+            double cpuMs = (threads.getCurrentThreadCpuTime() - cpuStart) / 1e6 / MEASURE;
+            if (baselineBytes == 0) {
+                baselineBytes = bytes;
+                baselineCpu = cpuMs;
+            }
+            System.out.printf("  %-8s: %,10d bytes (%5.1f%%)  CPU %7.2f ms/request (%5.1f%%)%n",
+                    mode.getKey(), bytes, 100.0 * bytes / baselineBytes, cpuMs, 100.0 * cpuMs / baselineCpu);
+        }
+    }
+
+    private void seed() {
+        List<Long> courseIds = new ArrayList<>(COURSES);
+        for (int c = 0; c < COURSES; c++) {
+            courseIds.add(courseService.createCourse(new CourseRequestDTO(
+                    "Course " + c, "JB" + c, 4, "Dr. Instructor " + c, "Benchmark course " + c, null)).getId());
+        }
+        List<Student> students = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = new Student();
+            student.setFirstName("Student" + i);
+            student.setLastName("Bench");
+            student.setEmail("student" + i + "@json.bench");
+            student.setPhone(String.format("98%08d", i));
+            student.setDateOfBirth(LocalDate.of(2000, 1, 1).plusDays(i % 1000));
+            students.add(student);
+        }
+        List<EnrollmentRequestDTO> requests = new ArrayList<>(STUDENTS * COURSES_PER_STUDENT);
+        for (Student student : studentRepository.saveAll(students)) {
+            for (int k = 0; k < COURSES_PER_STUDENT; k++) {
+                requests.add(new EnrollmentRequestDTO(student.getId(), courseIds.get((int) ((student.getId() + k) % COURSES))));
+            }
+        }
+        enrollmentService.bulkEnroll(requests);
+    }
+}
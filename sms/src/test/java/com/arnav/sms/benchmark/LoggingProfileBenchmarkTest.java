@@ -0,0 +1,157 @@
+package com.arnav.sms.benchmark;
+
+import com.arnav.sms.SmsApplication;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Default logging (show-sql, SQL DEBUG, binder TRACE, web DEBUG, per-request lines, synchronous appenders)
+// vs the prod profile (sampled SQL, HotPathLog off, async appenders), same app and data otherwise.
+// Reports request latency percentiles for GET /api/students/page with a few concurrent clients.
+// Opt-in: mvn test -Dtest=LoggingProfileBenchmarkTest -Dbenchmark=true
+// Console output goes through surefire here; on a real terminal / container log driver the gap is usually wider
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LoggingProfileBenchmarkTest {
+
+    private static final int CLIENTS = 32;
+    private static final int STUDENTS = 2_000;
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final Duration MEASURE = Duration.ofSeconds(15);
+
+    @Test
+    void defaultVsProdLogging() throws Exception {
+        Result dev = run("default");
+        Result prod = run("prod");
+
+        System.out.printf("Logging profile, %d concurrent clients, GET /api/students/page?limit=20%n", CLIENTS);
+        for (Result result : List.of(dev, prod)) {
+            System.out.printf("  %-8s: %,8.0f req/s  p50 %6.2f ms  p90 %6.2f ms  p99 %7.2f ms  max %7.1f ms  errors %d%n",
+                    result.profile, result.throughput, result.p50, result.p90, result.p99, result.max, result.errors);
+        }
+    }
+
+    private Result run(String profile) throws Exception {
+        // command-line args: must win over the -Dspring.datasource.* the build passes for contextLoads
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SmsApplication.class).run(
+                "--server.port=0",
+                "--spring.profiles.active=" + profile,
+                "--spring.datasource.url=jdbc:h2:mem:logging-" + profile + ";MODE=MySQL",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--logging.file.name=target/logging-benchmark/" + profile + ".log")) {
+
+            seedStudents(context.getBean(StudentRepository.class));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/students/page?limit=20");
+
+            drive(uri, WARMUP);
+            return new Result(profile, drive(uri, MEASURE), MEASURE);
+        }
+    }
+
+    private static void seedStudents(StudentRepository studentRepository) {
+        List<Student> students = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = new Student();
+            student.setFirstName("Student" + i);
+            student.setLastName("Bench");
+            student.setEmail("student" + i + "@logging.bench");
+            student.setPhone(String.format("98%08d", i));
+            student.setDateOfBirth(LocalDate.of(2000, 1, 1).plusDays(i % 1000));
+            student.setEnrollmentDate(LocalDate.of(2024, 7, 1));
+            students.add(student);
+        }
+        studentRepository.saveAll(students);
+    }
+
+    // Every client sends requests back to back until the deadline; returns latencies (ns), errors as -1
+    private static List<long[]> drive(URI uri, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(clients)
+                     .connectTimeout(Duration.ofSeconds(10))
+                     .build()) {
+
+            List<Future<long[]>> futures = new ArrayList<>(CLIENTS);
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int n = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        long latency;
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            latency = response.statusCode() == 200 ? System.nanoTime() - start : -1;
+                        } catch (Exception e) {
+                            latency = -1;
+                        }
+                        if (n == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, n * 2);
+                        }
+                        latencies[n++] = latency;
+                    }
+                    return Arrays.copyOf(latencies, n);
+                }));
+            }
+
+            List<long[]> all = new ArrayList<>(CLIENTS);
+            for (Future<long[]> future : futures) {
+                all.add(future.get());
+            }
+            return all;
+        }
+    }
+
+    private static final class Result {
+        final String profile;
+        final double throughput;
+        final double p50;
+        final double p90;
+        final double p99;
+        final double max;
+        final long errors;
+
+        Result(String profile, List<long[]> perClient, Duration duration) {
+            long[] all = perClient.stream().flatMapToLong(Arrays::stream).toArray();
+            long[] ok = Arrays.stream(all).filter(latency -> latency >= 0).sorted().toArray();
+            this.profile = profile;
+            this.errors = all.length - ok.length;
+            this.throughput = ok.length / (double) duration.toSeconds();
+            this.p50 = percentile(ok, 0.50);
+            this.p90 = percentile(ok, 0.90);
+            this.p99 = percentile(ok, 0.99);
+            this.max = ok.length == 0 ? 0 : ok[ok.length - 1] / 1_000_000.0;
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.arnav.sms.benchmark;
+
+import com.arnav.sms.config.CacheRegionProperties;
+import com.arnav.sms.config.LookupCacheConfig;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.entity.CounterOwnerType;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.mapper.CourseMapper;
+import com.arnav.sms.mapper.EnrollmentMapper;
+import com.arnav.sms.mapper.StudentMapper;
+import com.arnav.sms.repository.CourseSeatStripeRepository;
+import com.arnav.sms.repository.EnrollmentRepository;
+import com.arnav.sms.search.CourseSearchIndex;
+import com.arnav.sms.search.CourseSearchListener;
+import com.arnav.sms.search.StudentSearchIndex;
+import com.arnav.sms.search.StudentSearchListener;
+import com.arnav.sms.service.EnrollmentCounterService;
+import com.arnav.sms.service.EnrollmentService;
+import com.arnav.sms.service.SeatAllocationService;
+import com.arnav.sms.service.TranscriptService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 10k concurrent enrollments into one 100-seat course: exactly 100 ACTIVE, the rest WAITLISTED,
+// no seat oversold and counters in step with the rows.
+// Opt-in: mvn test -Dtest=SeatAllocationLoadTest -Dbenchmark=true
+// Note: H2 row locks stand in for InnoDB here; the point is correctness under contention, timings are indicative
+@DataJpaTest(showSql = false, properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:seatload;MODE=MySQL;LOCK_TIMEOUT=30000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        // pooled table ids fetch a new block on a separate connection: with no spare connection every worker
+        // ends up waiting on the id refill, which itself waits for a connection (until connection-timeout)
+        "spring.datasource.hikari.maximum-pool-size=" + (SeatAllocationLoadTest.THREADS + 2),
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // SQL logging would dominate the timings
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.com.arnav.sms=WARN"
+})
+@Import({EnrollmentService.class, EnrollmentMapper.class, EnrollmentCounterService.class, SeatAllocationService.class, TranscriptService.class,
+        StudentSearchListener.class, StudentSearchIndex.class, StudentMapper.class,
+        CourseSearchListener.class, CourseSearchIndex.class, CourseMapper.class,
+        LookupCacheConfig.class, CacheRegionProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SeatAllocationLoadTest {
+
+    static final int THREADS = 64;
+    private static final int STUDENTS = 10_000;
+    private static final int CAPACITY = 100;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private SeatAllocationService seatAllocationService;
+
+    @Autowired
+    private EnrollmentCounterService enrollmentCounterService;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseSeatStripeRepository courseSeatStripeRepository;
+
+    @Test
+    void tenThousandConcurrentEnrollmentsNeverOversell() throws InterruptedException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Course course = transactionTemplate.execute(status -> {
+            Course hot = new Course();
+            hot.setCourseName("Machine Learning");
+            hot.setCourseCode("CS499");
+            hot.setCredits(4);
+            hot.setCapacity(CAPACITY);
+            entityManager.persist(hot);
+            seatAllocationService.capacityChanged(hot, null);
+            return hot;
+        });
+        List<Long> studentIds = transactionTemplate.execute(status -> {
+            List<Long> ids = new ArrayList<>(STUDENTS);
+            for (int i = 0; i < STUDENTS; i++) {
+                Student student = new Student();
+                student.setFirstName("First" + i);
+                student.setLastName("Last" + i);
+                student.setEmail("load" + i + "@example.com");
+                student.setPhone("9876543210");
+                entityManager.persist(student);
+                ids.add(student.getId());
+            }
+            return ids;
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        for (Long studentId : studentIds) {
+            pool.execute(() -> {
+                try {
+                    startGate.await();
+                    EnrollmentRequestDTO request = new EnrollmentRequestDTO();
+                    request.setStudentId(studentId);
+                    request.setCourseId(course.getId());
+                    enrollmentService.enrollStudent(request);
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        startGate.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Map<EnrollmentStatus, Long> rows = new EnumMap<>(EnrollmentStatus.class);
+        enrollmentRepository.countGroupedByStatus().forEach(row -> rows.put(row.getStatus(), row.getCount()));
+        int seatsLeft = courseSeatStripeRepository.findRows(course.getId()).stream()
+                .mapToInt(CourseSeatStripeRepository.StripeRow::getSeatsLeft).sum();
+
+        System.out.printf("Seat allocation, %d concurrent enrollments (%d threads) into a %d-seat course%n",
+                STUDENTS, THREADS, CAPACITY);
+        System.out.printf("  took         : %.2f s (%,.0f enrollments/s)%n", seconds, STUDENTS / seconds);
+        System.out.printf("  rows         : %s, seats left %d, errors %d%n", rows, seatsLeft, errors.size());
+
+        assertThat(errors).isEmpty();
+        assertThat(rows).containsEntry(EnrollmentStatus.ACTIVE, (long) CAPACITY)
+                .containsEntry(EnrollmentStatus.WAITLISTED, (long) (STUDENTS - CAPACITY));
+        assertThat(seatsLeft).isZero();
+        assertThat(enrollmentCounterService.getCounts(CounterOwnerType.COURSE, course.getId()))
+                .containsEntry(EnrollmentStatus.ACTIVE, (long) CAPACITY)
+                .containsEntry(EnrollmentStatus.WAITLISTED, (long) (STUDENTS - CAPACITY));
+    }
+}
@@ -0,0 +1,146 @@
+package com.arnav.sms.benchmark;
+
+import com.arnav.sms.mapper.CourseMapper;
+import com.arnav.sms.mapper.StudentMapper;
+import com.arnav.sms.search.CourseSearchIndex;
+import com.arnav.sms.search.CourseSearchListener;
+import com.arnav.sms.search.StudentSearchIndex;
+import com.arnav.sms.search.StudentSearchListener;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+// Insert throughput for a 100k-row student import: IDENTITY ids (what Student used before; Hibernate must
+// run every INSERT on persist to read the key, so nothing batches) vs pooled table ids, row by row and batched.
+// Both sides are test-only copies of Student's columns that differ only in the id, so the search listener and
+// the second-level cache (which the real Student pays for on every insert) do not skew the comparison.
+// Opt-in: mvn test -Dtest=StudentImportBenchmarkTest -Dbenchmark=true
+// Note: H2 in-memory has no network round trip, so the gap on MySQL is much larger
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // SQL logging would dominate the timings
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@Import({StudentSearchListener.class, StudentSearchIndex.class, StudentMapper.class,
+        CourseSearchListener.class, CourseSearchIndex.class, CourseMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StudentImportBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int WARMUP_ROWS = 10_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void importThroughputIdentityVsPooledIds() {
+        importStudents(WARMUP_ROWS, 50, "warm-identity", IdentityStudent::new);
+        importStudents(WARMUP_ROWS, 1, "warm-single", PooledStudent::new);
+        importStudents(WARMUP_ROWS, 50, "warm-batched", PooledStudent::new);
+
+        double identity = importStudents(ROWS, 50, "identity", IdentityStudent::new);
+        double rowByRow = importStudents(ROWS, 1, "single", PooledStudent::new);
+        double batched = importStudents(ROWS, 50, "batched", PooledStudent::new);
+
+        System.out.printf("Student import, %d rows%n", ROWS);
+        System.out.printf("  IDENTITY ids   (batch size 50, unused): %,.0f rows/s%n", identity);
+        System.out.printf("  pooled ids     (batch size 1)         : %,.0f rows/s%n", rowByRow);
+        System.out.printf("  pooled ids     (batch size 50)        : %,.0f rows/s%n", batched);
+        System.out.printf("  speedup pooled+batched vs IDENTITY    : %.2fx%n", batched / identity);
+    }
+
+    // returns rows per second
+    private double importStudents(int rows, int jdbcBatchSize, String emailPrefix,
+                                  Supplier<BenchmarkStudent> newRow) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            for (int i = 0; i < rows; i++) {
+                BenchmarkStudent student = newRow.get();
+                student.firstName = "First" + i;
+                student.lastName = "Last" + i;
+                student.email = emailPrefix + i + "@example.com";
+                student.phone = "9876543210";
+                entityManager.persist(student);
+
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return rows / seconds;
+    }
+
+    // Student's columns (test classpath only)
+    @MappedSuperclass
+    abstract static class BenchmarkStudent {
+
+        @Column(length = 50, nullable = false)
+        String firstName;
+
+        @Column(length = 50, nullable = false)
+        String lastName;
+
+        @Column(length = 100, nullable = false, unique = true)
+        String email;
+
+        @Column(length = 10, nullable = false)
+        String phone;
+    }
+
+    // the old Student id
+    @Entity
+    @Table(name = "identity_student_benchmark")
+    static class IdentityStudent extends BenchmarkStudent {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+    }
+
+    // the current Student id: same generator settings, own row in id_sequences
+    @Entity
+    @Table(name = "pooled_student_benchmark")
+    static class PooledStudent extends BenchmarkStudent {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "pooled_student_benchmark_gen")
+        @TableGenerator(
+                name = "pooled_student_benchmark_gen",
+                table = "id_sequences",
+                pkColumnName = "sequence_name",
+                valueColumnName = "next_val",
+                pkColumnValue = "pooled_student_benchmark",
+                allocationSize = 50
+        )
+        private long id;
+    }
+}
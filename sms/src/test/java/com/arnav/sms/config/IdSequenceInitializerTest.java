@@ -0,0 +1,62 @@
+package com.arnav.sms.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Startup alignment of id_sequences with rows that were inserted under IDENTITY ids
+class IdSequenceInitializerTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createTables() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:idseq_" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        for (String table : new String[]{"student", "course", "enrollments"}) {
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT PRIMARY KEY)");
+        }
+        jdbcTemplate.execute("CREATE TABLE id_sequences (sequence_name VARCHAR(64) PRIMARY KEY, next_val BIGINT)");
+    }
+
+    @Test
+    void sequencesAreMovedPastExistingRowsButNeverBack() {
+        jdbcTemplate.update("INSERT INTO student (id) VALUES (1), (7), (42)");
+        jdbcTemplate.update("INSERT INTO course (id) VALUES (3)");
+        jdbcTemplate.update("INSERT INTO enrollments (id) VALUES (5)");
+        // behind the table, ahead of the table; enrollments has no row yet
+        jdbcTemplate.update("INSERT INTO id_sequences VALUES ('student', 10), ('course', 500)");
+
+        initializer().alignSequences();
+
+        assertThat(nextVal("student")).isEqualTo(43);
+        assertThat(nextVal("course")).isEqualTo(500);
+        assertThat(nextVal("enrollments")).isEqualTo(6);
+    }
+
+    @Test
+    void emptyTablesStartAtOneAndAlignmentIsIdempotent() {
+        initializer().alignSequences();
+        initializer().alignSequences();
+
+        assertThat(nextVal("student")).isEqualTo(1);
+        assertThat(nextVal("course")).isEqualTo(1);
+        assertThat(nextVal("enrollments")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM id_sequences", Integer.class)).isEqualTo(3);
+    }
+
+    // the EntityManagerFactory is only there to order startup, the tables are created above
+    private IdSequenceInitializer initializer() {
+        return new IdSequenceInitializer(jdbcTemplate, null);
+    }
+
+    private long nextVal(String sequenceName) {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_sequences WHERE sequence_name = ?", Long.class, sequenceName);
+    }
+}
@@ -0,0 +1,85 @@
+package com.arnav.sms.config;
+
+import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.service.StudentService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Pretty / compact layout per request, NDJSON for list endpoints only, Blackbird on the app's ObjectMapper
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jsonoutput;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureMockMvc
+class JsonOutputConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Test
+    void layoutAndNdjsonAreNegotiatedPerRequest() throws Exception {
+        assertThat(objectMapper.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+
+        StudentResponseDTO first = studentService.createStudent(new StudentRequestDTO(
+                "Anaya", "Kapoor", "anaya.json@example.com", "9876523410", LocalDate.of(2003, 1, 14), "Jaipur"));
+        studentService.createStudent(new StudentRequestDTO(
+                "Vihaan", "Reddy", "vihaan.json@example.com", "9876523411", LocalDate.of(2002, 11, 2), "Hyderabad"));
+
+        // dev default (indent_output=true) and the per-request override
+        String pretty = mockMvc.perform(get("/api/students")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String compact = mockMvc.perform(get("/api/students").param("pretty", "false")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(pretty).contains("\n");
+        assertThat(compact).doesNotContain("\n").hasSizeLessThan(pretty.length());
+        assertThat(objectMapper.readTree(compact).get("data")).isEqualTo(objectMapper.readTree(pretty).get("data"));
+
+        // list endpoint: one row per line, no envelope
+        String ndjson = mockMvc.perform(get("/api/students").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = ndjson.split("\n");
+        assertThat(ndjson).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode row = objectMapper.readTree(lines[0]);
+        assertThat(row.get("email").asText()).isEqualTo("anaya.json@example.com");
+        assertThat(row.has("success")).isFalse();
+
+        // single objects have no NDJSON shape, errors still come back as one line
+        mockMvc.perform(get("/api/students/{id}", first.getId()).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isNotAcceptable());
+        String error = mockMvc.perform(get("/api/students/{id}", 987654321L).accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isNotFound())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readTree(error).get("status").asInt()).isEqualTo(404);
+
+        // browsers / curl default still get JSON
+        mockMvc.perform(get("/api/students").accept(MediaType.ALL))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,103 @@
+package com.arnav.sms.config;
+
+import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.exceptions.CourseNotFoundException;
+import com.arnav.sms.exceptions.StudentNotFoundException;
+import com.arnav.sms.metrics.SqlStatementCounter;
+import com.arnav.sms.service.CourseService;
+import com.arnav.sms.service.StudentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Read-through lookups: a hit stays off the database, a miss is remembered only for the negative ttl
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:lookupcache;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.cache.lookups.courseByCode.negative-ttl=200ms",
+        "app.cache.lookups.studentByEmail.negative-ttl=200ms"
+})
+class LookupCacheConfigTest {
+
+    // comfortably past the 200ms negative ttl above
+    private static final long PAST_NEGATIVE_TTL_MS = 500;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void hitIsServedWithoutTheRepository() {
+        CourseResponseDTO course = courseService.createCourse(
+                new CourseRequestDTO("Caching", "LC101", 3, "Dr. Ghosh", null, null));
+        StudentResponseDTO student = studentService.createStudent(new StudentRequestDTO(
+                "Tara", "Das", "tara.lookup@example.com", "9876512345", LocalDate.of(2003, 6, 1), null));
+        // start from a cold cache so the first read is a real load
+        cacheManager.getCache(LookupCacheConfig.COURSE_BY_CODE).clear();
+        cacheManager.getCache(LookupCacheConfig.STUDENT_BY_EMAIL).clear();
+
+        SqlStatementCounter.start();
+        assertThat(courseService.getByCourseCode("LC101").getId()).isEqualTo(course.getId());
+        assertThat(studentService.getStudentByEmail("tara.lookup@example.com").getId()).isEqualTo(student.getId());
+        assertThat(SqlStatementCounter.stop()).isEqualTo(2);
+
+        SqlStatementCounter.start();
+        assertThat(courseService.getByCourseCode("LC101").getId()).isEqualTo(course.getId());
+        assertThat(studentService.getStudentByEmail("tara.lookup@example.com").getId()).isEqualTo(student.getId());
+        assertThat(SqlStatementCounter.stop()).isZero();
+    }
+
+    @Test
+    void missIsCachedOnlyForTheNegativeTtl() throws InterruptedException {
+        SqlStatementCounter.start();
+        assertThatThrownBy(() -> courseService.getByCourseCode("NOPE101")).isInstanceOf(CourseNotFoundException.class);
+        assertThatThrownBy(() -> studentService.getStudentByEmail("nobody@example.com"))
+                .isInstanceOf(StudentNotFoundException.class);
+        assertThat(SqlStatementCounter.stop()).isEqualTo(2);
+
+        // repeated probes are answered by the NullValue entries
+        SqlStatementCounter.start();
+        assertThatThrownBy(() -> courseService.getByCourseCode("NOPE101")).isInstanceOf(CourseNotFoundException.class);
+        assertThatThrownBy(() -> studentService.getStudentByEmail("nobody@example.com"))
+                .isInstanceOf(StudentNotFoundException.class);
+        assertThat(SqlStatementCounter.stop()).isZero();
+
+        Thread.sleep(PAST_NEGATIVE_TTL_MS);
+
+        SqlStatementCounter.start();
+        assertThatThrownBy(() -> courseService.getByCourseCode("NOPE101")).isInstanceOf(CourseNotFoundException.class);
+        assertThatThrownBy(() -> studentService.getStudentByEmail("nobody@example.com"))
+                .isInstanceOf(StudentNotFoundException.class);
+        assertThat(SqlStatementCounter.stop()).isEqualTo(2);
+    }
+
+    @Test
+    void createReplacesACachedMiss() {
+        assertThatThrownBy(() -> courseService.getByCourseCode("LC201")).isInstanceOf(CourseNotFoundException.class);
+
+        CourseResponseDTO course = courseService.createCourse(
+                new CourseRequestDTO("Cache Writes", "LC201", 3, "Dr. Ghosh", null, null));
+
+        // no waiting out the negative ttl: the new course is visible at once, from the cache
+        SqlStatementCounter.start();
+        assertThat(courseService.getByCourseCode("LC201").getId()).isEqualTo(course.getId());
+        assertThat(SqlStatementCounter.stop()).isZero();
+    }
+}
@@ -0,0 +1,75 @@
+package com.arnav.sms.config;
+
+import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.service.CourseService;
+import com.arnav.sms.service.EnrollmentService;
+import com.arnav.sms.service.StudentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Service / repository / pool timers and the per-request SQL count show up on the Prometheus endpoint
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metrics;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Test
+    void prometheusEndpointExposesHotPathMetrics() throws Exception {
+        StudentResponseDTO student = studentService.createStudent(new StudentRequestDTO(
+                "Kabir", "Mehta", "kabir.metrics@example.com", "9876501234", LocalDate.of(2002, 3, 9), "Delhi"));
+        CourseResponseDTO course = courseService.createCourse(new CourseRequestDTO(
+                "Compilers", "CS420", 4, "Dr. Iyer", "Parsing and code generation", null));
+        enrollmentService.enrollStudent(new EnrollmentRequestDTO(student.getId(), course.getId()));
+
+        mockMvc.perform(get("/api/enrollments/course/{courseId}", course.getId()))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .contains("sms_service_seconds_count{")
+                .contains("class=\"com.arnav.sms.service.EnrollmentService\"")
+                .contains("method=\"getEnrollmentsByCourse\"")
+                .contains("spring_data_repository_invocations_seconds_count{")
+                .contains("hikaricp_connections_acquire_seconds_count{")
+                .contains("sms_http_sql_statements_count{")
+                .contains("uri=\"/api/enrollments/course/{courseId}\"")
+                // SLO buckets, not a full percentile histogram
+                .contains("sms_http_sql_statements_bucket{")
+                .contains("le=\"5.0\"");
+    }
+}
@@ -0,0 +1,83 @@
+package com.arnav.sms.config;
+
+import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.metrics.SqlStatsResponseHeaderAdvice;
+import com.arnav.sms.service.CourseService;
+import com.arnav.sms.service.EnrollmentService;
+import com.arnav.sms.service.StudentService;
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The JDBC proxy sits on top of Hikari, fills the dev header and logs requests over the limits
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sqlmonitor;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.sql-monitor.enabled=true",
+        "app.sql-monitor.response-header=true",
+        "app.sql-monitor.max-rows=0"
+})
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class SqlMonitorConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Test
+    void measuresEachApiRequestAndLogsTheOnesOverTheLimits(CapturedOutput output) throws Exception {
+        assertThat(dataSource).isInstanceOf(ProxyDataSource.class);
+        assertThat(dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()).isPositive();
+
+        StudentResponseDTO student = studentService.createStudent(new StudentRequestDTO(
+                "Ishaan", "Verma", "ishaan.monitor@example.com", "9876512340", LocalDate.of(2001, 7, 21), "Pune"));
+        CourseResponseDTO course = courseService.createCourse(new CourseRequestDTO(
+                "Databases", "CS340", 4, "Dr. Nair", "Storage, indexes and transactions", null));
+        enrollmentService.enrollStudent(new EnrollmentRequestDTO(student.getId(), course.getId()));
+
+        String stats = mockMvc.perform(get("/api/enrollments/student/{studentId}", student.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatsResponseHeaderAdvice.HEADER))
+                .andReturn().getResponse().getHeader(SqlStatsResponseHeaderAdvice.HEADER);
+
+        assertThat(stats).matches("statements=\\d+; jdbc-ms=\\d+\\.\\d{2}; rows=\\d+")
+                .doesNotContain("statements=0;")
+                .doesNotContain("rows=0");
+        // max-rows=0: any request that reads a row is over the limit
+        assertThat(output).contains("SQL limits exceeded: GET /api/enrollments/student/" + student.getId() + " -> " + stats);
+    }
+}
@@ -0,0 +1,112 @@
+package com.arnav.sms.controller;
+
+import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.repository.StudentRepository;
+import com.arnav.sms.service.CourseService;
+import com.arnav.sms.service.EnrollmentService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// /export endpoints stream every row as one NDJSON line, past the persistence-context clear interval
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:export;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureMockMvc
+class ExportEndpointsTest {
+
+    // more than ExportService.CLEAR_INTERVAL, so rows are written across a clear()
+    private static final int STUDENTS = 520;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Test
+    void exportsStreamOneJsonObjectPerLine() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            Student student = new Student();
+            student.setFirstName("Export" + i);
+            student.setLastName("Student");
+            student.setEmail("export" + i + "@example.com");
+            student.setPhone("9876543210");
+            students.add(student);
+        }
+        students = studentRepository.saveAll(students);
+        Long courseId = courseService.createCourse(
+                new CourseRequestDTO("Exports", "EX101", 3, "Dr. Sen", null, null)).getId();
+        Long enrollmentId = enrollmentService.enrollStudent(
+                new EnrollmentRequestDTO(students.get(0).getId(), courseId)).getId();
+
+        List<JsonNode> studentRows = export("/api/students/export");
+        assertThat(studentRows).hasSize(STUDENTS);
+        // id order, every row complete
+        assertThat(studentRows.get(0).get("email").asText()).isEqualTo("export0@example.com");
+        assertThat(studentRows.get(STUDENTS - 1).get("email").asText()).isEqualTo("export" + (STUDENTS - 1) + "@example.com");
+        assertThat(studentRows).allSatisfy(row -> assertThat(row.get("firstName").asText()).startsWith("Export"));
+
+        List<JsonNode> courseRows = export("/api/courses/export");
+        assertThat(courseRows).hasSize(1);
+        assertThat(courseRows.get(0).get("courseCode").asText()).isEqualTo("EX101");
+
+        List<JsonNode> enrollmentRows = export("/api/enrollments/export");
+        assertThat(enrollmentRows).hasSize(1);
+        assertThat(enrollmentRows.get(0).get("id").asLong()).isEqualTo(enrollmentId);
+        assertThat(enrollmentRows.get(0).get("studentName").asText()).isEqualTo("Export0 Student");
+        assertThat(enrollmentRows.get(0).get("courseCode").asText()).isEqualTo("EX101");
+    }
+
+    // StreamingResponseBody runs after the handler returns: start, then dispatch to collect the body
+    private List<JsonNode> export(String uri) throws Exception {
+        MvcResult started = mockMvc.perform(get(uri))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        // no envelope, no pretty printing: one object per line and a trailing newline
+        assertThat(body).endsWith("\n").doesNotContain("\"success\"");
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode row = objectMapper.readTree(line);
+            assertThat(row.isObject()).isTrue();
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,132 @@
+package com.arnav.sms.dto.api;
+
+import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.exceptions.InvalidCursorException;
+import com.arnav.sms.service.CourseService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Cursor encoding, page boundaries and limit clamping, and what the /page endpoints make of them
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cursorpage;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureMockMvc
+class CursorPageTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Test
+    void cursorRoundTripsAndBlankMeansFirstPage() {
+        for (long id : new long[]{1L, 49L, Long.MAX_VALUE}) {
+            String cursor = CursorPage.encodeCursor(id);
+            // opaque and URL safe: no raw id, no padding
+            assertThat(cursor).doesNotContain(String.valueOf(id)).doesNotContain("=", "+", "/");
+            assertThat(CursorPage.decodeCursor(cursor)).isEqualTo(id);
+        }
+        assertThat(CursorPage.decodeCursor(null)).isZero();
+        assertThat(CursorPage.decodeCursor(" ")).isZero();
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        String notBase64 = "not a cursor!";
+        String wrongPrefix = Base64.getUrlEncoder().encodeToString("offset:10".getBytes(StandardCharsets.UTF_8));
+        String notANumber = Base64.getUrlEncoder().encodeToString("id:ten".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of(notBase64, wrongPrefix, notANumber)) {
+            assertThatThrownBy(() -> CursorPage.decodeCursor(cursor))
+                    .isInstanceOf(InvalidCursorException.class)
+                    .hasMessageContaining("Invalid page cursor");
+        }
+    }
+
+    @Test
+    void onlyAFullPlusOneFetchHasANextCursor() {
+        // fetched with limit + 1: the extra row is dropped and only signals another page
+        CursorPage<Long> full = CursorPage.of(new ArrayList<>(List.of(1L, 2L, 3L)), 2, id -> id);
+        assertThat(full.getItems()).containsExactly(1L, 2L);
+        assertThat(full.getSize()).isEqualTo(2);
+        assertThat(CursorPage.decodeCursor(full.getNextCursor())).isEqualTo(2L);
+
+        CursorPage<Long> last = CursorPage.of(List.of(3L, 4L), 2, id -> id);
+        assertThat(last.getItems()).containsExactly(3L, 4L);
+        assertThat(last.getNextCursor()).isNull();
+
+        assertThat(CursorPage.of(List.<Long>of(), 2, id -> id).getNextCursor()).isNull();
+    }
+
+    @Test
+    void limitIsClampedToOneToMax() {
+        assertThat(CursorPage.clampLimit(-5)).isEqualTo(1);
+        assertThat(CursorPage.clampLimit(0)).isEqualTo(1);
+        assertThat(CursorPage.clampLimit(CursorPage.DEFAULT_LIMIT)).isEqualTo(CursorPage.DEFAULT_LIMIT);
+        assertThat(CursorPage.clampLimit(CursorPage.MAX_LIMIT + 1)).isEqualTo(CursorPage.MAX_LIMIT);
+    }
+
+    @Test
+    void pageEndpointsWalkToTheLastPageAndRejectBadCursors() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (String code : List.of("PG101", "PG102", "PG103")) {
+            CourseResponseDTO course = courseService.createCourse(
+                    new CourseRequestDTO("Paging " + code, code, 3, "Dr. Bose", null, null));
+            ids.add(course.getId());
+        }
+
+        JsonNode first = page("/api/courses/page?limit=2");
+        assertThat(first.get("size").asInt()).isEqualTo(2);
+        assertThat(first.get("items").get(0).get("id").asLong()).isEqualTo(ids.get(0));
+        String next = first.get("nextCursor").asText();
+        assertThat(CursorPage.decodeCursor(next)).isEqualTo(ids.get(1));
+
+        JsonNode last = page("/api/courses/page?limit=2&after=" + next);
+        assertThat(last.get("size").asInt()).isEqualTo(1);
+        assertThat(last.get("items").get(0).get("id").asLong()).isEqualTo(ids.get(2));
+        // null fields are left out of the JSON
+        assertThat(last.has("nextCursor")).isFalse();
+
+        // out of range limits are clamped, not rejected
+        assertThat(page("/api/courses/page?limit=0").get("size").asInt()).isEqualTo(1);
+        assertThat(page("/api/courses/page?limit=100000").get("size").asInt()).isEqualTo(3);
+
+        for (String endpoint : List.of("/api/students/page", "/api/courses/page", "/api/enrollments/page")) {
+            String error = mockMvc.perform(get(endpoint).param("after", "garbage!"))
+                    .andExpect(status().isBadRequest())
+                    .andReturn().getResponse().getContentAsString();
+            assertThat(objectMapper.readTree(error).get("message").asText()).contains("Invalid page cursor");
+        }
+    }
+
+    private JsonNode page(String uri) throws Exception {
+        String body = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("data");
+    }
+}
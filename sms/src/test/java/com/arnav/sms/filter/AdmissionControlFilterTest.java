@@ -0,0 +1,59 @@
+package com.arnav.sms.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// One slot: a plain request gives it back on return, a streamed (async) one only when the stream is done
+class AdmissionControlFilterTest {
+
+    private final AdmissionControlFilter filter =
+            new AdmissionControlFilter(1, Duration.ofMillis(50), new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void syncRequestReleasesItsSlotOnReturn() throws Exception {
+        assertThat(run((request, response) -> { }).getStatus()).isEqualTo(200);
+        assertThat(run((request, response) -> { }).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void asyncRequestHoldsItsSlotUntilComplete() throws Exception {
+        MockHttpServletRequest streaming = request();
+        filter.doFilter(streaming, new MockHttpServletResponse(),
+                (request, response) -> request.startAsync());
+
+        // the handler has returned, but the export is still writing on its connection
+        MockHttpServletResponse rejected = run((request, response) -> { });
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+
+        MockAsyncContext asyncContext = (MockAsyncContext) streaming.getAsyncContext();
+        asyncContext.complete();
+        // complete again (error / timeout are followed by complete): released only once
+        asyncContext.complete();
+
+        assertThat(run((request, response) -> { }).getStatus()).isEqualTo(200);
+        MockHttpServletRequest second = request();
+        filter.doFilter(second, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+        assertThat(run((request, response) -> { }).getStatus()).isEqualTo(503);
+    }
+
+    private MockHttpServletResponse run(FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/students/export");
+        request.setAsyncSupported(true);
+        return request;
+    }
+}
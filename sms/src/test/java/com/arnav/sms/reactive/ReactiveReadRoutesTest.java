@@ -0,0 +1,111 @@
+package com.arnav.sms.reactive;
+
+import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.service.CourseService;
+import com.arnav.sms.service.EnrollmentService;
+import com.arnav.sms.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Reactive GET routes over R2DBC, reading the same in-memory database the JPA side writes to
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.reactive.enabled=true",
+        "app.reactive.port=0",
+        "app.reactive.url=r2dbc:h2:mem:///reactive?options=DB_CLOSE_DELAY=-1;MODE=MySQL"
+})
+class ReactiveReadRoutesTest {
+
+    @Autowired
+    private ReactiveReadServer reactiveReadServer;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private WebTestClient client;
+    private StudentResponseDTO student;
+    private CourseResponseDTO course;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveReadServer.getPort())
+                .build();
+
+        String suffix = String.valueOf(System.nanoTime() % 1_000_000);
+        student = studentService.createStudent(new StudentRequestDTO(
+                "Riya", "Sharma", "riya" + suffix + "@example.com", "9876543210",
+                LocalDate.of(2003, 5, 14), "Pune"));
+        course = courseService.createCourse(new CourseRequestDTO(
+                "Databases", "DB" + suffix, 4, "Dr. Rao", "Relational databases", null));
+        enrollmentService.enrollStudent(new EnrollmentRequestDTO(student.getId(), course.getId()));
+    }
+
+    @Test
+    void singleItemsKeepTheApiResponseEnvelope() {
+        client.get().uri("/api/courses/code/{code}", course.getCourseCode())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.id").isEqualTo(course.getId())
+                .jsonPath("$.data.instructor").isEqualTo("Dr. Rao");
+
+        client.get().uri("/api/students/{id}", 987654321L)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404)
+                .jsonPath("$.path").isEqualTo("/api/students/987654321");
+
+        client.get().uri("/api/students/abc")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void listsStreamAsJsonArrayOrNdjson() {
+        client.get().uri("/api/enrollments/student/{id}", student.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].studentName").isEqualTo("Riya Sharma")
+                .jsonPath("$[0].courseCode").isEqualTo(course.getCourseCode())
+                .jsonPath("$[0].status").isEqualTo("ACTIVE");
+
+        String ndjson = client.get().uri("/api/enrollments/course/{id}", course.getId())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertThat(ndjson).isNotNull();
+        assertThat(ndjson.strip().lines()).hasSize(1)
+                .allSatisfy(line -> assertThat(line).startsWith("{").contains("\"studentId\":" + student.getId()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.arnav.sms.search;
+
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.mapper.StudentMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentSearchIndexTest {
+
+    private StudentSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StudentSearchIndex(new StudentMapper());
+        index.rebuild(Stream.of(
+                student(1, "John", "Doe", "john.doe@example.com", "9876543210"),
+                student(2, "Johnny", "Walker", "jw@example.com", "9123456780"),
+                student(3, "Priya", "Sharma", "priya.s@example.com", "9988776655"),
+                student(4, "Rahul", "Johnson", "rahul@example.com", "9000000001")
+        ));
+    }
+
+    @Test
+    void exactNameRanksAbovePrefixMatches() {
+        assertThat(ids(index.search("john", 10))).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    void everyQueryTokenMustMatch() {
+        assertThat(ids(index.search("john doe", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void fuzzyMatchToleratesTypos() {
+        assertThat(ids(index.search("priay", 10))).containsExactly(3L);
+        assertThat(ids(index.search("sharam", 10))).containsExactly(3L);
+    }
+
+    @Test
+    void matchesEmailAndPhonePrefixes() {
+        assertThat(ids(index.search("jw@example.com", 10))).containsExactly(2L);
+        assertThat(ids(index.search("99887", 10))).containsExactly(3L);
+    }
+
+    @Test
+    void updatesAndRemovalsAreReflected() {
+        index.index(student(3, "Priya", "Verma", "priya.s@example.com", "9988776655"));
+        assertThat(index.search("sharma", 10)).isEmpty();
+        assertThat(ids(index.search("verma", 10))).containsExactly(3L);
+
+        index.remove(3);
+        assertThat(index.search("priya", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void commitsDuringRebuildWinOverTheStreamedSnapshot() {
+        // the snapshot was read before Priya was renamed and Rahul was deleted; both commits land mid-load
+        Stream<Student> snapshot = Stream.of(
+                student(3, "Priya", "Sharma", "priya.s@example.com", "9988776655"),
+                student(4, "Rahul", "Johnson", "rahul@example.com", "9000000001"),
+                student(5, "Meera", "Iyer", "meera@example.com", "9000000002"))
+                .peek(student -> {
+                    if (student.getId() == 3) {
+                        index.index(student(3, "Priya", "Verma", "priya.s@example.com", "9988776655"));
+                        index.remove(4);
+                    }
+                    // searches keep hitting the old index until the rebuild swaps in
+                    assertThat(ids(index.search("john doe", 10))).containsExactly(1L);
+                });
+
+        index.rebuild(snapshot);
+
+        assertThat(ids(index.search("verma", 10))).containsExactly(3L);
+        assertThat(index.search("sharma", 10)).isEmpty();
+        assertThat(index.search("rahul", 10)).isEmpty();
+        assertThat(ids(index.search("meera", 10))).containsExactly(5L);
+        // students 1 and 2 were not in the new snapshot
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static List<Long> ids(List<StudentResponseDTO> results) {
+        return results.stream().map(StudentResponseDTO::getId).toList();
+    }
+
+    private static Student student(long id, String first, String last, String email, String phone) {
+        Student student = new Student();
+        student.setId(id);
+        student.setFirstName(first);
+        student.setLastName(last);
+        student.setEmail(email);
+        student.setPhone(phone);
+        return student;
+    }
+}
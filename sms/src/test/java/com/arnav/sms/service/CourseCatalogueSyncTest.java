@@ -0,0 +1,94 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.CatalogueSyncResultDTO;
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.exceptions.CourseNotFoundException;
+import com.arnav.sms.metrics.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Catalogue sync writes only the diff and keeps seats / counters / lookups consistent
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:catalogue;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class CourseCatalogueSyncTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Test
+    void syncAppliesDiffAndIsFreeWhenNothingChanged() {
+        CourseRequestDTO kept = course("DB101", "Databases", 1);
+        CourseResponseDTO resized = courseService.createCourse(course("OS201", "Operating Systems", 1));
+        CourseResponseDTO dropped = courseService.createCourse(course("NW301", "Networks", null));
+        courseService.createCourse(kept);
+
+        Long asha = student("asha");
+        Long ravi = student("ravi");
+        enrollmentService.enrollStudent(new EnrollmentRequestDTO(asha, resized.getId()));
+        Long waiting = enrollmentService.enrollStudent(new EnrollmentRequestDTO(ravi, resized.getId())).getId();
+        enrollmentService.enrollStudent(new EnrollmentRequestDTO(ravi, dropped.getId()));
+        assertThat(enrollmentService.getEnrollmentById(waiting).getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+
+        List<CourseRequestDTO> catalogue = List.of(
+                kept,
+                course("OS201", "Operating Systems", 2),
+                course("ML401", "Machine Learning", 30));
+
+        CatalogueSyncResultDTO result = courseService.syncCatalogue(catalogue, true);
+
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(1);
+        assertThat(result.getDeleted()).isEqualTo(1);
+        assertThat(result.getDeletedCodes()).containsExactly("NW301");
+
+        // capacity 1 -> 2 promoted the waitlisted student
+        assertThat(enrollmentService.getEnrollmentById(waiting).getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        // the deleted course's enrollment is gone from the student's counters as well
+        assertThat(enrollmentService.getEnrollmentCountsByStudent(ravi)).containsEntry(EnrollmentStatus.ACTIVE, 1L);
+        assertThatThrownBy(() -> courseService.getByCourseCode("NW301")).isInstanceOf(CourseNotFoundException.class);
+        assertThat(courseService.getByCourseCode("ML401").getCapacity()).isEqualTo(30);
+        assertThat(courseService.getCourseSeats(courseService.getByCourseCode("ML401").getId()).getSeatsLeft())
+                .isEqualTo(30);
+
+        // same catalogue again: a single read, no writes
+        SqlStatementCounter.start();
+        CatalogueSyncResultDTO again = courseService.syncCatalogue(catalogue, true);
+        int statements = SqlStatementCounter.stop();
+
+        assertThat(again.getUnchanged()).isEqualTo(3);
+        assertThat(statements).isEqualTo(1);
+    }
+
+    private static CourseRequestDTO course(String code, String name, Integer capacity) {
+        return new CourseRequestDTO(name, code, 4, "Dr. Menon", null, capacity);
+    }
+
+    private Long student(String name) {
+        return studentService.createStudent(new StudentRequestDTO(
+                name, "Catalogue", name + ".catalogue@example.com", "9812345678", LocalDate.of(2002, 1, 1), null))
+                .getId();
+    }
+}
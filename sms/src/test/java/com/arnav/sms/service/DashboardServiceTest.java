@@ -0,0 +1,118 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.config.LookupCacheConfig;
+import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.CourseEnrollmentCountDTO;
+import com.arnav.sms.dto.response.DashboardSummaryDTO;
+import com.arnav.sms.dto.response.EnrollmentResponseDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.metrics.SqlStatementCounter;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Summary values from the aggregate queries, and the short-lived cache in front of them
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dashboard;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class DashboardServiceTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void summaryAggregatesAndIsCachedForItsTtl() {
+        Long asha = student("Asha");
+        Long bilal = student("Bilal");
+        Long chitra = student("Chitra");
+        Long physics = course("Physics", "DB101");
+        Long maths = course("Maths", "DB102");
+        enroll(asha, physics);
+        Long dropped = enroll(bilal, physics);
+        enroll(chitra, physics);
+        Long newest = enroll(asha, maths);
+        enrollmentService.updateStatus(dropped, EnrollmentStatus.DROPPED);
+
+        DashboardSummaryDTO summary = dashboardService.getSummary(2);
+
+        assertThat(summary.getTotalStudents()).isEqualTo(3);
+        assertThat(summary.getTotalCourses()).isEqualTo(2);
+        assertThat(summary.getTotalEnrollments()).isEqualTo(4);
+        // every status is listed, zero when there is nothing in it
+        assertThat(summary.getEnrollmentsByStatus()).containsOnly(
+                entry(EnrollmentStatus.ACTIVE, 3L), entry(EnrollmentStatus.COMPLETED, 0L),
+                entry(EnrollmentStatus.DROPPED, 1L), entry(EnrollmentStatus.WAITLISTED, 0L));
+        // COUNT(e) over every status: the dropped row still counts towards its course
+        assertThat(summary.getTopCourses())
+                .extracting(CourseEnrollmentCountDTO::getCourseCode, CourseEnrollmentCountDTO::getEnrollmentCount)
+                .containsExactly(tuple("DB101", 3L), tuple("DB102", 1L));
+        assertThat(summary.getRecentStudents()).extracting(StudentResponseDTO::getId).containsExactly(chitra, bilal);
+        assertThat(summary.getRecentEnrollments()).extracting(EnrollmentResponseDTO::getId).startsWith(newest).hasSize(2);
+        assertThat(summary.getGeneratedAt()).isNotNull();
+
+        // within the ttl: the same snapshot, no SQL, later writes not visible yet
+        student("Dev");
+        SqlStatementCounter.start();
+        DashboardSummaryDTO cached = dashboardService.getSummary(2);
+        assertThat(SqlStatementCounter.stop()).isZero();
+        assertThat(cached).isSameAs(summary);
+        assertThat(cached.getTotalStudents()).isEqualTo(3);
+
+        // each size is its own entry
+        assertThat(dashboardService.getSummary(5).getTotalStudents()).isEqualTo(4);
+
+        // entries live for the configured 15s (application.properties), then the next call recomputes
+        @SuppressWarnings("unchecked")
+        Cache<Object, Object> store = (Cache<Object, Object>) cacheManager
+                .getCache(LookupCacheConfig.DASHBOARD_SUMMARY).getNativeCache();
+        assertThat(store.policy().expireVariably().orElseThrow().getExpiresAfter(2))
+                .hasValueSatisfying(left -> assertThat(left).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(15)));
+        store.invalidate(2);
+
+        DashboardSummaryDTO recomputed = dashboardService.getSummary(2);
+        assertThat(recomputed).isNotSameAs(summary);
+        assertThat(recomputed.getTotalStudents()).isEqualTo(4);
+    }
+
+    private Long student(String firstName) {
+        StudentResponseDTO student = studentService.createStudent(new StudentRequestDTO(firstName, "Rao",
+                firstName.toLowerCase() + ".dashboard@example.com", "9876543210", LocalDate.of(2002, 5, 5), null));
+        return student.getId();
+    }
+
+    private Long course(String name, String code) {
+        return courseService.createCourse(new CourseRequestDTO(name, code, 4, "Dr. Nair", null, null)).getId();
+    }
+
+    private Long enroll(Long studentId, Long courseId) {
+        return enrollmentService.enrollStudent(new EnrollmentRequestDTO(studentId, courseId)).getId();
+    }
+}
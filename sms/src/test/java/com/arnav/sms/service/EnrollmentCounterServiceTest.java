@@ -0,0 +1,119 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.config.CacheRegionProperties;
+import com.arnav.sms.config.LookupCacheConfig;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.response.CounterReconciliationDTO;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.mapper.CourseMapper;
+import com.arnav.sms.mapper.EnrollmentMapper;
+import com.arnav.sms.mapper.StudentMapper;
+import com.arnav.sms.search.CourseSearchIndex;
+import com.arnav.sms.search.CourseSearchListener;
+import com.arnav.sms.search.StudentSearchIndex;
+import com.arnav.sms.search.StudentSearchListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Counters must follow every enrollment change, and reconcile must repair drift
+// The counter upsert is MySQL SQL (ON DUPLICATE KEY UPDATE), so run on H2 in MySQL mode
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:counters;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({EnrollmentService.class, EnrollmentMapper.class, EnrollmentCounterService.class, SeatAllocationService.class, TranscriptService.class,
+        StudentSearchListener.class, StudentSearchIndex.class, StudentMapper.class,
+        CourseSearchListener.class, CourseSearchIndex.class, CourseMapper.class,
+        LookupCacheConfig.class, CacheRegionProperties.class})
+class EnrollmentCounterServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private EnrollmentCounterService enrollmentCounterService;
+
+    private Student student;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        student = new Student();
+        student.setFirstName("Asha");
+        student.setLastName("Rao");
+        student.setEmail("asha@example.com");
+        student.setPhone("9876543210");
+        entityManager.persist(student);
+
+        course = new Course();
+        course.setCourseName("Databases");
+        course.setCourseCode("CS301");
+        course.setCredits(4);
+        entityManager.persist(course);
+    }
+
+    @Test
+    void countersFollowEnrollStatusChangeAndDelete() {
+        Long enrollmentId = enrollmentService.enrollStudent(request(student, course)).getId();
+        assertThat(enrollmentService.getEnrollmentCountsByStudent(student.getId()))
+                .containsEntry(EnrollmentStatus.ACTIVE, 1L);
+        assertThat(enrollmentService.countEnrollmentsByCourse(course.getId())).isEqualTo(1L);
+
+        enrollmentService.updateStatus(enrollmentId, EnrollmentStatus.COMPLETED);
+        assertThat(enrollmentService.getEnrollmentCountsByCourse(course.getId()))
+                .containsEntry(EnrollmentStatus.ACTIVE, 0L)
+                .containsEntry(EnrollmentStatus.COMPLETED, 1L);
+
+        enrollmentService.deleteEnrollment(enrollmentId);
+        assertThat(enrollmentService.countEnrollmentsByStudent(student.getId())).isZero();
+        assertThat(enrollmentService.countEnrollmentsByCourse(course.getId())).isZero();
+    }
+
+    @Test
+    void bulkEnrollCountsOnlySavedItems() {
+        enrollmentService.bulkEnroll(List.of(request(student, course), request(student, course)));
+
+        assertThat(enrollmentService.countEnrollmentsByStudent(student.getId())).isEqualTo(1L);
+        assertThat(enrollmentService.countEnrollmentsByCourse(course.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    void reconcileRepairsDrift() {
+        enrollmentService.enrollStudent(request(student, course));
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE enrollment_counters SET enrollment_count = 7 WHERE owner_type = 'STUDENT'")
+                .executeUpdate();
+
+        CounterReconciliationDTO result = enrollmentCounterService.reconcile();
+
+        assertThat(result.getMismatchesFixed()).isEqualTo(1);
+        Map<EnrollmentStatus, Long> counts = enrollmentService.getEnrollmentCountsByStudent(student.getId());
+        assertThat(counts).containsEntry(EnrollmentStatus.ACTIVE, 1L);
+        assertThat(enrollmentCounterService.reconcile().getMismatchesFixed()).isZero();
+    }
+
+    private static EnrollmentRequestDTO request(Student student, Course course) {
+        EnrollmentRequestDTO request = new EnrollmentRequestDTO();
+        request.setStudentId(student.getId());
+        request.setCourseId(course.getId());
+        return request;
+    }
+}
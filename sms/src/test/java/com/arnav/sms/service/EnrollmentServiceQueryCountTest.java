@@ -0,0 +1,234 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.config.CacheRegionProperties;
+import com.arnav.sms.config.LookupCacheConfig;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.request.GradeBatchRequestDTO;
+import com.arnav.sms.dto.response.BulkEnrollmentResultDTO;
+import com.arnav.sms.dto.response.EnrollmentResponseDTO;
+import com.arnav.sms.dto.response.GradeBatchResultDTO;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.Enrollment;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.mapper.CourseMapper;
+import com.arnav.sms.mapper.EnrollmentMapper;
+import com.arnav.sms.mapper.StudentMapper;
+import com.arnav.sms.search.CourseSearchIndex;
+import com.arnav.sms.search.CourseSearchListener;
+import com.arnav.sms.search.StudentSearchIndex;
+import com.arnav.sms.search.StudentSearchListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Listing endpoints must cost the same number of statements whether there are 3 or 30 enrollments,
+// and bulk enrollment / posting a course's grades must not cost a statement per enrollment
+@DataJpaTest(properties = {
+        // MySQL mode: bulk enroll's counter upsert is INSERT .. ON DUPLICATE KEY UPDATE
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({EnrollmentService.class, EnrollmentMapper.class, EnrollmentCounterService.class, SeatAllocationService.class, TranscriptService.class,
+        StudentSearchListener.class, StudentSearchIndex.class, StudentMapper.class,
+        CourseSearchListener.class, CourseSearchIndex.class, CourseMapper.class,
+        LookupCacheConfig.class, CacheRegionProperties.class})
+class EnrollmentServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getAllEnrollmentsRunsConstantStatements() {
+        seed(3, 0);
+        long small = countStatements(() -> enrollmentService.getAllEnrollments());
+
+        seed(30, 3);
+        long large = countStatements(() -> enrollmentService.getAllEnrollments());
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void getEnrollmentsByStatusRunsConstantStatements() {
+        seed(3, 0);
+        long small = countStatements(() -> enrollmentService.getEnrollmentsByStatus(EnrollmentStatus.ACTIVE));
+
+        seed(30, 3);
+        long large = countStatements(() -> enrollmentService.getEnrollmentsByStatus(EnrollmentStatus.ACTIVE));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void getEnrollmentsByCourseRunsConstantStatements() {
+        Course course = seed(3, 0);
+        long small = countStatements(() -> enrollmentService.getEnrollmentsByCourse(course.getId()));
+
+        Course bigCourse = seed(30, 3);
+        long large = countStatements(() -> enrollmentService.getEnrollmentsByCourse(bigCourse.getId()));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void projectedRowsCarryStudentAndCourseDetails() {
+        Course course = seed(1, 0);
+
+        List<EnrollmentResponseDTO> rows = enrollmentService.getEnrollmentsByCourse(course.getId());
+
+        assertThat(rows).hasSize(1);
+        EnrollmentResponseDTO row = rows.get(0);
+        assertThat(row.getStudentName()).isEqualTo("First0 Last0");
+        assertThat(row.getCourseName()).isEqualTo(course.getCourseName());
+        assertThat(row.getCourseCode()).isEqualTo(course.getCourseCode());
+        assertThat(row.getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+    }
+
+    @Test
+    void postingGradesForWholeCourseIsOneBatchedUpdate() {
+        Course course = seed(120, 0);
+        Map<Long, String> grades = new HashMap<>();
+        enrollments(course).forEach(enrollment -> grades.put(enrollment.getStudent().getId(), "A"));
+        grades.put(-1L, "B");
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        GradeBatchResultDTO result = enrollmentService.updateGrades(
+                course.getId(), new GradeBatchRequestDTO(GradeBatchRequestDTO.KeyType.STUDENT, grades));
+
+        // course check + enrollments read + the UPDATE (prepared once, executed as JDBC batches)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(result.getUpdated()).isEqualTo(120);
+        assertThat(result.getNotFound()).containsExactly(-1L);
+
+        entityManager.clear();
+        // every row went through the version check and was bumped
+        assertThat(enrollments(course)).allSatisfy(enrollment -> {
+            assertThat(enrollment.getGrade()).isEqualTo("A");
+            assertThat(enrollment.getVersion()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void bulkEnrollReadsSetBasedAndBatchesTheInserts() {
+        Course course = seed(0, 500);
+        List<EnrollmentRequestDTO> requests = new ArrayList<>();
+        List<Long> studentIds = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Student student = new Student();
+            student.setFirstName("Bulk" + i);
+            student.setLastName("Student");
+            student.setEmail("bulk_" + i + "@example.com");
+            student.setPhone("9876543210");
+            entityManager.persist(student);
+            studentIds.add(student.getId());
+            requests.add(new EnrollmentRequestDTO(student.getId(), course.getId()));
+        }
+        requests.add(new EnrollmentRequestDTO(studentIds.get(0), course.getId()));
+        requests.add(new EnrollmentRequestDTO(-1L, course.getId()));
+        requests.add(new EnrollmentRequestDTO(studentIds.get(1), null));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<BulkEnrollmentResultDTO> results = enrollmentService.bulkEnroll(requests);
+        entityManager.flush();
+
+        // students IN + courses IN + existing pairs, the INSERT prepared once and sent as JDBC batches,
+        // then one counter upsert per distinct student and course (EnrollmentCounterService.enrolledAll)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3 + 1 + 120 + 1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+
+        assertThat(results.subList(0, 120)).allSatisfy(result -> {
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getEnrollmentId()).isNotNull();
+        });
+        assertThat(results.subList(120, 123)).extracting(BulkEnrollmentResultDTO::getMessage).containsExactly(
+                "Student is already enrolled in this course",
+                "Student not found with ID: -1",
+                "Student ID and Course ID are required");
+        assertThat(enrollments(course)).hasSize(120);
+    }
+
+    // Runs the call on a cleared persistence context and returns the number of JDBC statements it prepared
+    private long countStatements(Supplier<List<EnrollmentResponseDTO>> call) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<EnrollmentResponseDTO> result = call.get();
+        assertThat(result).isNotEmpty();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Enrollment> enrollments(Course course) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT e FROM Enrollment e WHERE e.course.id = ?1", Enrollment.class)
+                .setParameter(1, course.getId())
+                .getResultList();
+    }
+
+    // One course with `size` enrolled students; `offset` keeps emails and codes unique across calls
+    private Course seed(int size, int offset) {
+        Course course = new Course();
+        course.setCourseName("Course " + offset);
+        course.setCourseCode("CS" + (100 + offset));
+        course.setCredits(4);
+        course.setInstructor("Dr. Smith");
+        entityManager.persist(course);
+
+        for (int i = 0; i < size; i++) {
+            Student student = new Student();
+            student.setFirstName("First" + i);
+            student.setLastName("Last" + i);
+            student.setEmail("student" + offset + "_" + i + "@example.com");
+            student.setPhone("9876543210");
+            entityManager.persist(student);
+
+            Enrollment enrollment = new Enrollment();
+            enrollment.setStudent(student);
+            enrollment.setCourse(course);
+            enrollment.setEnrollmentDate(LocalDate.now());
+            enrollment.setStatus(EnrollmentStatus.ACTIVE);
+            entityManager.persist(enrollment);
+        }
+        return course;
+    }
+}
@@ -0,0 +1,146 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.request.StatusTransitionRequestDTO;
+import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.CourseResponseDTO;
+import com.arnav.sms.dto.response.StatusTransitionResultDTO;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.exceptions.InvalidStatusTransitionException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Chunked bulk transitions keep counters and seats right, and re-running / resuming is safe
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transitions;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // small chunks so a handful of rows spans several transactions
+        "app.enrollments.transition-chunk-size=2"
+})
+class EnrollmentStatusTransitionServiceTest {
+
+    @Autowired
+    private EnrollmentStatusTransitionService transitionService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private StudentService studentService;
+
+    private int students;
+
+    @Test
+    void completesCourseInChunksAndResumes() {
+        Long courseId = course("CL101", null);
+        Long otherCourseId = course("CL102", null);
+        List<Long> enrollments = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            enrollments.add(enroll(student(), courseId));
+        }
+        Long other = enroll(student(), otherCourseId);
+
+        // pretend an earlier run stopped after the first two rows
+        StatusTransitionResultDTO result = transitionService.transition(new StatusTransitionRequestDTO(
+                EnrollmentStatus.ACTIVE, EnrollmentStatus.COMPLETED, courseId, null, null, null, enrollments.get(1)));
+
+        assertThat(result.getUpdated()).isEqualTo(3);
+        assertThat(result.getChunks()).isEqualTo(2);
+        assertThat(result.getLastEnrollmentId()).isEqualTo(enrollments.get(4));
+
+        // the same request without a cursor picks up the rest; a third run finds nothing left
+        assertThat(transitionService.transition(new StatusTransitionRequestDTO(
+                EnrollmentStatus.ACTIVE, EnrollmentStatus.COMPLETED, courseId, null, null, null, null))
+                .getUpdated()).isEqualTo(2);
+        assertThat(transitionService.transition(new StatusTransitionRequestDTO(
+                EnrollmentStatus.ACTIVE, EnrollmentStatus.COMPLETED, courseId, null, null, null, null))
+                .getUpdated()).isZero();
+
+        assertThat(enrollmentService.getEnrollmentCountsByCourse(courseId))
+                .containsEntry(EnrollmentStatus.ACTIVE, 0L)
+                .containsEntry(EnrollmentStatus.COMPLETED, 5L);
+        // other course untouched
+        assertThat(enrollmentService.getEnrollmentById(other).getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+    }
+
+    @Test
+    void droppingFreesSeatsForTheWaitlistOnly() {
+        Long courseId = course("CL201", 2);
+        Long first = enroll(student(), courseId);
+        Long second = enroll(student(), courseId);
+        Long waiting = enroll(student(), courseId);
+        assertThat(enrollmentService.getEnrollmentById(waiting).getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+
+        StatusTransitionResultDTO result = transitionService.transition(new StatusTransitionRequestDTO(
+                EnrollmentStatus.ACTIVE, EnrollmentStatus.DROPPED, courseId, null, null, null, null));
+
+        // the promoted student is ACTIVE now but was not swept up by the same run
+        assertThat(result.getUpdated()).isEqualTo(2);
+        assertThat(result.getPromoted()).isEqualTo(1);
+        assertThat(enrollmentService.getEnrollmentById(first).getStatus()).isEqualTo(EnrollmentStatus.DROPPED);
+        assertThat(enrollmentService.getEnrollmentById(second).getStatus()).isEqualTo(EnrollmentStatus.DROPPED);
+        assertThat(enrollmentService.getEnrollmentById(waiting).getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        assertThat(enrollmentService.getEnrollmentCountsByCourse(courseId))
+                .containsEntry(EnrollmentStatus.ACTIVE, 1L)
+                .containsEntry(EnrollmentStatus.DROPPED, 2L)
+                .containsEntry(EnrollmentStatus.WAITLISTED, 0L);
+        assertThat(courseService.getCourseSeats(courseId).getSeatsLeft()).isEqualTo(1);
+    }
+
+    @Test
+    void transitionsNeedingSeatsAreRejected() {
+        assertThatThrownBy(() -> transitionService.transition(new StatusTransitionRequestDTO(
+                EnrollmentStatus.WAITLISTED, EnrollmentStatus.ACTIVE, null, null, null, null, null)))
+                .isInstanceOf(InvalidStatusTransitionException.class);
+    }
+
+    @Test
+    void bulkWaitlistingIsRejectedAndChangesNothing() {
+        Long courseId = course("CL301", 2);
+        Long first = enroll(student(), courseId);
+        Long second = enroll(student(), courseId);
+
+        // releasing the demoted rows' seats would promote those same rows straight back
+        assertThatThrownBy(() -> transitionService.transition(new StatusTransitionRequestDTO(
+                EnrollmentStatus.ACTIVE, EnrollmentStatus.WAITLISTED, courseId, null, null, null, null)))
+                .isInstanceOf(InvalidStatusTransitionException.class);
+
+        assertThat(enrollmentService.getEnrollmentById(first).getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        assertThat(enrollmentService.getEnrollmentById(second).getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        assertThat(enrollmentService.getEnrollmentCountsByCourse(courseId))
+                .containsEntry(EnrollmentStatus.ACTIVE, 2L);
+        assertThat(courseService.getCourseSeats(courseId).getSeatsLeft()).isZero();
+    }
+
+    private Long course(String code, Integer capacity) {
+        CourseResponseDTO course = courseService.createCourse(
+                new CourseRequestDTO("Course " + code, code, 3, "Dr. Nair", null, capacity));
+        return course.getId();
+    }
+
+    private Long student() {
+        students++;
+        return studentService.createStudent(new StudentRequestDTO("Student", "Number" + students,
+                "transition" + students + "." + System.nanoTime() + "@example.com", "9812345678",
+                LocalDate.of(2002, 1, 1), null)).getId();
+    }
+
+    private Long enroll(Long studentId, Long courseId) {
+        return enrollmentService.enrollStudent(new EnrollmentRequestDTO(studentId, courseId)).getId();
+    }
+}
@@ -0,0 +1,141 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.config.CacheRegionProperties;
+import com.arnav.sms.config.LookupCacheConfig;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.entity.Course;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.entity.Student;
+import com.arnav.sms.exceptions.CourseFullException;
+import com.arnav.sms.exceptions.InvalidStatusTransitionException;
+import com.arnav.sms.mapper.CourseMapper;
+import com.arnav.sms.mapper.EnrollmentMapper;
+import com.arnav.sms.mapper.StudentMapper;
+import com.arnav.sms.search.CourseSearchIndex;
+import com.arnav.sms.search.CourseSearchListener;
+import com.arnav.sms.search.StudentSearchIndex;
+import com.arnav.sms.search.StudentSearchListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Waitlist + promotion rules of the seat engine (concurrency is covered by benchmark/SeatAllocationLoadTest)
+@DataJpaTest(properties = {
+        "spring.test.database.replace=none",
+        "spring.datasource.url=jdbc:h2:mem:seats;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({EnrollmentService.class, EnrollmentMapper.class, EnrollmentCounterService.class, SeatAllocationService.class, TranscriptService.class,
+        StudentSearchListener.class, StudentSearchIndex.class, StudentMapper.class,
+        CourseSearchListener.class, CourseSearchIndex.class, CourseMapper.class,
+        LookupCacheConfig.class, CacheRegionProperties.class})
+class SeatAllocationServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private SeatAllocationService seatAllocationService;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        course = new Course();
+        course.setCourseName("Operating Systems");
+        course.setCourseCode("CS310");
+        course.setCredits(4);
+        course.setCapacity(1);
+        entityManager.persist(course);
+        seatAllocationService.capacityChanged(course, null);
+    }
+
+    @Test
+    void fullCourseWaitlistsAndDropPromotesOldestWaiting() {
+        Long first = enrollmentService.enrollStudent(request(student("a"))).getId();
+        Long second = enrollmentService.enrollStudent(request(student("b"))).getId();
+        Long third = enrollmentService.enrollStudent(request(student("c"))).getId();
+
+        assertThat(enrollmentService.getEnrollmentById(first).getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        assertThat(enrollmentService.getEnrollmentById(second).getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+
+        enrollmentService.updateStatus(first, EnrollmentStatus.DROPPED);
+
+        assertThat(enrollmentService.getEnrollmentById(second).getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        assertThat(enrollmentService.getEnrollmentById(third).getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+        assertThat(enrollmentService.getEnrollmentCountsByCourse(course.getId()))
+                .containsEntry(EnrollmentStatus.ACTIVE, 1L)
+                .containsEntry(EnrollmentStatus.WAITLISTED, 1L)
+                .containsEntry(EnrollmentStatus.DROPPED, 1L);
+        // the freed seat went to the waitlist, not back to the pool
+        assertThat(seatAllocationService.getSeats(course).getSeatsLeft()).isZero();
+        assertThatThrownBy(() -> enrollmentService.updateStatus(third, EnrollmentStatus.ACTIVE))
+                .isInstanceOf(CourseFullException.class);
+    }
+
+    @Test
+    void activeEnrollmentCannotBeMovedOntoTheWaitlist() {
+        Long first = enrollmentService.enrollStudent(request(student("a"))).getId();
+        Long waiting = enrollmentService.enrollStudent(request(student("b"))).getId();
+
+        // releasing the seat would promote the lowest-id waitlisted row - the demoted one itself
+        assertThatThrownBy(() -> enrollmentService.updateStatus(first, EnrollmentStatus.WAITLISTED))
+                .isInstanceOf(InvalidStatusTransitionException.class);
+
+        assertThat(enrollmentService.getEnrollmentById(first).getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        assertThat(enrollmentService.getEnrollmentById(waiting).getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+        assertThat(enrollmentService.getEnrollmentCountsByCourse(course.getId()))
+                .containsEntry(EnrollmentStatus.ACTIVE, 1L)
+                .containsEntry(EnrollmentStatus.WAITLISTED, 1L);
+        assertThat(seatAllocationService.getSeats(course).getSeatsLeft()).isZero();
+    }
+
+    @Test
+    void capacityCutBelowHeldSeatsIsPaidOffBeforePromoting() {
+        course.setCapacity(2);
+        seatAllocationService.capacityChanged(course, 1);
+        Long first = enrollmentService.enrollStudent(request(student("a"))).getId();
+        enrollmentService.enrollStudent(request(student("b")));
+        Long waiting = enrollmentService.enrollStudent(request(student("c"))).getId();
+
+        course.setCapacity(1);
+        seatAllocationService.capacityChanged(course, 2);
+        enrollmentService.updateStatus(first, EnrollmentStatus.DROPPED);
+
+        // one seat held, capacity 1: the waitlisted student stays waiting
+        assertThat(enrollmentService.getEnrollmentById(waiting).getStatus()).isEqualTo(EnrollmentStatus.WAITLISTED);
+
+        course.setCapacity(3);
+        seatAllocationService.capacityChanged(course, 1);
+        assertThat(enrollmentService.getEnrollmentById(waiting).getStatus()).isEqualTo(EnrollmentStatus.ACTIVE);
+        assertThat(seatAllocationService.getSeats(course).getSeatsLeft()).isEqualTo(1);
+    }
+
+    private Student student(String name) {
+        Student student = new Student();
+        student.setFirstName(name);
+        student.setLastName("Test");
+        student.setEmail(name + "@example.com");
+        student.setPhone("9876543210");
+        return entityManager.persist(student);
+    }
+
+    private EnrollmentRequestDTO request(Student student) {
+        EnrollmentRequestDTO request = new EnrollmentRequestDTO();
+        request.setStudentId(student.getId());
+        request.setCourseId(course.getId());
+        return request;
+    }
+}
@@ -0,0 +1,143 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.StudentResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// CSV / NDJSON import end to end: good rows land (search + email lookup), bad rows are reported per row
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:student-import;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureMockMvc
+class StudentImportServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Test
+    void csvImportInsertsUpdatesAndReportsBadRows() throws Exception {
+        studentService.createStudent(new StudentRequestDTO(
+                "Old", "Name", "existing.import@example.com", "9000000000", LocalDate.of(2001, 1, 1), "Pune"));
+        // negative lookup cached before the import - must not hide the imported student
+        assertThat(lookup("zoya.import@example.com")).isEqualTo(404);
+
+        String csv = """
+                FirstName,lastName,email,phone,dateOfBirth,address
+                Zoya,Khan,zoya.import@example.com,9811111111,2003-04-05,Lucknow
+                Vikram,Rao,existing.import@example.com,9822222222,2000-02-02,Chennai
+                X,Short,short.import@example.com,9833333333,2002-02-02,
+                Ira,Dup,ZOYA.import@example.com,9844444444,2002-02-02,
+                Dev,Bad,dev.import@example.com,9855555555,not-a-date,
+                Anya,NoPhone,anya.import@example.com,,2002-02-02,
+                """;
+
+        JsonNode job = waitFor(startImport("text/csv", csv, true));
+
+        assertThat(job.path("status").asText()).isEqualTo("COMPLETED");
+        assertThat(job.path("rowsRead").asLong()).isEqualTo(6);
+        assertThat(job.path("inserted").asLong()).isEqualTo(1);
+        assertThat(job.path("updated").asLong()).isEqualTo(1);
+        assertThat(job.path("failed").asLong()).isEqualTo(4);
+
+        JsonNode errors = objectMapper.readTree(mockMvc.perform(
+                        get("/api/students/import/{jobId}/errors", job.path("jobId").asText()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).path("data");
+        assertThat(errors).hasSize(4);
+        assertThat(errors.get(0).path("row").asLong()).isEqualTo(3);
+        assertThat(errors.get(0).path("message").asText()).startsWith("firstName:");
+        assertThat(errors.get(1).path("message").asText()).isEqualTo("Duplicate email in file");
+        assertThat(errors.get(2).path("message").asText()).startsWith("Unreadable row");
+        // NOT NULL phone fails in the database: the chunk is retried row by row, only this row is lost
+        assertThat(errors.get(3).path("email").asText()).isEqualTo("anya.import@example.com");
+        assertThat(errors.get(3).path("message").asText()).startsWith("Could not save");
+
+        assertThat(lookup("zoya.import@example.com")).isEqualTo(200);
+        assertThat(studentService.getStudentByEmail("existing.import@example.com").getFirstName()).isEqualTo("Vikram");
+        assertThat(studentService.searchStudents("zoya", 10))
+                .extracting(StudentResponseDTO::getEmail)
+                .containsExactly("zoya.import@example.com");
+    }
+
+    @Test
+    void ndjsonImportCanRejectExistingEmails() throws Exception {
+        studentService.createStudent(new StudentRequestDTO(
+                "Meher", "Gill", "meher.import@example.com", "9866666666", LocalDate.of(2001, 6, 1), "Amritsar"));
+
+        String ndjson = """
+                {"firstName":"Meher","lastName":"Kaur","email":"meher.import@example.com","phone":"9877777777"}
+                {"firstName":"Tara","lastName":"Bose","email":"tara.import@example.com","phone":"9888888888"}
+                """;
+
+        JsonNode job = waitFor(startImport("application/x-ndjson", ndjson, false));
+
+        assertThat(job.path("status").asText()).isEqualTo("COMPLETED");
+        assertThat(job.path("inserted").asLong()).isEqualTo(1);
+        assertThat(job.path("updated").asLong()).isZero();
+        assertThat(job.path("failed").asLong()).isEqualTo(1);
+        assertThat(studentService.getStudentByEmail("meher.import@example.com").getLastName()).isEqualTo("Gill");
+    }
+
+    @Test
+    void unsupportedFormatAndUnknownJobAreRejected() throws Exception {
+        mockMvc.perform(post("/api/students/import").contentType("application/json").content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+        mockMvc.perform(post("/api/students/import").contentType("text/csv").content(""))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/students/import/{jobId}", "no-such-job"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    private String startImport(String contentType, String body, boolean updateExisting) throws Exception {
+        String response = mockMvc.perform(post("/api/students/import")
+                        .param("updateExisting", String.valueOf(updateExisting))
+                        .contentType(contentType)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).path("data").path("jobId").asText();
+    }
+
+    private JsonNode waitFor(String jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            JsonNode job = objectMapper.readTree(mockMvc.perform(get("/api/students/import/{jobId}", jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString()).path("data");
+            String state = job.path("status").asText();
+            if (state.equals("COMPLETED") || state.equals("FAILED") || System.currentTimeMillis() > deadline) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private int lookup(String email) throws Exception {
+        return mockMvc.perform(get("/api/students/email/{email}", email)).andReturn().getResponse().getStatus();
+    }
+}
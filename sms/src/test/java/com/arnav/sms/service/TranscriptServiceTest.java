@@ -0,0 +1,96 @@
+package com.arnav.sms.service;
+
+import com.arnav.sms.dto.request.CourseRequestDTO;
+import com.arnav.sms.dto.request.EnrollmentRequestDTO;
+import com.arnav.sms.dto.request.StudentRequestDTO;
+import com.arnav.sms.dto.response.GpaSummaryDTO;
+import com.arnav.sms.dto.response.TranscriptDTO;
+import com.arnav.sms.entity.EnrollmentStatus;
+import com.arnav.sms.exceptions.StudentNotFoundException;
+import com.arnav.sms.metrics.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Credit-weighted GPA, cached transcripts that drop out on grade changes, and the parallel cohort mode
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transcript;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class TranscriptServiceTest {
+
+    @Autowired
+    private TranscriptService transcriptService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Test
+    void transcriptWeighsGradesByCreditsAndIsRecomputedAfterGradeChange() {
+        Long studentId = studentService.createStudent(new StudentRequestDTO(
+                "Meera", "Iyer", "meera.transcript@example.com", "9812345678", LocalDate.of(2002, 1, 1), null))
+                .getId();
+        enroll(studentId, "TR101", 4, "A");
+        enroll(studentId, "TR102", 3, "b+");
+        Long failed = enroll(studentId, "TR103", 2, "F");
+        Long dropped = enroll(studentId, "TR104", 4, "A");
+        enrollmentService.updateStatus(dropped, EnrollmentStatus.DROPPED);
+        enroll(studentId, "TR105", 3, "I");
+
+        TranscriptDTO transcript = transcriptService.getTranscript(studentId);
+
+        // (4 x 4.0 + 3 x 3.3 + 2 x 0) / 9 = 2.877..; the dropped course is not on the transcript
+        assertThat(transcript.getStudentName()).isEqualTo("Meera Iyer");
+        assertThat(transcript.getCourses()).hasSize(4);
+        assertThat(transcript.getSummary().getGpa()).isEqualTo(2.88);
+        assertThat(transcript.getSummary().getGradedCourses()).isEqualTo(3);
+        assertThat(transcript.getSummary().getCreditsAttempted()).isEqualTo(9);
+        assertThat(transcript.getSummary().getCreditsEarned()).isEqualTo(7);
+        // "I" is not on the scale: listed, but reported instead of counted
+        assertThat(transcript.getSummary().getUnrecognizedGrades()).isEqualTo(1);
+
+        // second read comes from the cache
+        SqlStatementCounter.start();
+        transcriptService.getTranscript(studentId);
+        assertThat(SqlStatementCounter.stop()).isZero();
+
+        enrollmentService.updateGrade(failed, "A");
+
+        // (4 x 4.0 + 3 x 3.3 + 2 x 4.0) / 9 = 3.766..
+        GpaSummaryDTO summary = transcriptService.getTranscript(studentId).getSummary();
+        assertThat(summary.getGpa()).isEqualTo(3.77);
+        assertThat(summary.getCreditsEarned()).isEqualTo(9);
+
+        assertThat(transcriptService.getCohortGpa())
+                .filteredOn(cohort -> cohort.getStudentId().equals(studentId))
+                .containsExactly(summary);
+    }
+
+    @Test
+    void unknownStudentHasNoTranscript() {
+        assertThatThrownBy(() -> transcriptService.getTranscript(999_999L))
+                .isInstanceOf(StudentNotFoundException.class);
+    }
+
+    private Long enroll(Long studentId, String code, int credits, String grade) {
+        Long courseId = courseService.createCourse(new CourseRequestDTO(
+                "Course " + code, code, credits, "Dr. Rao", null, null)).getId();
+        Long enrollmentId = enrollmentService.enrollStudent(new EnrollmentRequestDTO(studentId, courseId)).getId();
+        enrollmentService.updateGrade(enrollmentId, grade);
+        return enrollmentId;
+    }
+}